@@ -0,0 +1,97 @@
+/********************************************************************
+ * File Name:    AutoCloseableResourceBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks an {@link AbstractAutoCloseableResource} in try-with-resource against hand-written try/finally closing the same
+ * resource. With escape analysis, and leak detection off, the wrapper should be scalar replaced, see {@link WrapperBenchmarkRunner}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AutoCloseableResourceBenchmark
+{
+  @Benchmark
+  public long raw()
+  {
+    final Counter counter = this.counter;
+    try
+    {
+      return counter.increment();
+    }
+    finally
+    {
+      counter.close();
+    }
+  }
+
+  @Benchmark
+  public long wrapped()
+  {
+    try(final CounterResource counterResource = new CounterResource(this.counter))
+    {
+      return counterResource.get().increment();
+    }
+  }
+
+  // Private members
+  private final Counter counter = new Counter();
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * Stand-in for a resource which does not implement {@link AutoCloseable}.
+   */
+  private static final class Counter
+  {
+    private long increment()
+    {
+      return ++this.value;
+    }
+
+    private void close()
+    {
+      this.nCloses++;
+    }
+
+    // Private members
+    private long value;
+    private long nCloses;
+  }
+
+  private static final class CounterResource extends AbstractAutoCloseableResource<Counter>
+  {
+    private CounterResource(final Counter counter)
+    {
+      super(counter);
+    }
+
+    @Override
+    protected void doClose()
+    {
+      this.get().close();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/********************************************************************
+ * File Name:    ResourceHolderBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a {@link ResourceHolder} created per operation against using the resource directly. With escape analysis the holder
+ * should be scalar replaced i.e. <code>-prof gc</code> should report the same allocation for both, see {@link WrapperBenchmarkRunner}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResourceHolderBenchmark
+{
+  @Benchmark
+  public int raw()
+  {
+    return this.resource.length();
+  }
+
+  @Benchmark
+  public int wrapped()
+  {
+    final ResourceHolder<String> holder = new ResourceHolder<>(this.resource);
+
+    return holder.get().length();
+  }
+
+  // Private members
+  private String resource = "resource";
+}
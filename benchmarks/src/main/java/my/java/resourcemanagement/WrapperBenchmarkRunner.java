@@ -0,0 +1,128 @@
+/********************************************************************
+ * File Name:    WrapperBenchmarkRunner.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the wrapper benchmarks twice with the GC profiler, once with escape analysis and once with <code>-XX:-DoEscapeAnalysis</code>,
+ * and prints the time and the allocation per operation of both runs.
+ * <p>
+ * The benchmarks named <code>wrapped*</code> are checked against their <code>raw*</code> counterpart in the same class: with escape
+ * analysis a wrapped benchmark must not allocate more than its raw counterpart i.e. the wrapper must be scalar replaced. If a wrapper
+ * is not scalar replaced the runner exits with status 1, so that it can be used as a regression check.
+ * <pre>
+ * <b>Example:</b>
+ *     java -cp target/benchmarks.jar my.java.resourcemanagement.WrapperBenchmarkRunner -wi 3 -i 3
+ * </pre>
+ */
+public final class WrapperBenchmarkRunner
+{
+  public static void main(final String[] args) throws RunnerException, CommandLineOptionException
+  {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    final Map<String, RunResult> withEscapeAnalysis    = run(commandLineOptions);
+    final Map<String, RunResult> withoutEscapeAnalysis = run(commandLineOptions, "-XX:-DoEscapeAnalysis");
+
+    System.out.println();
+    System.out.println(String.format("%-70s %12s %12s %12s %12s  %s", "Benchmark", "ns/op EA", "ns/op no EA", "B/op EA", "B/op no EA", "Check"));
+
+    boolean allScalarReplaced = true;
+    for (final Map.Entry<String, RunResult> entry : withEscapeAnalysis.entrySet())
+    {
+      final String    benchmark       = entry.getKey();
+      final RunResult result          = entry.getValue();
+      final RunResult resultWithoutEA = withoutEscapeAnalysis.get(benchmark);
+      final String    rawBenchmark    = toRawBenchmark(benchmark);
+
+      String check = "";
+      if (null != rawBenchmark && withEscapeAnalysis.containsKey(rawBenchmark))
+      {
+        final RunResult rawResult      = withEscapeAnalysis.get(rawBenchmark);
+        final boolean   scalarReplaced = getAllocation(result) <= getAllocation(rawResult) + ALLOCATION_TOLERANCE;
+
+        check              = scalarReplaced ? "scalar replaced" : "ALLOCATES";
+        allScalarReplaced &= scalarReplaced;
+      }
+
+      System.out.println(String.format("%-70s %12.2f %12.2f %12.2f %12.2f  %s", benchmark,
+                                       result.getPrimaryResult().getScore(), null == resultWithoutEA ? Double.NaN : resultWithoutEA.getPrimaryResult().getScore(),
+                                       getAllocation(result), null == resultWithoutEA ? Double.NaN : getAllocation(resultWithoutEA), check));
+    }
+
+    if ( ! allScalarReplaced )
+    {
+      System.exit(1);
+    }
+  }
+
+  // Private methods
+  private static Map<String, RunResult> run(final CommandLineOptions commandLineOptions, final String... jvmArgs) throws RunnerException
+  {
+    final OptionsBuilder optionsBuilder = new OptionsBuilder();
+    optionsBuilder.parent(commandLineOptions);
+    if (commandLineOptions.getIncludes().isEmpty())
+    {
+      optionsBuilder.include(DEFAULT_INCLUDE);
+    }
+
+    optionsBuilder.addProfiler(GCProfiler.class)
+                  .jvmArgsAppend(jvmArgs);
+
+    final Collection<RunResult> runResults = new Runner(optionsBuilder.build()).run();
+
+    final Map<String, RunResult> resultsByBenchmark = new TreeMap<>();
+    for (final RunResult runResult : runResults)
+    {
+      resultsByBenchmark.put(runResult.getParams().getBenchmark(), runResult);
+    }
+
+    return resultsByBenchmark;
+  }
+
+  private static double getAllocation(final RunResult runResult)
+  {
+    for (final Map.Entry<String, Result> entry : runResult.getSecondaryResults().entrySet())
+    {
+      if (entry.getKey().endsWith(ALLOCATION_RESULT))
+      {
+        return entry.getValue().getScore();
+      }
+    }
+
+    return Double.NaN;
+  }
+
+  private static String toRawBenchmark(final String benchmark)
+  {
+    final int    methodStart = benchmark.lastIndexOf('.') + 1;
+    final String method      = benchmark.substring(methodStart);
+
+    return method.startsWith(WRAPPED_PREFIX) ? benchmark.substring(0, methodStart) + "raw" + method.substring(WRAPPED_PREFIX.length()) : null;
+  }
+
+  // Private members
+  private static final String DEFAULT_INCLUDE      = "(ResourceHolderBenchmark|AutoCloseableResourceBenchmark|AutoCloseableContextBenchmark)";
+  private static final String ALLOCATION_RESULT    = "gc.alloc.rate.norm";
+  private static final String WRAPPED_PREFIX       = "wrapped";
+  private static final double ALLOCATION_TOLERANCE = 1; // Bytes per operation, JMH reports fractions of a byte for benchmarks which do not allocate.
+}
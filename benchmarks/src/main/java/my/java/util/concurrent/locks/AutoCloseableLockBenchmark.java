@@ -0,0 +1,63 @@
+/********************************************************************
+ * File Name:    AutoCloseableLockBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link AutoCloseableLock} in try-with-resource against plain <code>lock</code>/<code>unlock</code> in try/finally on the
+ * same {@link ReentrantLock}. Run with <code>-prof gc</code> to see whether the wrapper is allocated per acquire.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AutoCloseableLockBenchmark
+{
+  @Benchmark
+  public long plainLockUnlock()
+  {
+    this.lock.lock();
+    try
+    {
+      return ++this.value;
+    }
+    finally
+    {
+      this.lock.unlock();
+    }
+  }
+
+  @Benchmark
+  public long autoCloseableLock()
+  {
+    try(final AutoCloseableLock<ReentrantLock> autoCloseableLock = new AutoCloseableLock<>(this.lock))
+    {
+      return ++this.value;
+    }
+  }
+
+  // Private members
+  private final ReentrantLock lock = new ReentrantLock();
+  private long                value;
+}
@@ -0,0 +1,76 @@
+/********************************************************************
+ * File Name:    CombiningLockBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link NamedLockManager#withLock(String, Callable)} against {@link NamedLockManager#withCombiningLock(String, Callable)}
+ * with all the threads incrementing a counter under the same name. Combining pays off once the name is contended, so run it with
+ * several threads, e.g. <code>-t 16</code> or {@link LocksBenchmarkRunner}. With <code>pinned</code> set the name is pinned, which
+ * leaves out the cost of the lock table.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CombiningLockBenchmark
+{
+  @Param({"false", "true"})
+  public boolean pinned;
+
+  @Setup
+  public void setup()
+  {
+    this.lockManager = new NamedLockManager(this.pinned ? Collections.singletonList(LOCK_NAME) : Collections.<String>emptyList());
+  }
+
+  @Benchmark
+  public long withLock() throws Exception
+  {
+    return this.lockManager.withLock(LOCK_NAME, this.incrementCounter);
+  }
+
+  @Benchmark
+  public long withCombiningLock() throws Exception
+  {
+    return this.lockManager.withCombiningLock(LOCK_NAME, this.incrementCounter);
+  }
+
+  // Private members
+  private static final String LOCK_NAME = "counter";
+
+  private NamedLockManager     lockManager;
+  private long                 counter; // Guarded by the named lock.
+  private final Callable<Long> incrementCounter = new Callable<Long>()
+                                                  {
+                                                    @Override
+                                                    public Long call()
+                                                    {
+                                                      return ++CombiningLockBenchmark.this.counter;
+                                                    }
+                                                  };
+}
@@ -0,0 +1,60 @@
+/********************************************************************
+ * File Name:    LocksBenchmarkRunner.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the lock benchmarks with the GC profiler for 1, 2, 4, ..., 64 threads and writes the results of each thread count to
+ * <code>locks-&lt;threads&gt;.json</code>. The arguments are passed to JMH e.g. to select the benchmarks or shorten the runs.
+ * <pre>
+ * <b>Example:</b>
+ *     java -cp target/benchmarks.jar my.java.util.concurrent.locks.LocksBenchmarkRunner NamedLockManagerBenchmark -wi 3 -i 3
+ * </pre>
+ * For the <code>mixed*</code> groups of {@link ReaderWriterLockBenchmark} JMH rounds the thread count up to a multiple of the group size.
+ */
+public final class LocksBenchmarkRunner
+{
+  public static void main(final String[] args) throws RunnerException, CommandLineOptionException
+  {
+    final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    final String             include            = commandLineOptions.getIncludes().isEmpty() ? DEFAULT_INCLUDE : null;
+
+    for (int nThreads = 1; nThreads <= MAX_THREADS; nThreads *= 2)
+    {
+      final OptionsBuilder optionsBuilder = new OptionsBuilder();
+      optionsBuilder.parent(commandLineOptions);
+      if (null != include)
+      {
+        optionsBuilder.include(include);
+      }
+
+      optionsBuilder.threads(nThreads)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("locks-" + nThreads + ".json");
+
+      final Options options = optionsBuilder.build();
+
+      new Runner(options).run();
+    }
+  }
+
+  // Private members
+  private static final int    MAX_THREADS     = 64;
+  private static final String DEFAULT_INCLUDE = "my\\.java\\.util\\.concurrent\\.locks\\..*Benchmark";
+}
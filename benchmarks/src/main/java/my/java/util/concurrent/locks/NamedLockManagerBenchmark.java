@@ -0,0 +1,129 @@
+/********************************************************************
+ * File Name:    NamedLockManagerBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import my.java.util.concurrent.locks.NamedLockManager.NamedCriticalSectionLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks acquiring and releasing a {@link NamedCriticalSectionLock} of {@link NamedLockManager}:
+ * <ul>
+ * <li><code>distinctNames</code> - every thread uses its own name, so the locks are never contended and only the lock table is shared.
+ * With a single thread this is the uncontended cost of an acquire.</li>
+ * <li><code>sameName</code> - all the threads use the same name.</li>
+ * <li><code>zipfNames</code> - the threads draw the names from a Zipf distribution, so a few hot names are contended.</li>
+ * </ul>
+ * The thread count is set by the runner, e.g. <code>-t 16</code> or {@link LocksBenchmarkRunner}, and <code>-prof gc</code> reports the
+ * allocation per acquire. With <code>pinned</code> set the names are pinned while creating the {@link NamedLockManager}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NamedLockManagerBenchmark
+{
+  @Param({"false", "true"})
+  public boolean pinned;
+
+  @Param({"1024"})
+  public int nNames;
+
+  @Param({"1.1"})
+  public double skew;
+
+  @Setup
+  public void setup()
+  {
+    final List<String> names = new ArrayList<>(this.nNames);
+    for (int nName = 0; nName < this.nNames; nName++)
+    {
+      names.add("lock-" + nName);
+    }
+
+    this.lockManager = new NamedLockManager(this.pinned ? names : Collections.<String>emptyList());
+  }
+
+  @Benchmark
+  public void distinctNames(final ThreadNames threadNames, final Blackhole blackhole)
+  {
+    try(final NamedCriticalSectionLock lock = this.lockManager.acquireCriticalSectionLock(threadNames.ownName))
+    {
+      blackhole.consume(lock);
+    }
+  }
+
+  @Benchmark
+  public void sameName(final Blackhole blackhole)
+  {
+    try(final NamedCriticalSectionLock lock = this.lockManager.acquireCriticalSectionLock(SAME_NAME))
+    {
+      blackhole.consume(lock);
+    }
+  }
+
+  @Benchmark
+  public void zipfNames(final ThreadNames threadNames, final Blackhole blackhole)
+  {
+    try(final NamedCriticalSectionLock lock = this.lockManager.acquireCriticalSectionLock(threadNames.zipfNames.next()))
+    {
+      blackhole.consume(lock);
+    }
+  }
+
+  // Private members
+  private static final String SAME_NAME = "lock-0";
+
+  private NamedLockManager lockManager;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * Names used by a benchmark thread.
+   */
+  @State(Scope.Thread)
+  public static class ThreadNames
+  {
+    @Setup(Level.Trial)
+    public void setup(final NamedLockManagerBenchmark benchmark)
+    {
+      final int nThread = THREAD_COUNTER.getAndIncrement();
+
+      this.ownName   = "lock-" + (nThread % benchmark.nNames);
+      this.zipfNames = new ZipfNames(benchmark.nNames, benchmark.skew, 1 << 16, nThread);
+    }
+
+    // Private members
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private String    ownName;
+    private ZipfNames zipfNames;
+  }
+}
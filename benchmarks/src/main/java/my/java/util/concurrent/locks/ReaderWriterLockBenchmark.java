@@ -0,0 +1,125 @@
+/********************************************************************
+ * File Name:    ReaderWriterLockBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link ReaderWriterLock} against using the raw {@link ReentrantReadWriteLock} with <code>lock</code>/<code>unlock</code> in
+ * try/finally. The <code>read*</code> and <code>write*</code> benchmarks run on the threads set by the runner, the <code>mixed*</code>
+ * groups run 3 readers against 1 writer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReaderWriterLockBenchmark
+{
+  @Benchmark
+  public long readRaw()
+  {
+    final Lock readLock = this.rawLock.readLock();
+    readLock.lock();
+    try
+    {
+      return this.value;
+    }
+    finally
+    {
+      readLock.unlock();
+    }
+  }
+
+  @Benchmark
+  public long readReaderWriterLock()
+  {
+    try(final AutoCloseableLock<Lock> readLock = this.readerWriterLock.acquireReadLock())
+    {
+      return this.value;
+    }
+  }
+
+  @Benchmark
+  public long writeRaw()
+  {
+    final Lock writeLock = this.rawLock.writeLock();
+    writeLock.lock();
+    try
+    {
+      return ++this.value;
+    }
+    finally
+    {
+      writeLock.unlock();
+    }
+  }
+
+  @Benchmark
+  public long writeReaderWriterLock()
+  {
+    try(final AutoCloseableLock<Lock> writeLock = this.readerWriterLock.acquireWriteLock())
+    {
+      return ++this.value;
+    }
+  }
+
+  @Benchmark
+  @Group("mixedRaw")
+  @GroupThreads(3)
+  public long mixedRawRead()
+  {
+    return readRaw();
+  }
+
+  @Benchmark
+  @Group("mixedRaw")
+  @GroupThreads(1)
+  public long mixedRawWrite()
+  {
+    return writeRaw();
+  }
+
+  @Benchmark
+  @Group("mixedReaderWriterLock")
+  @GroupThreads(3)
+  public long mixedReaderWriterLockRead()
+  {
+    return readReaderWriterLock();
+  }
+
+  @Benchmark
+  @Group("mixedReaderWriterLock")
+  @GroupThreads(1)
+  public long mixedReaderWriterLockWrite()
+  {
+    return writeReaderWriterLock();
+  }
+
+  // Private members
+  private final ReentrantReadWriteLock                   rawLock          = new ReentrantReadWriteLock();
+  private final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<>(new ReentrantReadWriteLock());
+  private long                                           value;
+}
@@ -0,0 +1,81 @@
+/********************************************************************
+ * File Name:    ZipfNames.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Sequence of names drawn from a Zipf distribution i.e. the name of rank <code>k</code> is drawn with probability proportional to
+ * <code>1 / k^skew</code>, so that a few hot names take most of the draws like real lock names (e.g. popular accounts) do.
+ * <p>
+ * The names are drawn upfront so that the benchmark loop only indexes an array and does not allocate.
+ */
+final class ZipfNames
+{
+  /**
+   * Creates instance of {@link ZipfNames}.
+   *
+   * @param nNames The number of distinct names.
+   *
+   * @param skew The skew of the distribution, <code>0</code> is uniform.
+   *
+   * @param length The number of names to draw. Must be a power of two.
+   *
+   * @param seed The seed of the random generator.
+   */
+  ZipfNames(final int nNames, final double skew, final int length, final long seed)
+  {
+    if (nNames <= 0)
+    {
+      throw new IllegalArgumentException("@nNames should be greater than zero.");
+    }
+
+    if (length <= 0 || 0 != (length & (length - 1)))
+    {
+      throw new IllegalArgumentException("@length should be a power of two.");
+    }
+
+    final String[] distinctNames = new String[nNames];
+    final double[] cumulative    = new double[nNames];
+    double         total         = 0;
+    for (int nName = 0; nName < nNames; nName++)
+    {
+      distinctNames[nName] = "lock-" + nName;
+      total               += 1.0 / Math.pow(nName + 1, skew);
+      cumulative[nName]    = total;
+    }
+
+    final Random random = new Random(seed);
+
+    this.names = new String[length];
+    for (int nName = 0; nName < length; nName++)
+    {
+      final int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+
+      this.names[nName] = distinctNames[Math.min(nNames - 1, index < 0 ? -index - 1 : index)];
+    }
+
+    this.mask = length - 1;
+  }
+
+  /**
+   * @return The next name of the sequence, wrapping around at the end.
+   */
+  String next()
+  {
+    return this.names[this.position++ & this.mask];
+  }
+
+  // Private members
+  private final String[] names;
+  private final int      mask;
+  private int            position;
+}
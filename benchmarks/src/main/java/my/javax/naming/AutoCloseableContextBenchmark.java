@@ -0,0 +1,103 @@
+/********************************************************************
+ * File Name:    AutoCloseableContextBenchmark.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+
+import my.java.resourcemanagement.WrapperBenchmarkRunner;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link AutoCloseableContext} in try-with-resource against hand-written try/finally calling {@link Context#close()}. The
+ * {@link InMemoryContext} stands in for a real naming provider, so the numbers are the cost of the wrapper and not of the provider.
+ * The <code>*Close</code> benchmarks only close the context and are checked by {@link WrapperBenchmarkRunner} for the wrapper being
+ * scalar replaced. The <code>lookup*</code> benchmarks also look up a name and are not checked: the lookup is too large to inline, so
+ * the wrapper escapes into its <code>close()</code> and is allocated.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AutoCloseableContextBenchmark
+{
+  @Setup
+  public void setup() throws NamingException
+  {
+    this.context = new InMemoryContext();
+    this.context.createSubcontext("jdbc");
+    this.context.bind(NAME, "db");
+  }
+
+  @Benchmark
+  public Context rawClose() throws NamingException
+  {
+    final Context context = this.context;
+    try
+    {
+      return context;
+    }
+    finally
+    {
+      context.close();
+    }
+  }
+
+  @Benchmark
+  public Context wrappedClose() throws NamingException
+  {
+    try(final AutoCloseableContext<Context> context = new AutoCloseableContext<>(this.context))
+    {
+      return context.get();
+    }
+  }
+
+  @Benchmark
+  public Object lookupRaw() throws NamingException
+  {
+    final Context context = this.context;
+    try
+    {
+      return context.lookup(NAME);
+    }
+    finally
+    {
+      context.close();
+    }
+  }
+
+  @Benchmark
+  public Object lookupWrapped() throws NamingException
+  {
+    try(final AutoCloseableContext<Context> context = new AutoCloseableContext<>(this.context))
+    {
+      return context.get().lookup(NAME);
+    }
+  }
+
+  // Private members
+  private static final String NAME = "jdbc/db";
+
+  private Context context;
+}
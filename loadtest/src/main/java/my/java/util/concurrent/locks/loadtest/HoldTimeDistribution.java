@@ -0,0 +1,195 @@
+/********************************************************************
+ * File Name:    HoldTimeDistribution.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks.loadtest;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distribution of the time a lock is held by an operation. Instances are immutable and shared by the workers, each worker draws with
+ * its own {@link Random}.
+ * <p>
+ * Specifications parsed by {@link #parse(String)}, the durations take a <code>ns</code>, <code>us</code> or <code>ms</code> suffix:
+ * <ul>
+ * <li><code>constant:&lt;duration&gt;</code> e.g. <code>constant:10us</code>, <code>constant:0</code> holds the lock only for the
+ * acquire and release.</li>
+ * <li><code>uniform:&lt;min&gt;:&lt;max&gt;</code> e.g. <code>uniform:1us:50us</code>.</li>
+ * <li><code>exponential:&lt;mean&gt;</code> e.g. <code>exponential:20us</code>, mostly short holds with a long tail.</li>
+ * </ul>
+ */
+public abstract class HoldTimeDistribution
+{
+  /**
+   * This method parses the specification of the distribution.
+   *
+   * @param specification The specification e.g. <code>exponential:20us</code>.
+   *
+   * @return The {@link HoldTimeDistribution}.
+   *
+   * @throws IllegalArgumentException If the specification is not valid.
+   */
+  public static HoldTimeDistribution parse(final String specification)
+  {
+    final String[] parts = specification.split(":");
+    switch (parts[0])
+    {
+      case "constant":
+        checkParts(specification, parts, 2);
+
+        return new Constant(specification, parseNanos(specification, parts[1]));
+
+      case "uniform":
+        checkParts(specification, parts, 3);
+
+        return new Uniform(specification, parseNanos(specification, parts[1]), parseNanos(specification, parts[2]));
+
+      case "exponential":
+        checkParts(specification, parts, 2);
+
+        return new Exponential(specification, parseNanos(specification, parts[1]));
+
+      default:
+        throw new IllegalArgumentException(String.format("Unknown hold time distribution '%s'.", specification));
+    }
+  }
+
+  /**
+   * This method draws the next hold time.
+   *
+   * @param random The {@link Random} of the calling worker.
+   *
+   * @return The hold time in nanoseconds.
+   */
+  public abstract long nextNanos(final Random random);
+
+  @Override
+  public String toString()
+  {
+    return this.specification;
+  }
+
+  // Private methods
+  private HoldTimeDistribution(final String specification)
+  {
+    this.specification = specification;
+  }
+
+  private static void checkParts(final String specification, final String[] parts, final int nParts)
+  {
+    if (parts.length != nParts)
+    {
+      throw new IllegalArgumentException(String.format("Invalid hold time distribution '%s'.", specification));
+    }
+  }
+
+  private static long parseNanos(final String specification, final String duration)
+  {
+    try
+    {
+      final long nanos;
+      if (duration.endsWith("ns"))
+      {
+        nanos = Long.parseLong(duration.substring(0, duration.length() - 2));
+      }
+      else if (duration.endsWith("us"))
+      {
+        nanos = TimeUnit.MICROSECONDS.toNanos(Long.parseLong(duration.substring(0, duration.length() - 2)));
+      }
+      else if (duration.endsWith("ms"))
+      {
+        nanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(duration.substring(0, duration.length() - 2)));
+      }
+      else
+      {
+        nanos = Long.parseLong(duration); // Only 0 makes sense without a unit.
+      }
+
+      if (nanos < 0)
+      {
+        throw new IllegalArgumentException(String.format("Negative hold time in '%s'.", specification));
+      }
+
+      return nanos;
+    }
+    catch (NumberFormatException e)
+    {
+      throw new IllegalArgumentException(String.format("Invalid hold time distribution '%s'.", specification), e);
+    }
+  }
+
+  // Private members
+  private final String specification;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private static final class Constant extends HoldTimeDistribution
+  {
+    private Constant(final String specification, final long nanos)
+    {
+      super(specification);
+
+      this.nanos = nanos;
+    }
+
+    @Override
+    public long nextNanos(final Random random)
+    {
+      return this.nanos;
+    }
+
+    // Private members
+    private final long nanos;
+  }
+
+  private static final class Uniform extends HoldTimeDistribution
+  {
+    private Uniform(final String specification, final long minNanos, final long maxNanos)
+    {
+      super(specification);
+
+      if (maxNanos < minNanos)
+      {
+        throw new IllegalArgumentException(String.format("Maximum is less than minimum in '%s'.", specification));
+      }
+
+      this.minNanos = minNanos;
+      this.range    = maxNanos - minNanos;
+    }
+
+    @Override
+    public long nextNanos(final Random random)
+    {
+      return this.minNanos + (long)(random.nextDouble() * this.range);
+    }
+
+    // Private members
+    private final long minNanos;
+    private final long range;
+  }
+
+  private static final class Exponential extends HoldTimeDistribution
+  {
+    private Exponential(final String specification, final long meanNanos)
+    {
+      super(specification);
+
+      this.meanNanos = meanNanos;
+    }
+
+    @Override
+    public long nextNanos(final Random random)
+    {
+      return (long)(-Math.log(1 - random.nextDouble()) * this.meanNanos);
+    }
+
+    // Private members
+    private final long meanNanos;
+  }
+}
@@ -0,0 +1,205 @@
+/********************************************************************
+ * File Name:    KeyDistribution.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Distribution of the keys, i.e. lock names, used by the operations. The keys are the integers <code>[0, keyCount)</code>. Instances
+ * are immutable and shared by the workers, each worker draws with its own {@link Random}.
+ * <p>
+ * Specifications parsed by {@link #parse(String)}:
+ * <ul>
+ * <li><code>uniform:&lt;keys&gt;</code> - every key is equally likely.</li>
+ * <li><code>zipf:&lt;keys&gt;:&lt;skew&gt;</code> - the key of rank <code>k</code> is drawn with probability proportional to
+ * <code>1 / k^skew</code>.</li>
+ * <li><code>hotset:&lt;keys&gt;:&lt;hot fraction&gt;:&lt;hot probability&gt;</code> - e.g. <code>hotset:1000:0.1:0.9</code> draws
+ * 10% of the keys for 90% of the operations, uniformly within the hot and the cold set.</li>
+ * </ul>
+ */
+public abstract class KeyDistribution
+{
+  /**
+   * This method parses the specification of the distribution.
+   *
+   * @param specification The specification e.g. <code>zipf:1000:1.1</code>.
+   *
+   * @return The {@link KeyDistribution}.
+   *
+   * @throws IllegalArgumentException If the specification is not valid.
+   */
+  public static KeyDistribution parse(final String specification)
+  {
+    final String[] parts = specification.split(":");
+    try
+    {
+      switch (parts[0])
+      {
+        case "uniform":
+          checkParts(specification, parts, 2);
+
+          return new Uniform(specification, Integer.parseInt(parts[1]));
+
+        case "zipf":
+          checkParts(specification, parts, 3);
+
+          return new Zipf(specification, Integer.parseInt(parts[1]), Double.parseDouble(parts[2]));
+
+        case "hotset":
+          checkParts(specification, parts, 4);
+
+          return new HotSet(specification, Integer.parseInt(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+
+        default:
+          throw new IllegalArgumentException(String.format("Unknown key distribution '%s'.", specification));
+      }
+    }
+    catch (NumberFormatException e)
+    {
+      throw new IllegalArgumentException(String.format("Invalid key distribution '%s'.", specification), e);
+    }
+  }
+
+  /**
+   * @return The number of distinct keys.
+   */
+  public int getKeyCount()
+  {
+    return this.keyCount;
+  }
+
+  /**
+   * This method draws the next key.
+   *
+   * @param random The {@link Random} of the calling worker.
+   *
+   * @return The key in <code>[0, keyCount)</code>.
+   */
+  public abstract int nextKey(final Random random);
+
+  @Override
+  public String toString()
+  {
+    return this.specification;
+  }
+
+  // Private methods
+  private KeyDistribution(final String specification, final int keyCount)
+  {
+    if (keyCount <= 0)
+    {
+      throw new IllegalArgumentException("@keyCount should be greater than zero.");
+    }
+
+    this.specification = specification;
+    this.keyCount      = keyCount;
+  }
+
+  private static void checkParts(final String specification, final String[] parts, final int nParts)
+  {
+    if (parts.length != nParts)
+    {
+      throw new IllegalArgumentException(String.format("Invalid key distribution '%s'.", specification));
+    }
+  }
+
+  // Private members
+  private final String specification;
+  private final int    keyCount;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private static final class Uniform extends KeyDistribution
+  {
+    private Uniform(final String specification, final int keyCount)
+    {
+      super(specification, keyCount);
+    }
+
+    @Override
+    public int nextKey(final Random random)
+    {
+      return random.nextInt(getKeyCount());
+    }
+  }
+
+  private static final class Zipf extends KeyDistribution
+  {
+    private Zipf(final String specification, final int keyCount, final double skew)
+    {
+      super(specification, keyCount);
+
+      if (skew < 0)
+      {
+        throw new IllegalArgumentException("@skew cannot be negative.");
+      }
+
+      this.cumulative = new double[keyCount];
+
+      double total = 0;
+      for (int nKey = 0; nKey < keyCount; nKey++)
+      {
+        total                 += 1.0 / Math.pow(nKey + 1, skew);
+        this.cumulative[nKey]  = total;
+      }
+
+      this.total = total;
+    }
+
+    @Override
+    public int nextKey(final Random random)
+    {
+      final int index = Arrays.binarySearch(this.cumulative, random.nextDouble() * this.total);
+
+      return Math.min(getKeyCount() - 1, index < 0 ? -index - 1 : index);
+    }
+
+    // Private members
+    private final double[] cumulative;
+    private final double   total;
+  }
+
+  private static final class HotSet extends KeyDistribution
+  {
+    private HotSet(final String specification, final int keyCount, final double hotFraction, final double hotProbability)
+    {
+      super(specification, keyCount);
+
+      if ( ! (0 < hotFraction && hotFraction < 1) )
+      {
+        throw new IllegalArgumentException("@hotFraction should be between 0 and 1.");
+      }
+
+      if ( ! (0 <= hotProbability && hotProbability <= 1) )
+      {
+        throw new IllegalArgumentException("@hotProbability should be between 0 and 1.");
+      }
+
+      this.hotKeyCount    = Math.max(1, Math.min(keyCount - 1, (int)Math.round(keyCount * hotFraction)));
+      this.hotProbability = hotProbability;
+    }
+
+    @Override
+    public int nextKey(final Random random)
+    {
+      if (random.nextDouble() < this.hotProbability)
+      {
+        return random.nextInt(this.hotKeyCount);
+      }
+
+      return this.hotKeyCount + random.nextInt(getKeyCount() - this.hotKeyCount);
+    }
+
+    // Private members
+    private final int    hotKeyCount;
+    private final double hotProbability;
+  }
+}
@@ -0,0 +1,231 @@
+/********************************************************************
+ * File Name:    LoadTest.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks.loadtest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Recorder;
+
+/**
+ * Load test driving the locks with a configurable mix of lock names, hold times and read/write ratio on platform or virtual threads.
+ * Unlike the JMH benchmarks, which measure a single operation, the load test reports the throughput and the acquire latency
+ * percentiles (HdrHistogram) of the whole mix, so that runs of different versions can be compared.
+ * <pre>
+ * <b>Example:</b>
+ *     java -jar target/loadtest.jar -target named-readwrite -keys hotset:10000:0.01:0.9 -hold exponential:20us -threads 64 \
+ *                                   -readRatio 0.9 -duration 60 -format csv -output results.csv -label 0.0.1
+ * </pre>
+ * The workers draw the key, the read/write choice and the hold time from their own seeded {@link Random}, so runs with the same seed
+ * draw the same sequences per worker. Latencies are recorded only after the warm-up.
+ */
+public final class LoadTest
+{
+  public static void main(final String[] args) throws Exception
+  {
+    final LoadTestConfig config;
+    try
+    {
+      config = LoadTestConfig.parse(args);
+    }
+    catch (IllegalArgumentException e)
+    {
+      System.err.println(e.getMessage());
+      System.err.print(LoadTestConfig.USAGE);
+      System.exit(2);
+
+      return;
+    }
+
+    if (config.isHelp())
+    {
+      System.out.print(LoadTestConfig.USAGE);
+
+      return;
+    }
+
+    final LoadTestResult result;
+    try
+    {
+      result = new LoadTest(config).run();
+    }
+    catch (IllegalStateException e)
+    {
+      System.err.println(e.getMessage());
+      System.exit(2);
+
+      return;
+    }
+
+    System.err.print(result);
+
+    write(config, result);
+  }
+
+  /**
+   * Creates instance of {@link LoadTest}.
+   *
+   * @param config The {@link LoadTestConfig}.
+   */
+  public LoadTest(final LoadTestConfig config)
+  {
+    this.config         = config;
+    this.workload       = Workload.create(config.getTarget(), config.getKeyDistribution().getKeyCount());
+    this.readLatencies  = new Recorder(LATENCY_DIGITS);
+    this.writeLatencies = new Recorder(LATENCY_DIGITS);
+  }
+
+  /**
+   * This method runs the warm-up and the measurement and waits for the workers to stop.
+   *
+   * @return The {@link LoadTestResult}.
+   *
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  public LoadTestResult run() throws InterruptedException
+  {
+    final Thread[] workers = new Thread[this.config.getThreadCount()];
+    for (int nWorker = 0; nWorker < workers.length; nWorker++)
+    {
+      workers[nWorker] = newThread(new Worker(new Random(this.config.getSeed() + nWorker)), "loadtest-worker-" + nWorker);
+    }
+
+    for (final Thread worker : workers)
+    {
+      worker.start();
+    }
+
+    Thread.sleep(TimeUnit.SECONDS.toMillis(this.config.getWarmupSeconds()));
+
+    this.readLatencies.reset();
+    this.writeLatencies.reset();
+    this.measuring = true;
+
+    final long startNanos = System.nanoTime();
+
+    Thread.sleep(TimeUnit.SECONDS.toMillis(this.config.getDurationSeconds()));
+
+    this.measuring = false;
+
+    final long elapsedNanos = System.nanoTime() - startNanos;
+
+    this.stopped = true;
+    for (final Thread worker : workers)
+    {
+      worker.join();
+    }
+
+    return new LoadTestResult(this.config, elapsedNanos, this.readLatencies.getIntervalHistogram(), this.writeLatencies.getIntervalHistogram());
+  }
+
+  // Private methods
+  private Thread newThread(final Runnable runnable, final String name)
+  {
+    if ( ! this.config.isVirtualThreads() )
+    {
+      final Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+
+      return thread;
+    }
+
+    try
+    {
+      final Class<?> builderClass    = Class.forName("java.lang.Thread$Builder"); // Thread.ofVirtual().name(name).unstarted(runnable) on Java 21+.
+      final Method   nameMethod      = builderClass.getMethod("name", String.class);
+      final Method   unstartedMethod = builderClass.getMethod("unstarted", Runnable.class);
+      final Object   builder         = Thread.class.getMethod("ofVirtual").invoke(null);
+
+      return (Thread)unstartedMethod.invoke(nameMethod.invoke(builder, name), runnable);
+    }
+    catch (ReflectiveOperationException e)
+    {
+      throw new IllegalStateException("Virtual threads are not supported by this JVM.", e);
+    }
+  }
+
+  private static void write(final LoadTestConfig config, final LoadTestResult result) throws IOException
+  {
+    final boolean csv = "csv".equals(config.getFormat());
+    if (null == config.getOutput())
+    {
+      if (csv)
+      {
+        System.out.println(LoadTestResult.toCsvHeader());
+      }
+
+      System.out.println(csv ? result.toCsvRow() : result.toJson());
+
+      return;
+    }
+
+    final File    file    = new File(config.getOutput());
+    final boolean newFile = ! file.exists() || 0 == file.length();
+    try(final PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)))
+    {
+      if (csv && newFile)
+      {
+        writer.println(LoadTestResult.toCsvHeader());
+      }
+
+      writer.println(csv ? result.toCsvRow() : result.toJson()); // Appended, so that the runs of different versions end up in one file.
+    }
+  }
+
+  // Private members
+  private static final int LATENCY_DIGITS = 3;
+
+  private final LoadTestConfig config;
+  private final Workload       workload;
+  private final Recorder       readLatencies;
+  private final Recorder       writeLatencies;
+  private volatile boolean     measuring;
+  private volatile boolean     stopped;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private final class Worker implements Runnable
+  {
+    private Worker(final Random random)
+    {
+      this.random = random;
+    }
+
+    @Override
+    public void run()
+    {
+      final KeyDistribution      keyDistribution  = LoadTest.this.config.getKeyDistribution();
+      final HoldTimeDistribution holdDistribution = LoadTest.this.config.getHoldDistribution();
+      final double               readRatio        = LoadTest.this.config.getReadRatio();
+
+      while ( ! LoadTest.this.stopped )
+      {
+        final int     key          = keyDistribution.nextKey(this.random);
+        final boolean read         = this.random.nextDouble() < readRatio;
+        final long    acquireNanos = LoadTest.this.workload.execute(key, read, holdDistribution.nextNanos(this.random));
+
+        if (LoadTest.this.measuring)
+        {
+          (read ? LoadTest.this.readLatencies : LoadTest.this.writeLatencies).recordValue(acquireNanos);
+        }
+      }
+    }
+
+    // Private members
+    private final Random random;
+  }
+}
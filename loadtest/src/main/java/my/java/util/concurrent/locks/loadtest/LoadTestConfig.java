@@ -0,0 +1,216 @@
+/********************************************************************
+ * File Name:    LoadTestConfig.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks.loadtest;
+
+/**
+ * Configuration of a load test parsed from the command line. Options are given as <code>-name value</code>, see {@link #USAGE}.
+ */
+public final class LoadTestConfig
+{
+  /**
+   * Usage printed for <code>-help</code> and for invalid options.
+   */
+  public static final String USAGE = "Options (defaults in brackets):\n"
+                                   + "  -target    named-critical | named-readwrite | reader-writer     [named-critical]\n"
+                                   + "  -keys      uniform:<keys> | zipf:<keys>:<skew> | hotset:<keys>:<hot fraction>:<hot probability>  [zipf:1000:1.1]\n"
+                                   + "  -hold      constant:<t> | uniform:<min>:<max> | exponential:<mean>, t in ns, us or ms  [constant:0]\n"
+                                   + "  -threads   number of worker threads                              [available processors]\n"
+                                   + "  -virtual   run the workers on virtual threads (Java 21+)\n"
+                                   + "  -readRatio fraction of the operations which are reads, 0 to 1     [0.8]\n"
+                                   + "  -warmup    warm-up seconds                                       [5]\n"
+                                   + "  -duration  measured seconds                                      [30]\n"
+                                   + "  -seed      seed of the random generators                         [42]\n"
+                                   + "  -format    csv | json                                            [csv]\n"
+                                   + "  -output    file the result is appended to                        [standard output]\n"
+                                   + "  -label     label of the run e.g. the version under test          []\n";
+
+  /**
+   * This method parses the command line.
+   *
+   * @param args The command line arguments.
+   *
+   * @return The {@link LoadTestConfig}.
+   *
+   * @throws IllegalArgumentException If an option is unknown or invalid.
+   */
+  public static LoadTestConfig parse(final String[] args)
+  {
+    final LoadTestConfig config = new LoadTestConfig();
+    for (int nArg = 0; nArg < args.length; nArg++)
+    {
+      final String option = args[nArg];
+      switch (option)
+      {
+        case "-virtual":
+          config.virtualThreads = true;
+          continue;
+
+        case "-help":
+          config.help = true;
+          continue;
+
+        default:
+          break;
+      }
+
+      if (nArg + 1 == args.length)
+      {
+        throw new IllegalArgumentException(String.format("Missing value of the option '%s'.", option));
+      }
+
+      final String value = args[++nArg];
+      try
+      {
+        switch (option)
+        {
+          case "-target":    config.target           = value;                                    break;
+          case "-keys":      config.keyDistribution  = KeyDistribution.parse(value);             break;
+          case "-hold":      config.holdDistribution = HoldTimeDistribution.parse(value);        break;
+          case "-threads":   config.threadCount      = Integer.parseInt(value);                  break;
+          case "-readRatio": config.readRatio        = Double.parseDouble(value);                break;
+          case "-warmup":    config.warmupSeconds    = Integer.parseInt(value);                  break;
+          case "-duration":  config.durationSeconds  = Integer.parseInt(value);                  break;
+          case "-seed":      config.seed             = Long.parseLong(value);                    break;
+          case "-format":    config.format           = value;                                    break;
+          case "-output":    config.output           = value;                                    break;
+          case "-label":     config.label            = value;                                    break;
+          default:
+            throw new IllegalArgumentException(String.format("Unknown option '%s'.", option));
+        }
+      }
+      catch (NumberFormatException e)
+      {
+        throw new IllegalArgumentException(String.format("Invalid value '%s' of the option '%s'.", value, option), e);
+      }
+    }
+
+    config.validate();
+
+    return config;
+  }
+
+  public String getTarget()
+  {
+    return this.target;
+  }
+
+  public KeyDistribution getKeyDistribution()
+  {
+    return this.keyDistribution;
+  }
+
+  public HoldTimeDistribution getHoldDistribution()
+  {
+    return this.holdDistribution;
+  }
+
+  public int getThreadCount()
+  {
+    return this.threadCount;
+  }
+
+  public boolean isVirtualThreads()
+  {
+    return this.virtualThreads;
+  }
+
+  public double getReadRatio()
+  {
+    return this.readRatio;
+  }
+
+  public int getWarmupSeconds()
+  {
+    return this.warmupSeconds;
+  }
+
+  public int getDurationSeconds()
+  {
+    return this.durationSeconds;
+  }
+
+  public long getSeed()
+  {
+    return this.seed;
+  }
+
+  public String getFormat()
+  {
+    return this.format;
+  }
+
+  /**
+   * @return The file the result is appended to, or <code>null</code> for the standard output.
+   */
+  public String getOutput()
+  {
+    return this.output;
+  }
+
+  public String getLabel()
+  {
+    return this.label;
+  }
+
+  public boolean isHelp()
+  {
+    return this.help;
+  }
+
+  // Private methods
+  private LoadTestConfig()
+  {
+  }
+
+  private void validate()
+  {
+    if (this.threadCount <= 0)
+    {
+      throw new IllegalArgumentException("-threads should be greater than zero.");
+    }
+
+    if ( ! (0 <= this.readRatio && this.readRatio <= 1) )
+    {
+      throw new IllegalArgumentException("-readRatio should be between 0 and 1.");
+    }
+
+    if (this.warmupSeconds < 0)
+    {
+      throw new IllegalArgumentException("-warmup cannot be negative.");
+    }
+
+    if (this.durationSeconds <= 0)
+    {
+      throw new IllegalArgumentException("-duration should be greater than zero.");
+    }
+
+    if ( ! ("csv".equals(this.format) || "json".equals(this.format)) )
+    {
+      throw new IllegalArgumentException(String.format("Unknown format '%s'.", this.format));
+    }
+
+    Workload.create(this.target, 1); // Fails for an unknown target.
+  }
+
+  // Private members
+  private String               target           = "named-critical";
+  private KeyDistribution      keyDistribution  = KeyDistribution.parse("zipf:1000:1.1");
+  private HoldTimeDistribution holdDistribution = HoldTimeDistribution.parse("constant:0");
+  private int                  threadCount      = Runtime.getRuntime().availableProcessors();
+  private boolean              virtualThreads;
+  private double               readRatio        = 0.8;
+  private int                  warmupSeconds    = 5;
+  private int                  durationSeconds  = 30;
+  private long                 seed             = 42;
+  private String               format           = "csv";
+  private String               output;
+  private String               label            = "";
+  private boolean              help;
+}
@@ -0,0 +1,196 @@
+/********************************************************************
+ * File Name:    LoadTestResult.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks.loadtest;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Result of a load test: the throughput and the percentiles of the lock acquire latency, separately for reads and writes, in
+ * microseconds. The result is written as a CSV row or as a JSON object on a single line, so that the results of several runs, e.g.
+ * of different versions, can be appended to the same file and compared.
+ */
+public final class LoadTestResult
+{
+  /**
+   * Creates instance of {@link LoadTestResult}.
+   *
+   * @param config The {@link LoadTestConfig} of the run.
+   *
+   * @param elapsedNanos The measured time.
+   *
+   * @param reads The acquire latencies of the reads in nanoseconds.
+   *
+   * @param writes The acquire latencies of the writes in nanoseconds.
+   */
+  public LoadTestResult(final LoadTestConfig config, final long elapsedNanos, final Histogram reads, final Histogram writes)
+  {
+    this.config       = config;
+    this.elapsedNanos = elapsedNanos;
+    this.reads        = reads;
+    this.writes       = writes;
+  }
+
+  /**
+   * @return The operations per second, reads and writes.
+   */
+  public double getThroughput()
+  {
+    return (this.reads.getTotalCount() + this.writes.getTotalCount()) * (double)TimeUnit.SECONDS.toNanos(1) / this.elapsedNanos;
+  }
+
+  /**
+   * @return The header of the CSV file.
+   */
+  public static String toCsvHeader()
+  {
+    final StringBuilder header = new StringBuilder("label,target,keys,hold,threads,virtual,readRatio,seconds,operations,throughput");
+    for (final String kind : KINDS)
+    {
+      header.append(',').append(kind).append("Count");
+      for (final String percentile : PERCENTILE_NAMES)
+      {
+        header.append(',').append(kind).append(percentile).append("Us");
+      }
+
+      header.append(',').append(kind).append("MaxUs,").append(kind).append("MeanUs");
+    }
+
+    return header.toString();
+  }
+
+  /**
+   * @return The result as a CSV row matching {@link #toCsvHeader()}.
+   */
+  public String toCsvRow()
+  {
+    final StringBuilder row = new StringBuilder();
+    row.append(csv(this.config.getLabel())).append(',')
+       .append(csv(this.config.getTarget())).append(',')
+       .append(csv(this.config.getKeyDistribution().toString())).append(',')
+       .append(csv(this.config.getHoldDistribution().toString())).append(',')
+       .append(this.config.getThreadCount()).append(',')
+       .append(this.config.isVirtualThreads()).append(',')
+       .append(this.config.getReadRatio()).append(',')
+       .append(format(this.elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1))).append(',')
+       .append(this.reads.getTotalCount() + this.writes.getTotalCount()).append(',')
+       .append(format(getThroughput()));
+
+    for (final Histogram histogram : new Histogram[] { this.reads, this.writes })
+    {
+      row.append(',').append(histogram.getTotalCount());
+      for (final double percentile : PERCENTILES)
+      {
+        row.append(',').append(format(toMicros(histogram.getValueAtPercentile(percentile))));
+      }
+
+      row.append(',').append(format(toMicros(histogram.getMaxValue())))
+         .append(',').append(format(histogram.getMean() / NANOS_PER_MICRO));
+    }
+
+    return row.toString();
+  }
+
+  /**
+   * @return The result as a JSON object on a single line.
+   */
+  public String toJson()
+  {
+    final StringBuilder json = new StringBuilder("{");
+    json.append("\"label\":").append(json(this.config.getLabel()))
+        .append(",\"target\":").append(json(this.config.getTarget()))
+        .append(",\"keys\":").append(json(this.config.getKeyDistribution().toString()))
+        .append(",\"hold\":").append(json(this.config.getHoldDistribution().toString()))
+        .append(",\"threads\":").append(this.config.getThreadCount())
+        .append(",\"virtual\":").append(this.config.isVirtualThreads())
+        .append(",\"readRatio\":").append(this.config.getReadRatio())
+        .append(",\"seconds\":").append(format(this.elapsedNanos / (double)TimeUnit.SECONDS.toNanos(1)))
+        .append(",\"operations\":").append(this.reads.getTotalCount() + this.writes.getTotalCount())
+        .append(",\"throughput\":").append(format(getThroughput()));
+
+    final Histogram[] histograms = { this.reads, this.writes };
+    for (int nKind = 0; nKind < KINDS.length; nKind++)
+    {
+      final Histogram histogram = histograms[nKind];
+
+      json.append(",\"").append(KINDS[nKind]).append("\":{\"count\":").append(histogram.getTotalCount());
+      for (int nPercentile = 0; nPercentile < PERCENTILES.length; nPercentile++)
+      {
+        json.append(",\"").append(PERCENTILE_NAMES[nPercentile]).append("Us\":").append(format(toMicros(histogram.getValueAtPercentile(PERCENTILES[nPercentile]))));
+      }
+
+      json.append(",\"maxUs\":").append(format(toMicros(histogram.getMaxValue())))
+          .append(",\"meanUs\":").append(format(histogram.getMean() / NANOS_PER_MICRO))
+          .append('}');
+    }
+
+    return json.append('}').toString();
+  }
+
+  /**
+   * @return The human readable summary of the result.
+   */
+  @Override
+  public String toString()
+  {
+    final StringBuilder summary = new StringBuilder();
+    summary.append(String.format(Locale.ROOT, "%s, keys %s, hold %s, %d %s threads, read ratio %s: %.0f ops/s%n",
+                                 this.config.getTarget(), this.config.getKeyDistribution(), this.config.getHoldDistribution(),
+                                 this.config.getThreadCount(), this.config.isVirtualThreads() ? "virtual" : "platform",
+                                 this.config.getReadRatio(), getThroughput()));
+
+    final Histogram[] histograms = { this.reads, this.writes };
+    for (int nKind = 0; nKind < KINDS.length; nKind++)
+    {
+      final Histogram histogram = histograms[nKind];
+
+      summary.append(String.format(Locale.ROOT, "  %-6s %10d ops, acquire us: p50 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n", KINDS[nKind],
+                                   histogram.getTotalCount(), toMicros(histogram.getValueAtPercentile(50)),
+                                   toMicros(histogram.getValueAtPercentile(99)), toMicros(histogram.getValueAtPercentile(99.9)),
+                                   toMicros(histogram.getMaxValue())));
+    }
+
+    return summary.toString();
+  }
+
+  // Private methods
+  private static double toMicros(final long nanos)
+  {
+    return nanos / NANOS_PER_MICRO;
+  }
+
+  private static String format(final double value)
+  {
+    return String.format(Locale.ROOT, "%.3f", value);
+  }
+
+  private static String csv(final String value)
+  {
+    return value.indexOf(',') < 0 && value.indexOf('"') < 0 ? value : '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  private static String json(final String value)
+  {
+    return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+  }
+
+  // Private members
+  private static final String[] KINDS            = { "read", "write" };
+  private static final double[] PERCENTILES      = { 50, 90, 99, 99.9, 99.99 };
+  private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p999", "p9999" };
+  private static final double   NANOS_PER_MICRO  = 1000.0;
+
+  private final LoadTestConfig config;
+  private final long           elapsedNanos;
+  private final Histogram      reads;
+  private final Histogram      writes;
+}
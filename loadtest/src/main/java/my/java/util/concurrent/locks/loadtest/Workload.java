@@ -0,0 +1,214 @@
+/********************************************************************
+ * File Name:    Workload.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks.loadtest;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import my.java.util.concurrent.locks.AutoCloseableLock;
+import my.java.util.concurrent.locks.NamedLockManager;
+import my.java.util.concurrent.locks.NamedLockManager.NamedCriticalSectionLock;
+import my.java.util.concurrent.locks.NamedLockManager.NamedReadWriteLock.NamedReadLock;
+import my.java.util.concurrent.locks.NamedLockManager.NamedReadWriteLock.NamedWriteLock;
+import my.java.util.concurrent.locks.ReaderWriterLock;
+
+/**
+ * The lock under test. An operation acquires the lock of the key, records the time it took to acquire it, holds the lock for the
+ * drawn hold time and releases it. Targets created by {@link #create(String, int)}:
+ * <ul>
+ * <li><code>named-critical</code> - {@link NamedLockManager#acquireCriticalSectionLock(String)}, reads and writes are the same.</li>
+ * <li><code>named-readwrite</code> - {@link NamedLockManager#acquireReadLock(String)} and {@link NamedLockManager#acquireWriteLock(String)}.</li>
+ * <li><code>reader-writer</code> - a {@link ReaderWriterLock} per key.</li>
+ * </ul>
+ */
+public abstract class Workload
+{
+  /**
+   * This method creates the workload of the target.
+   *
+   * @param target The name of the target e.g. <code>named-critical</code>.
+   *
+   * @param keyCount The number of distinct keys.
+   *
+   * @return The {@link Workload}.
+   *
+   * @throws IllegalArgumentException If the target is unknown.
+   */
+  public static Workload create(final String target, final int keyCount)
+  {
+    switch (target)
+    {
+      case "named-critical":
+        return new NamedCriticalSection(target, keyCount);
+
+      case "named-readwrite":
+        return new NamedReadWrite(target, keyCount);
+
+      case "reader-writer":
+        return new ReaderWriter(target, keyCount);
+
+      default:
+        throw new IllegalArgumentException(String.format("Unknown target '%s'.", target));
+    }
+  }
+
+  /**
+   * This method executes an operation.
+   *
+   * @param key The key of the operation.
+   *
+   * @param read <code>true</code> for a read, <code>false</code> for a write.
+   *
+   * @param holdNanos The time to hold the lock.
+   *
+   * @return The time in nanoseconds it took to acquire the lock.
+   */
+  public abstract long execute(final int key, final boolean read, final long holdNanos);
+
+  @Override
+  public String toString()
+  {
+    return this.target;
+  }
+
+  // Protected methods
+  protected String getKeyName(final int key)
+  {
+    return this.keyNames[key];
+  }
+
+  /**
+   * Simulates the work done under the lock by spinning, so that the hold time is not stretched by the scheduler waking the thread up.
+   */
+  protected static void hold(final long holdNanos)
+  {
+    if (0 < holdNanos)
+    {
+      final long startNanos = System.nanoTime();
+      while (System.nanoTime() - startNanos < holdNanos)
+      {
+        // Spin.
+      }
+    }
+  }
+
+  // Private methods
+  private Workload(final String target, final int keyCount)
+  {
+    this.target   = target;
+    this.keyNames = new String[keyCount];
+    for (int nKey = 0; nKey < keyCount; nKey++)
+    {
+      this.keyNames[nKey] = "key-" + nKey; // Created upfront so that the operations do not allocate the names.
+    }
+  }
+
+  // Private members
+  private final String   target;
+  private final String[] keyNames;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private static final class NamedCriticalSection extends Workload
+  {
+    private NamedCriticalSection(final String target, final int keyCount)
+    {
+      super(target, keyCount);
+    }
+
+    @Override
+    public long execute(final int key, final boolean read, final long holdNanos)
+    {
+      final long startNanos = System.nanoTime();
+      try(final NamedCriticalSectionLock namedLock = this.namedLockManager.acquireCriticalSectionLock(getKeyName(key)))
+      {
+        final long acquireNanos = System.nanoTime() - startNanos;
+
+        hold(holdNanos);
+
+        return acquireNanos;
+      }
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+  }
+
+  private static final class NamedReadWrite extends Workload
+  {
+    private NamedReadWrite(final String target, final int keyCount)
+    {
+      super(target, keyCount);
+    }
+
+    @Override
+    public long execute(final int key, final boolean read, final long holdNanos)
+    {
+      final String keyName    = getKeyName(key);
+      final long   startNanos = System.nanoTime();
+      if (read)
+      {
+        try(final NamedReadLock namedLock = this.namedLockManager.acquireReadLock(keyName))
+        {
+          final long acquireNanos = System.nanoTime() - startNanos;
+
+          hold(holdNanos);
+
+          return acquireNanos;
+        }
+      }
+
+      try(final NamedWriteLock namedLock = this.namedLockManager.acquireWriteLock(keyName))
+      {
+        final long acquireNanos = System.nanoTime() - startNanos;
+
+        hold(holdNanos);
+
+        return acquireNanos;
+      }
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+  }
+
+  private static final class ReaderWriter extends Workload
+  {
+    @SuppressWarnings("unchecked")
+    private ReaderWriter(final String target, final int keyCount)
+    {
+      super(target, keyCount);
+
+      this.locks = new ReaderWriterLock[keyCount];
+      for (int nKey = 0; nKey < keyCount; nKey++)
+      {
+        this.locks[nKey] = new ReaderWriterLock<>(new ReentrantReadWriteLock());
+      }
+    }
+
+    @Override
+    public long execute(final int key, final boolean read, final long holdNanos)
+    {
+      final ReaderWriterLock<ReentrantReadWriteLock> lock       = this.locks[key];
+      final long                                     startNanos = System.nanoTime();
+      try(final AutoCloseableLock<Lock> acquiredLock = read ? lock.<Lock>acquireReadLock() : lock.<Lock>acquireWriteLock())
+      {
+        final long acquireNanos = System.nanoTime() - startNanos;
+
+        hold(holdNanos);
+
+        return acquireNanos;
+      }
+    }
+
+    // Private members
+    private final ReaderWriterLock<ReentrantReadWriteLock>[] locks;
+  }
+}
@@ -18,6 +18,9 @@ import java.io.Closeable;
  * and implementing the {@link doClose()} method where the corresponding close() method can be called on 
  * the object instance to do the clean up.
  * 
+ * <p>
+ * Instances can be tracked for leaks i.e. garbage collected without being closed. See {@link LeakDetector}.
+ * 
  * @param <TResource> The type of the resource object.
  * 
  * @param <TExceptionOnClose> The type of the checked exception which can be thrown when object is closed.
@@ -29,17 +32,45 @@ public abstract class AbstractAutoCloseableResourceThrowingCheckedExceptionOnClo
   public AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose(final TResource resource)
   {
     super(resource);
+    
+    this.leakTracker = null == resource ? null : LeakDetector.track(this); // Nothing to close for null resource.
   }
   
   @Override
   public void close() throws TExceptionOnClose
   {
-    if (null != this.get())
+    if (null != this.get() && ! this.closeDeferred)
     {
-      doClose();
-      this.reset(null);
+      if (null != this.leakTracker)
+      {
+        this.leakTracker.close();
+      }
+      
+      if (null != this.backgroundCloser)
+      {
+        this.closeDeferred = true;
+        this.backgroundCloser.submitDeferred(this);
+        
+        return;
+      }
+      
+      closeNow();
     }
   }
+  
+  /**
+   * This method opts this instance in for deferred close i.e. when {@link #close()} is called then {@link #doClose()} is executed
+   * on the background thread of the specified {@link BackgroundCloser} instead of the calling thread. Failures in {@link #doClose()}
+   * are reported to the {@link CloseFailureListener} of the {@link BackgroundCloser}.
+   * <p>
+   * <strong>Note:</strong> Should not be used for resources which must be cleaned up on the thread which acquired them e.g. locks.
+   * 
+   * @param backgroundCloser The {@link BackgroundCloser} to execute {@link #doClose()}. Pass null to close on the calling thread.
+   */
+  public void deferCloseTo(final BackgroundCloser backgroundCloser)
+  {
+    this.backgroundCloser = backgroundCloser;
+  }
  
   /**
    * This methods needs to be implemented by the derived class having logic to clean up the 
@@ -48,5 +79,16 @@ public abstract class AbstractAutoCloseableResourceThrowingCheckedExceptionOnClo
    * @throws TExceptionOnClose The type of exception that can be thrown on resource clean up.
    */
   protected abstract void doClose() throws TExceptionOnClose;  
+  
+  // Package private methods
+  void closeNow() throws TExceptionOnClose
+  {
+    doClose();
+    this.reset(null);
+  }
+  
+  // Private members
+  private final LeakDetector.Tracker leakTracker;
+  private BackgroundCloser           backgroundCloser;
+  private boolean                    closeDeferred;
 }
-
@@ -0,0 +1,368 @@
+/********************************************************************
+ * File Name:    AtomicResourceHolder.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread-safe class to hold shared resource instance of type <code>TResource</code> which can be swapped while being read e.g. routing
+ * tables or configuration. Unlike {@link ResourceHolder}, readers always see the latest published instance and the replaced instance
+ * is closed (if it implements {@link AutoCloseable}) only after all the readers using it are done i.e. after the grace period.
+ * <pre>
+ * <b>Example:</b>
+ *     private final AtomicResourceHolder<RoutingTable> routingTable = new AtomicResourceHolder<RoutingTable>(initialTable, failureListener);
+ *     ...
+ *     // Reader
+ *     try(final AbstractAutoCloseableResource<RoutingTable> table = routingTable.acquire())
+ *     {
+ *       table.get().route(...);
+ *     }
+ *     ...
+ *     // Writer
+ *     routingTable.update(new ResourceUpdater<RoutingTable>()
+ *                         {
+ *                           &#64;Override
+ *                           public RoutingTable update(final RoutingTable currentTable)
+ *                           {
+ *                             return currentTable.withRoute(...); // Copy, current table is not modified.
+ *                           }
+ *                         });
+ * </pre>
+ * <p>
+ * Each published instance has its own state encoding the number of readers and whether it is retired. Readers never block, they
+ * only increment the count with CAS. Writers swap the instance with CAS and never wait on each other or on the readers. The last one
+ * out of the retired instance, either the last reader or the writer, closes it. Failures in closing are reported to the
+ * {@link CloseFailureListener}.
+ *
+ * @param <TResource> The type of the resource object.
+ */
+public final class AtomicResourceHolder<TResource> implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link AtomicResourceHolder}. Failures in closing the resources are ignored.
+   *
+   * @param resource The initial instance of the resource. The instance can be null.
+   */
+  public AtomicResourceHolder(final TResource resource)
+  {
+    this(resource, IGNORING_FAILURE_LISTENER);
+  }
+
+  /**
+   * Creates instance of {@link AtomicResourceHolder}.
+   *
+   * @param resource The initial instance of the resource. The instance can be null.
+   *
+   * @param failureListener The {@link CloseFailureListener} to notify when closing a retired resource fails.
+   */
+  public AtomicResourceHolder(final TResource resource, final CloseFailureListener failureListener)
+  {
+    notNull("failureListener", failureListener);
+
+    this.failureListener = failureListener;
+    this.closedVersion   = new Version<>(null);
+    this.current         = new AtomicReference<>(new Version<>(resource));
+  }
+
+  /**
+   * This method acquires the current instance of the resource for reading. The instance is not closed till the returned handle is
+   * closed, even if it gets replaced in the meanwhile. This method never blocks.
+   *
+   * @return The handle to the current instance of the resource which needs to be closed once done.
+   *
+   * @throws IllegalStateException If the holder is closed.
+   */
+  public AbstractAutoCloseableResource<TResource> acquire()
+  {
+    while (true)
+    {
+      final Version<TResource> version = this.current.get();
+      if (this.closedVersion == version)
+      {
+        throw new IllegalStateException("Resource holder is closed.");
+      }
+
+      if (null == version.resource)
+      {
+        return new ReadHandle<>(this, null); // Nothing to close, so nothing to track.
+      }
+
+      if (version.tryRetain())
+      {
+        return new ReadHandle<>(this, version);
+      }
+
+      // The version got retired after we read it, so the new version is already published.
+    }
+  }
+
+  /**
+   * This method sets the instance of the resource to the new input instance. The previous instance is closed once all of its
+   * readers are done.
+   *
+   * @param newResource The new instance to be set. The instance can be null.
+   *
+   * @throws IllegalStateException If the holder is closed.
+   */
+  public void reset(final TResource newResource)
+  {
+    final Version<TResource> newVersion = new Version<>(newResource);
+
+    while (true)
+    {
+      final Version<TResource> version = currentVersion();
+      if (version.resource == newResource)
+      {
+        return;
+      }
+
+      if (this.current.compareAndSet(version, newVersion))
+      {
+        retire(version);
+
+        return;
+      }
+    }
+  }
+
+  /**
+   * This method sets the instance of the resource to the new input instance only if the current instance is the expected one.
+   * The previous instance is closed once all of its readers are done.
+   *
+   * @param expectedResource The expected current instance.
+   *
+   * @param newResource The new instance to be set. The instance can be null.
+   *
+   * @return <code>true</code> if the instance is set, <code>false</code> if the current instance is not the expected one.
+   *
+   * @throws IllegalStateException If the holder is closed.
+   */
+  public boolean compareAndReset(final TResource expectedResource, final TResource newResource)
+  {
+    while (true)
+    {
+      final Version<TResource> version = currentVersion();
+      if (version.resource != expectedResource)
+      {
+        return false;
+      }
+
+      if (expectedResource == newResource)
+      {
+        return true;
+      }
+
+      if (this.current.compareAndSet(version, new Version<>(newResource)))
+      {
+        retire(version);
+
+        return true;
+      }
+
+      // Version changed but resource is the same e.g. set back to same instance. Try again.
+    }
+  }
+
+  /**
+   * This method does the read-copy-update i.e. the {@link ResourceUpdater} creates the updated copy of the current instance which
+   * is then published if no other writer updated the resource in the meanwhile, otherwise the copy is closed and the update is
+   * retried on the latest instance. The previous instance is closed once all of its readers are done.
+   *
+   * @param updater The {@link ResourceUpdater} to create the updated copy.
+   *
+   * @return The published instance of the resource.
+   *
+   * @throws IllegalStateException If the holder is closed.
+   */
+  public TResource update(final ResourceUpdater<TResource> updater)
+  {
+    notNull("updater", updater);
+
+    while (true)
+    {
+      final Version<TResource> version     = currentVersion();
+      final TResource          newResource = updater.update(version.resource);
+      if (version.resource == newResource)
+      {
+        return newResource;
+      }
+
+      if (this.current.compareAndSet(version, new Version<>(newResource)))
+      {
+        retire(version);
+
+        return newResource;
+      }
+
+      closeResource(newResource); // Never published, so no reader can be using it.
+    }
+  }
+
+  /**
+   * This method retires the current instance of the resource which gets closed once all of its readers are done. Once closed,
+   * {@link #acquire()} and the methods to set the resource throw {@link IllegalStateException}.
+   */
+  @Override
+  public void close()
+  {
+    final Version<TResource> version = this.current.getAndSet(this.closedVersion);
+    if (this.closedVersion != version)
+    {
+      retire(version);
+    }
+  }
+
+  // Private methods
+  private Version<TResource> currentVersion()
+  {
+    final Version<TResource> version = this.current.get();
+    if (this.closedVersion == version)
+    {
+      throw new IllegalStateException("Resource holder is closed.");
+    }
+
+    return version;
+  }
+
+  private void retire(final Version<TResource> version)
+  {
+    if (version.retire())
+    {
+      closeResource(version.resource);
+    }
+  }
+
+  private void release(final Version<TResource> version)
+  {
+    if (version.release())
+    {
+      closeResource(version.resource);
+    }
+  }
+
+  private void closeResource(final TResource resource)
+  {
+    if (resource instanceof AutoCloseable)
+    {
+      try
+      {
+        ((AutoCloseable)resource).close();
+      }
+      catch (Throwable e)
+      {
+        try
+        {
+          this.failureListener.onCloseFailure((AutoCloseable)resource, e);
+        }
+        catch (RuntimeException ignored)
+        {
+          // Listener failures are ignored.
+        }
+      }
+    }
+  }
+
+  // Package private members
+  static final CloseFailureListener IGNORING_FAILURE_LISTENER = new CloseFailureListener()
+                                                                {
+                                                                  @Override
+                                                                  public void onCloseFailure(final AutoCloseable resource, final Throwable failure)
+                                                                  {
+                                                                  }
+                                                                };
+
+  // Private members
+  private final CloseFailureListener                failureListener;
+  private final Version<TResource>                  closedVersion; // Published on close.
+  private final AtomicReference<Version<TResource>> current;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * Published instance of the resource. State is the number of readers * 2 with the lowest bit set once retired.
+   */
+  private static final class Version<TResource>
+  {
+    private Version(final TResource resource)
+    {
+      this.resource = resource;
+    }
+
+    /**
+     * @return <code>true</code> if the reader is added, <code>false</code> if the version is retired.
+     */
+    private boolean tryRetain()
+    {
+      while (true)
+      {
+        final int state = this.state;
+        if (RETIRED == (state & RETIRED))
+        {
+          return false;
+        }
+
+        if (STATE_UPDATER.compareAndSet(this, state, state + ONE_READER))
+        {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * @return <code>true</code> if this was the last reader of the retired version.
+     */
+    private boolean release()
+    {
+      return RETIRED == STATE_UPDATER.addAndGet(this, -ONE_READER);
+    }
+
+    /**
+     * @return <code>true</code> if there are no readers of the version.
+     */
+    private boolean retire()
+    {
+      return 0 == STATE_UPDATER.getAndIncrement(this); // Retired only once as it is unpublished by the single successful CAS.
+    }
+
+    // Private members
+    private static final int RETIRED    = 1;
+    private static final int ONE_READER = 2;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<Version> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Version.class, "state");
+
+    private final TResource resource;
+    private volatile int    state;
+  }
+
+  private static final class ReadHandle<TResource> extends AbstractAutoCloseableResource<TResource>
+  {
+    private ReadHandle(final AtomicResourceHolder<TResource> holder, final Version<TResource> version)
+    {
+      super(null == version ? null : version.resource);
+
+      this.holder  = holder;
+      this.version = version;
+    }
+
+    @Override
+    protected void doClose()
+    {
+      this.holder.release(this.version);
+    }
+
+    // Private members
+    private final AtomicResourceHolder<TResource> holder;
+    private final Version<TResource>              version;
+  }
+}
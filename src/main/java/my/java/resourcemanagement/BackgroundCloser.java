@@ -0,0 +1,322 @@
+/********************************************************************
+ * File Name:    BackgroundCloser.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Closes resources on a background thread so that slow clean up (e.g. flushing or tearing down a connection) does not run on
+ * the latency critical thread of the caller. Resources are queued in a bounded queue and closed in batches by a single daemon
+ * thread. If the queue is full then the resource is closed on the calling thread. Failures are reported to the
+ * {@link CloseFailureListener}.
+ * <pre>
+ * <b>Example:</b>
+ *     final BackgroundCloser backgroundCloser = new BackgroundCloser(1024, failureListener);
+ *     try(final AutoCloseableContext<InitialContext> context = new AutoCloseableContext<InitialContext>(new InitialContext()))
+ *     {
+ *       context.deferCloseTo(backgroundCloser);
+ *       ...
+ *     }
+ *     // Context.close() is called on the background thread once the try-with-resource statement is exited.
+ * </pre>
+ * <p>
+ * {@link #closeAllParallel(Collection, CloseFailureListener)} closes large number of resources in parallel using fork-join e.g. on shutdown.
+ */
+public final class BackgroundCloser implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link BackgroundCloser} and starts the background thread.
+   *
+   * @param capacity The maximum number of resources waiting to be closed.
+   *
+   * @param failureListener The {@link CloseFailureListener} notified when closing a resource fails.
+   */
+  public BackgroundCloser(final int capacity, final CloseFailureListener failureListener)
+  {
+    notNull("failureListener", failureListener);
+
+    if (capacity <= 0)
+    {
+      throw new IllegalArgumentException("@capacity should be greater than zero.");
+    }
+
+    this.queue           = new ArrayBlockingQueue<>(capacity);
+    this.failureListener = failureListener;
+    this.thread          = new Thread(new Runnable()
+                                      {
+                                        @Override
+                                        public void run()
+                                        {
+                                          closeQueuedResources();
+                                        }
+                                      }, "BackgroundCloser");
+
+    this.thread.setDaemon(true);
+    this.thread.start();
+  }
+
+  /**
+   * This method queues the resource to be closed on the background thread. If the queue is full or this {@link BackgroundCloser}
+   * is closed then the resource is closed on the calling thread. In either case failures are reported to the {@link CloseFailureListener}.
+   *
+   * @param resource The resource to close.
+   */
+  public void submit(final AutoCloseable resource)
+  {
+    notNull("resource", resource);
+
+    boolean queued = false;
+    synchronized (this.queue) // Makes sure nothing is queued after STOP.
+    {
+      queued = ! this.closed && this.queue.offer(resource);
+    }
+
+    if ( ! queued )
+    {
+      closeQuietly(resource);
+    }
+  }
+
+  /**
+   * This method stops accepting new resources, waits till the queued resources are closed and stops the background thread.
+   */
+  @Override
+  public void close()
+  {
+    synchronized (this.queue)
+    {
+      if (this.closed)
+      {
+        return;
+      }
+
+      this.closed = true;
+    }
+
+    boolean interrupted = false;
+    for (;;)
+    {
+      try
+      {
+        this.queue.put(STOP);
+        this.thread.join();
+
+        break;
+      }
+      catch (InterruptedException e)
+      {
+        interrupted = true;
+      }
+    }
+
+    if (interrupted)
+    {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * This method closes the resources in parallel using a shared {@link ForkJoinPool} and waits till all of them are closed.
+   *
+   * @param resources The resources to close.
+   *
+   * @param failureListener The {@link CloseFailureListener} notified for each resource which fails to close.
+   */
+  public static void closeAllParallel(final Collection<? extends AutoCloseable> resources, final CloseFailureListener failureListener)
+  {
+    closeAllParallel(resources, failureListener, SharedForkJoinPool.INSTANCE);
+  }
+
+  /**
+   * This method closes the resources in parallel using the specified {@link ForkJoinPool} and waits till all of them are closed.
+   *
+   * @param resources The resources to close.
+   *
+   * @param failureListener The {@link CloseFailureListener} notified for each resource which fails to close.
+   *
+   * @param forkJoinPool The {@link ForkJoinPool} used to close the resources.
+   */
+  public static void closeAllParallel(final Collection<? extends AutoCloseable> resources, final CloseFailureListener failureListener, final ForkJoinPool forkJoinPool)
+  {
+    notNull("resources", resources);
+    notNull("failureListener", failureListener);
+    notNull("forkJoinPool", forkJoinPool);
+
+    final AutoCloseable[] resourceArray = resources.toArray(new AutoCloseable[resources.size()]);
+
+    forkJoinPool.invoke(new CloseAllAction(resourceArray, 0, resourceArray.length, failureListener));
+  }
+
+  // Package private methods
+  void submitDeferred(final AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose<?, ?> resource)
+  {
+    submit(new DeferredClose(resource));
+  }
+
+  // Private methods
+  private void closeQueuedResources()
+  {
+    final ArrayList<AutoCloseable> batch = new ArrayList<>(MAX_BATCH_SIZE);
+    for (;;)
+    {
+      try
+      {
+        batch.add(this.queue.take());
+      }
+      catch (InterruptedException e)
+      {
+        continue; // Only close() stops this thread.
+      }
+
+      this.queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+      for (final AutoCloseable resource : batch)
+      {
+        if (STOP == resource)
+        {
+          return; // Resources are queued in order so everything before STOP is already closed.
+        }
+
+        closeQuietly(resource);
+      }
+
+      batch.clear();
+    }
+  }
+
+  private void closeQuietly(final AutoCloseable resource)
+  {
+    closeQuietly(resource, this.failureListener);
+  }
+
+  private static void closeQuietly(final AutoCloseable resource, final CloseFailureListener failureListener)
+  {
+    try
+    {
+      resource.close();
+    }
+    catch (Throwable e)
+    {
+      try
+      {
+        if (resource instanceof DeferredClose)
+        {
+          failureListener.onCloseFailure(((DeferredClose)resource).resource, e instanceof ResourceCloseException ? e.getCause() : e); // Report what the resource threw.
+        }
+        else
+        {
+          failureListener.onCloseFailure(resource, e);
+        }
+      }
+      catch (Throwable ignored)
+      {
+        // Listener failure must not stop closing the other resources.
+      }
+    }
+  }
+
+  // Private members
+  private static final int           MAX_BATCH_SIZE      = 64;
+  private static final int           PARALLEL_BATCH_SIZE = 32; // Resources closed sequentially by a single fork-join task.
+  private static final AutoCloseable STOP                = new AutoCloseable()
+                                                           {
+                                                             @Override
+                                                             public void close()
+                                                             {
+                                                             }
+                                                           };
+
+  private final ArrayBlockingQueue<AutoCloseable> queue;
+  private final CloseFailureListener              failureListener;
+  private final Thread                            thread;
+  private boolean                                 closed; // Guarded by queue.
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private static final class DeferredClose implements AutoCloseable
+  {
+    private DeferredClose(final AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose<?, ?> resource)
+    {
+      this.resource = resource;
+    }
+
+    @Override
+    public void close() throws ResourceCloseException
+    {
+      try
+      {
+        this.resource.closeNow();
+      }
+      catch (RuntimeException e)
+      {
+        throw e;
+      }
+      catch (Exception e)
+      {
+        throw new ResourceCloseException(e);
+      }
+    }
+
+    // Private members
+    private final AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose<?, ?> resource;
+  }
+
+  private static final class CloseAllAction extends RecursiveAction
+  {
+    private CloseAllAction(final AutoCloseable[] resources, final int start, final int end, final CloseFailureListener failureListener)
+    {
+      this.resources       = resources;
+      this.start           = start;
+      this.end             = end;
+      this.failureListener = failureListener;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (this.end - this.start <= PARALLEL_BATCH_SIZE)
+      {
+        for (int nIndex = this.start; nIndex < this.end; nIndex++)
+        {
+          if (null != this.resources[nIndex])
+          {
+            closeQuietly(this.resources[nIndex], this.failureListener);
+          }
+        }
+      }
+      else
+      {
+        final int middle = (this.start + this.end) >>> 1;
+
+        invokeAll(new CloseAllAction(this.resources, this.start, middle, this.failureListener),
+                  new CloseAllAction(this.resources, middle, this.end, this.failureListener));
+      }
+    }
+
+    // Private members
+    private static final long serialVersionUID = 1L;
+
+    private final AutoCloseable[]      resources;
+    private final int                  start;
+    private final int                  end;
+    private final CloseFailureListener failureListener;
+  }
+
+  private static final class SharedForkJoinPool
+  {
+    private static final ForkJoinPool INSTANCE = new ForkJoinPool(); // Created on first use. Worker threads are daemon threads.
+  }
+}
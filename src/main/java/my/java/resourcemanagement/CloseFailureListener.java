@@ -0,0 +1,26 @@
+/********************************************************************
+ * File Name:    CloseFailureListener.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Listener notified when closing a resource fails and there is no caller to throw the exception to e.g. when the resource is
+ * closed in background by {@link BackgroundCloser}.
+ */
+public interface CloseFailureListener
+{
+  /**
+   * This method is called when closing the resource fails. Exceptions thrown by this method are ignored.
+   *
+   * @param resource The resource which failed to close.
+   *
+   * @param failure The exception thrown while closing the resource.
+   */
+  void onCloseFailure(AutoCloseable resource, Throwable failure);
+}
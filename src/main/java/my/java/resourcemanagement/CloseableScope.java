@@ -0,0 +1,146 @@
+/********************************************************************
+ * File Name:    CloseableScope.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.util.Arrays;
+
+/**
+ * Scope holding any number of {@link AutoCloseable} resources which are closed together, in the reverse order of registration,
+ * when the scope is closed. It replaces deeply nested try-with-resource statements.
+ * <pre>
+ * <b>Example:</b>
+ *     try(final CloseableScope scope = new CloseableScope())
+ *     {
+ *       final AutoCloseableLock<ReentrantLock>     lock    = scope.register(new AutoCloseableLock<ReentrantLock>(someLock));
+ *       final AutoCloseableContext<InitialContext> context = scope.register(new AutoCloseableContext<InitialContext>(new InitialContext()));
+ *       ...
+ *     }
+ *     // context is closed and then the lock is released once the try-with-resource statement is exited.
+ * </pre>
+ * <p>
+ * If closing a resource throws then the remaining resources are still closed. The first exception is thrown once all the resources are
+ * closed and the later ones are added to it as suppressed exceptions, same as try-with-resource statement. A checked exception is
+ * thrown wrapped in {@link ResourceCloseException}.
+ * <p>
+ * The resources are held in an array which is retained when the scope is closed, so a scope can be reused e.g. one scope per request
+ * handling thread, without allocating on each request.
+ * <p>
+ * <strong>Note:</strong> {@link CloseableScope} is not thread safe.
+ */
+public final class CloseableScope implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link CloseableScope} with default initial capacity.
+   */
+  public CloseableScope()
+  {
+    this(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates instance of {@link CloseableScope}.
+   *
+   * @param initialCapacity The number of resources the scope can hold before growing its storage.
+   */
+  public CloseableScope(final int initialCapacity)
+  {
+    if (initialCapacity <= 0)
+    {
+      throw new IllegalArgumentException("@initialCapacity should be greater than zero.");
+    }
+
+    this.resources = new AutoCloseable[initialCapacity];
+  }
+
+  /**
+   * This method registers the resource to be closed when the scope is closed.
+   *
+   * @param resource The resource to register.
+   *
+   * @return The input <code>resource</code> so that it can be registered where it is created.
+   */
+  public <TResource extends AutoCloseable> TResource register(final TResource resource)
+  {
+    notNull("resource", resource);
+
+    if (this.nResources == this.resources.length)
+    {
+      this.resources = Arrays.copyOf(this.resources, this.resources.length << 1);
+    }
+
+    this.resources[this.nResources++] = resource;
+
+    return resource;
+  }
+
+  /**
+   * @return The number of resources registered and not yet closed.
+   */
+  public int size()
+  {
+    return this.nResources;
+  }
+
+  /**
+   * This method closes the registered resources in the reverse order of registration. The scope can be reused afterwards.
+   *
+   * @throws ResourceCloseException If the first failing resource throws checked exception, which is set as the cause. The exceptions
+   * from the other failing resources are added as suppressed. Unchecked exceptions are thrown as they are, with the suppressed exceptions.
+   */
+  @Override
+  public void close() throws ResourceCloseException
+  {
+    Throwable failure = null;
+
+    while (0 < this.nResources)
+    {
+      final AutoCloseable resource = this.resources[--this.nResources];
+
+      this.resources[this.nResources] = null; // Do not hold on to closed resources as storage is retained.
+
+      try
+      {
+        resource.close();
+      }
+      catch (Throwable e)
+      {
+        if (null == failure)
+        {
+          failure = e instanceof RuntimeException || e instanceof Error ? e : new ResourceCloseException(e);
+        }
+        else
+        {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    if (failure instanceof ResourceCloseException)
+    {
+      throw (ResourceCloseException)failure;
+    }
+    else if (failure instanceof RuntimeException)
+    {
+      throw (RuntimeException)failure;
+    }
+    else if (failure instanceof Error)
+    {
+      throw (Error)failure;
+    }
+  }
+
+  // Private members
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private AutoCloseable[] resources;
+  private int             nResources;
+}
@@ -0,0 +1,113 @@
+/********************************************************************
+ * File Name:    DirectBufferCleaner.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees the native memory of direct and memory-mapped {@link ByteBuffer} instances without waiting for the garbage collector.
+ * <p>
+ * There is no public API for this, so <code>sun.misc.Unsafe.invokeCleaner()</code> is used on Java 9 and above and the
+ * <code>cleaner()</code> of the buffer is used on older versions. If neither is available then the memory is left to be freed by
+ * the garbage collector.
+ */
+final class DirectBufferCleaner
+{
+  /**
+   * This method frees the native memory of the buffer. The buffer must not be used afterwards, accessing it can crash the JVM.
+   *
+   * @param buffer The direct buffer allocated by {@link ByteBuffer#allocateDirect(int)} or mapped by
+   * {@link java.nio.channels.FileChannel#map}. Must not be a slice or a duplicate.
+   */
+  static void free(final ByteBuffer buffer)
+  {
+    if (null == CLEAN || ! buffer.isDirect())
+    {
+      return;
+    }
+
+    try
+    {
+      CLEAN.invoke(buffer);
+    }
+    catch (RuntimeException | Error e)
+    {
+      throw e;
+    }
+    catch (Throwable e)
+    {
+      throw new IllegalStateException("Failed to free the direct buffer.", e);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the native memory can be freed deterministically on this JVM.
+   */
+  static boolean isSupported()
+  {
+    return null != CLEAN;
+  }
+
+  // Private methods
+  private static MethodHandle findClean()
+  {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    try
+    {
+      final Class<?> unsafeClass   = Class.forName("sun.misc.Unsafe");
+      final Method   invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class); // Java 9 and above.
+
+      final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+
+      return lookup.unreflect(invokeCleaner).bindTo(theUnsafe.get(null));
+    }
+    catch (Exception ignored)
+    {
+      // Try the cleaner of the buffer.
+    }
+
+    try
+    {
+      final ByteBuffer buffer = ByteBuffer.allocateDirect(1);
+
+      final Method cleaner = buffer.getClass().getMethod("cleaner");
+      cleaner.setAccessible(true);
+
+      final Method clean = cleaner.getReturnType().getMethod("clean");
+      clean.setAccessible(true);
+
+      final MethodHandle cleanerHandle = lookup.unreflect(cleaner).asType(MethodType.methodType(Object.class, ByteBuffer.class));
+      final MethodHandle cleanHandle   = lookup.unreflect(clean).asType(MethodType.methodType(void.class, Object.class));
+
+      final MethodHandle handle = MethodHandles.filterReturnValue(cleanerHandle, cleanHandle);
+      handle.invoke(buffer);
+
+      return handle;
+    }
+    catch (Throwable ignored)
+    {
+      return null; // Left to the garbage collector.
+    }
+  }
+
+  private DirectBufferCleaner()
+  {
+  }
+
+  // Private members
+  private static final MethodHandle CLEAN = findClean();
+}
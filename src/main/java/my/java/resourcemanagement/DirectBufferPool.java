@@ -0,0 +1,207 @@
+/********************************************************************
+ * File Name:    DirectBufferPool.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pool of direct {@link ByteBuffer} instances, so that I/O paths can reuse the native memory instead of allocating it. Buffers are
+ * pooled by size class i.e. powers of two between the minimum and the maximum buffer size, and a request is served from the smallest
+ * size class which fits it.
+ * <pre>
+ * <b>Example:</b>
+ *     private final DirectBufferPool bufferPool = new DirectBufferPool(4 * 1024, 1024 * 1024, 64);
+ *     ...
+ *     try(final AbstractAutoCloseableResource<ByteBuffer> buffer = bufferPool.borrow(messageSize))
+ *     {
+ *       channel.read(buffer.get());
+ *       ...
+ *     } // Buffer is returned to the pool.
+ * </pre>
+ * <p>
+ * The borrowed buffer is cleared and its limit is set to the requested size. Borrowing never blocks: requests larger than the maximum
+ * buffer size, or requests for a size class whose buffers are all borrowed, get an unpooled {@link DirectBufferResource} which is
+ * freed on close. Buffers are freed when the pool is closed, the borrowed ones once they are returned.
+ * <p>
+ * <strong>Note:</strong> The buffer must not be used after it is returned to the pool.
+ */
+public class DirectBufferPool implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link DirectBufferPool}. Buffers are allocated lazily when borrowed.
+   *
+   * @param minBufferSize The size of the smallest size class in bytes. Rounded up to power of two. Must be greater than zero and not
+   * greater than 1 GB (2^30 bytes).
+   *
+   * @param maxBufferSize The size of the largest size class in bytes. Rounded up to power of two. Must not be less than
+   * <code>minBufferSize</code> and not greater than 1 GB (2^30 bytes).
+   *
+   * @param maxBuffersPerSizeClass The maximum number of pooled buffers, idle or borrowed, of each size class. Must be greater than zero.
+   */
+  public DirectBufferPool(final int minBufferSize, final int maxBufferSize, final int maxBuffersPerSizeClass)
+  {
+    if (minBufferSize <= 0)
+    {
+      throw new IllegalArgumentException("@minBufferSize should be greater than zero.");
+    }
+
+    if (minBufferSize > MAX_SIZE_CLASS)
+    {
+      throw new IllegalArgumentException("@minBufferSize should not be greater than 1 GB.");
+    }
+
+    if (maxBufferSize < minBufferSize)
+    {
+      throw new IllegalArgumentException("@maxBufferSize should not be less than @minBufferSize.");
+    }
+
+    if (maxBufferSize > MAX_SIZE_CLASS)
+    {
+      throw new IllegalArgumentException("@maxBufferSize should not be greater than 1 GB.");
+    }
+
+    if (maxBuffersPerSizeClass <= 0)
+    {
+      throw new IllegalArgumentException("@maxBuffersPerSizeClass should be greater than zero.");
+    }
+
+    this.minSizeShift = ceilLog2(minBufferSize);
+    this.sizeClasses  = newSizeClasses(this.minSizeShift, ceilLog2(maxBufferSize), maxBuffersPerSizeClass);
+  }
+
+  /**
+   * This method borrows a buffer which can hold the requested number of bytes.
+   *
+   * @param size The number of bytes required. Must be greater than zero.
+   *
+   * @return The {@link AbstractAutoCloseableResource} holding the buffer. Closing it returns the buffer to the pool.
+   *
+   * @throws IllegalStateException If the pool is closed.
+   */
+  public AbstractAutoCloseableResource<ByteBuffer> borrow(final int size)
+  {
+    if (size <= 0)
+    {
+      throw new IllegalArgumentException("@size should be greater than zero.");
+    }
+
+    if (this.closed)
+    {
+      throw new IllegalStateException("Resource pool is closed.");
+    }
+
+    final int nSizeClass = Math.max(0, ceilLog2(size) - this.minSizeShift);
+    if (nSizeClass >= this.sizeClasses.length)
+    {
+      return limit(new DirectBufferResource(size), size); // Too large to pool.
+    }
+
+    AbstractAutoCloseableResource<ByteBuffer> buffer = null;
+    try
+    {
+      buffer = this.sizeClasses[nSizeClass].borrow(0, TimeUnit.NANOSECONDS);
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt(); // Preserve the interrupt, caller can check it.
+    }
+
+    return limit(null == buffer ? new DirectBufferResource(size) : buffer, size);
+  }
+
+  /**
+   * @return The number of size classes.
+   */
+  public int getSizeClassCount()
+  {
+    return this.sizeClasses.length;
+  }
+
+  /**
+   * This method closes the pool and frees the idle buffers. Borrowed buffers are freed when they are returned.
+   */
+  @Override
+  public void close()
+  {
+    this.closed = true;
+
+    for (final ResourcePool<ByteBuffer> sizeClass : this.sizeClasses)
+    {
+      sizeClass.close();
+    }
+  }
+
+  // Private methods
+  private static AbstractAutoCloseableResource<ByteBuffer> limit(final AbstractAutoCloseableResource<ByteBuffer> buffer, final int size)
+  {
+    buffer.get().clear();
+    buffer.get().limit(size);
+
+    return buffer;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ResourcePool<ByteBuffer>[] newSizeClasses(final int minSizeShift, final int maxSizeShift, final int maxBuffersPerSizeClass)
+  {
+    final ResourcePool<ByteBuffer>[] sizeClasses = (ResourcePool<ByteBuffer>[])new ResourcePool<?>[maxSizeShift - minSizeShift + 1]; // Generic array creation is not allowed.
+    for (int nSizeClass = 0; nSizeClass < sizeClasses.length; nSizeClass++)
+    {
+      sizeClasses[nSizeClass] = new ResourcePool<>(new BufferFactory(1 << (minSizeShift + nSizeClass)), maxBuffersPerSizeClass);
+    }
+
+    return sizeClasses;
+  }
+
+  private static int ceilLog2(final int value)
+  {
+    return 32 - Integer.numberOfLeadingZeros(value - 1);
+  }
+
+  // Private members
+  private static final int MAX_SIZE_CLASS = 1 << 30;
+
+  private final int                        minSizeShift;
+  private final ResourcePool<ByteBuffer>[] sizeClasses;
+  private volatile boolean                 closed;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private static final class BufferFactory implements PooledResourceFactory<ByteBuffer>
+  {
+    private BufferFactory(final int bufferSize)
+    {
+      this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public ByteBuffer create()
+    {
+      return DirectBufferResource.allocate(this.bufferSize);
+    }
+
+    @Override
+    public boolean validate(final ByteBuffer buffer)
+    {
+      buffer.clear();
+
+      return true;
+    }
+
+    @Override
+    public void destroy(final ByteBuffer buffer)
+    {
+      DirectBufferCleaner.free(buffer);
+    }
+
+    // Private members
+    private final int bufferSize;
+  }
+}
@@ -0,0 +1,78 @@
+/********************************************************************
+ * File Name:    DirectBufferResource.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Class to hold a direct {@link ByteBuffer} whose native memory is freed when the instance is closed instead of when the buffer gets
+ * garbage collected.
+ * <pre>
+ * <b>Example:</b>
+ *     try(final DirectBufferResource buffer = new DirectBufferResource(64 * 1024))
+ *     {
+ *       channel.read(buffer.get());
+ *       ...
+ *     }
+ * </pre>
+ * <p>
+ * <strong>Note:</strong> The buffer, or any slice or duplicate of it, must not be used after the instance is closed. Accessing freed
+ * native memory can crash the JVM.
+ */
+public class DirectBufferResource extends AbstractAutoCloseableResource<ByteBuffer>
+{
+  /**
+   * Creates instance of {@link DirectBufferResource} holding a new direct buffer.
+   *
+   * @param capacity The capacity of the buffer in bytes. Must be greater than zero.
+   */
+  public DirectBufferResource(final int capacity)
+  {
+    super(allocate(capacity));
+  }
+
+  /**
+   * Creates instance of {@link DirectBufferResource} taking ownership of the direct buffer.
+   *
+   * @param buffer The direct buffer allocated by {@link ByteBuffer#allocateDirect(int)}. Must not be a slice or a duplicate.
+   */
+  public DirectBufferResource(final ByteBuffer buffer)
+  {
+    super(requireDirect(buffer));
+  }
+
+  @Override
+  protected void doClose()
+  {
+    DirectBufferCleaner.free(this.get());
+  }
+
+  // Package private methods
+  static ByteBuffer allocate(final int capacity)
+  {
+    if (capacity <= 0)
+    {
+      throw new IllegalArgumentException("@capacity should be greater than zero.");
+    }
+
+    return ByteBuffer.allocateDirect(capacity);
+  }
+
+  // Private methods
+  private static ByteBuffer requireDirect(final ByteBuffer buffer)
+  {
+    if (null == buffer || ! buffer.isDirect())
+    {
+      throw new IllegalArgumentException("@buffer should be a direct buffer.");
+    }
+
+    return buffer;
+  }
+}
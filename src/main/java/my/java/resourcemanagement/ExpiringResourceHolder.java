@@ -0,0 +1,289 @@
+/********************************************************************
+ * File Name:    ExpiringResourceHolder.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class to hold resource instance of type <code>TResource</code> which goes stale after some time e.g. credentials or configuration
+ * snapshots. The resource is rebuilt in background before it expires (refresh-ahead), so readers always get the current instance
+ * without blocking. The replaced instance is closed, if it implements {@link AutoCloseable}, once its readers are done.
+ * <pre>
+ * <b>Example:</b>
+ *     // Credentials are valid for 60 minutes and are refreshed 5 minutes before expiry.
+ *     private final ExpiringResourceHolder<Credentials> credentials = new ExpiringResourceHolder<Credentials>(credentialsFactory, 60, 5, TimeUnit.MINUTES);
+ *     ...
+ *     try(final AbstractAutoCloseableResource<Credentials> current = credentials.acquire())
+ *     {
+ *       connect(current.get());
+ *     }
+ * </pre>
+ * <p>
+ * If the refresh fails, including with an {@link Error}, then the current instance is kept and the refresh is retried after a quarter
+ * of the refresh-ahead time, or a hundredth of the time to live if there is no refresh-ahead, but not sooner than 10 milliseconds.
+ * {@link #isExpired()} tells whether the current instance is past its time to live and {@link #getLastRefreshFailure()} returns the
+ * cause.
+ *
+ * @param <TResource> The type of the resource object.
+ */
+public final class ExpiringResourceHolder<TResource> implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link ExpiringResourceHolder} with its own background thread to refresh the resource. The resource is created
+   * on the calling thread. Failures in closing the replaced resources are ignored.
+   *
+   * @param factory The {@link Callable} which creates the resource.
+   *
+   * @param timeToLive The time for which the resource is valid. Must be greater than zero.
+   *
+   * @param refreshAhead The time before expiry when the resource is refreshed. Must be less than the time to live.
+   *
+   * @param unit The {@link TimeUnit} of the times.
+   *
+   * @throws IllegalStateException If the factory throws checked exception. The exception is set as the cause.
+   */
+  public ExpiringResourceHolder(final Callable<TResource> factory, final long timeToLive, final long refreshAhead, final TimeUnit unit)
+  {
+    this(factory, timeToLive, refreshAhead, unit, null, AtomicResourceHolder.IGNORING_FAILURE_LISTENER);
+  }
+
+  /**
+   * Creates instance of {@link ExpiringResourceHolder}. The resource is created on the calling thread.
+   *
+   * @param factory The {@link Callable} which creates the resource.
+   *
+   * @param timeToLive The time for which the resource is valid. Must be greater than zero.
+   *
+   * @param refreshAhead The time before expiry when the resource is refreshed. Must be less than the time to live.
+   *
+   * @param unit The {@link TimeUnit} of the times.
+   *
+   * @param scheduler The {@link ScheduledExecutorService} to refresh the resource on. It is not shut down when this instance is closed.
+   * Pass null to use own background thread.
+   *
+   * @param failureListener The {@link CloseFailureListener} to notify when closing a replaced resource fails.
+   *
+   * @throws IllegalStateException If the factory throws checked exception. The exception is set as the cause.
+   */
+  public ExpiringResourceHolder(final Callable<TResource> factory, final long timeToLive, final long refreshAhead, final TimeUnit unit,
+                                final ScheduledExecutorService scheduler, final CloseFailureListener failureListener)
+  {
+    notNull("factory", factory);
+    notNull("unit", unit);
+    notNull("failureListener", failureListener);
+
+    if (timeToLive <= 0)
+    {
+      throw new IllegalArgumentException("@timeToLive should be greater than zero.");
+    }
+
+    if (refreshAhead < 0 || refreshAhead >= timeToLive)
+    {
+      throw new IllegalArgumentException("@refreshAhead should be between zero and @timeToLive.");
+    }
+
+    this.factory           = factory;
+    this.timeToLiveNanos   = unit.toNanos(timeToLive);
+    this.refreshDelayNanos = unit.toNanos(timeToLive - refreshAhead);
+    this.retryDelayNanos   = Math.max(MIN_RETRY_DELAY_NANOS, 0 < refreshAhead ? unit.toNanos(refreshAhead) / 4 : this.timeToLiveNanos / 100);
+    this.expiresAtNanos    = System.nanoTime() + this.timeToLiveNanos;
+    this.holder            = new AtomicResourceHolder<>(createResource(), failureListener); // Created before the thread, nothing to clean up on failure.
+    this.ownsScheduler     = null == scheduler;
+    this.scheduler         = this.ownsScheduler ? Executors.newSingleThreadScheduledExecutor(DAEMON_THREAD_FACTORY) : scheduler;
+
+    scheduleRefresh(this.refreshDelayNanos);
+  }
+
+  /**
+   * This method acquires the current instance of the resource for reading. The instance is not closed till the returned handle is
+   * closed, even if it gets refreshed in the meanwhile. This method never blocks.
+   *
+   * @return The handle to the current instance of the resource which needs to be closed once done.
+   *
+   * @throws IllegalStateException If the holder is closed.
+   */
+  public AbstractAutoCloseableResource<TResource> acquire()
+  {
+    return this.holder.acquire();
+  }
+
+  /**
+   * This method rebuilds the resource on the calling thread and replaces the current instance.
+   *
+   * @throws IllegalStateException If the holder is closed or if the factory throws checked exception. The checked exception is set
+   * as the cause.
+   */
+  public void refresh()
+  {
+    final TResource resource       = createResource();
+    final long      expiresAtNanos = System.nanoTime() + this.timeToLiveNanos;
+
+    try
+    {
+      this.holder.reset(resource);
+    }
+    catch (IllegalStateException e)
+    {
+      closeUnpublished(resource); // Closed in the meanwhile.
+
+      throw e;
+    }
+
+    this.expiresAtNanos = expiresAtNanos;
+  }
+
+  /**
+   * @return <code>true</code> if the current instance of the resource is past its time to live i.e. refreshes are failing.
+   */
+  public boolean isExpired()
+  {
+    return System.nanoTime() - this.expiresAtNanos >= 0;
+  }
+
+  /**
+   * @return The exception thrown by the last background refresh if it failed, otherwise null.
+   */
+  public Throwable getLastRefreshFailure()
+  {
+    return this.lastRefreshFailure;
+  }
+
+  /**
+   * This method stops the background refresh and closes the current instance of the resource once its readers are done.
+   */
+  @Override
+  public void close()
+  {
+    synchronized (this)
+    {
+      if (this.closed)
+      {
+        return;
+      }
+
+      this.closed = true;
+
+      if (null != this.refreshFuture)
+      {
+        this.refreshFuture.cancel(false);
+      }
+    }
+
+    if (this.ownsScheduler)
+    {
+      this.scheduler.shutdownNow();
+    }
+
+    this.holder.close();
+  }
+
+  // Private methods
+  private TResource createResource()
+  {
+    try
+    {
+      return this.factory.call();
+    }
+    catch (RuntimeException e)
+    {
+      throw e;
+    }
+    catch (Exception e)
+    {
+      throw new IllegalStateException("Failed to create the resource.", e);
+    }
+  }
+
+  private void closeUnpublished(final TResource resource)
+  {
+    if (resource instanceof AutoCloseable)
+    {
+      try
+      {
+        ((AutoCloseable)resource).close();
+      }
+      catch (Exception ignored)
+      {
+        // Never published, nobody to report to.
+      }
+    }
+  }
+
+  private synchronized void scheduleRefresh(final long delayNanos)
+  {
+    if ( ! this.closed )
+    {
+      this.refreshFuture = this.scheduler.schedule(new Runnable()
+                                                   {
+                                                     @Override
+                                                     public void run()
+                                                     {
+                                                       refreshInBackground();
+                                                     }
+                                                   }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void refreshInBackground()
+  {
+    long delayNanos = this.retryDelayNanos;
+
+    try
+    {
+      refresh();
+
+      this.lastRefreshFailure = null;
+
+      delayNanos = this.refreshDelayNanos;
+    }
+    catch (Throwable e) // Errors too, otherwise refreshing would stop and the expired resource would be served silently.
+    {
+      this.lastRefreshFailure = e;
+    }
+    finally
+    {
+      scheduleRefresh(delayNanos);
+    }
+  }
+
+  // Private members
+  private static final long MIN_RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10); // Keeps a failing factory off a hot loop.
+
+  private static final ThreadFactory DAEMON_THREAD_FACTORY = new ThreadFactory()
+                                                             {
+                                                               @Override
+                                                               public Thread newThread(final Runnable runnable)
+                                                               {
+                                                                 final Thread thread = new Thread(runnable, "ExpiringResourceHolder");
+                                                                 thread.setDaemon(true);
+
+                                                                 return thread;
+                                                               }
+                                                             };
+
+  private final Callable<TResource>             factory;
+  private final long                            timeToLiveNanos;
+  private final long                            refreshDelayNanos;
+  private final long                            retryDelayNanos;
+  private final boolean                         ownsScheduler;
+  private final ScheduledExecutorService        scheduler;
+  private final AtomicResourceHolder<TResource> holder;
+  private volatile long                         expiresAtNanos;
+  private volatile Throwable                    lastRefreshFailure;
+  private ScheduledFuture<?>                    refreshFuture; // Guarded by this.
+  private boolean                               closed;        // Guarded by this.
+}
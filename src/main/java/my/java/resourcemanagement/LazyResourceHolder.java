@@ -0,0 +1,166 @@
+/********************************************************************
+ * File Name:    LazyResourceHolder.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Class to hold resource instance of type <code>TResource</code> which is created on first use. The resource is created exactly once
+ * even if many threads call {@link #get()} at the same time. If creating the resource fails then the exception is thrown to the caller
+ * and the next call to {@link #get()} tries again.
+ * <pre>
+ * <b>Example:</b>
+ *     private final LazyResourceHolder<ExpensiveService> service = new LazyResourceHolder<ExpensiveService>(new Callable<ExpensiveService>()
+ *                                                                  {
+ *                                                                    &#64;Override
+ *                                                                    public ExpensiveService call() throws Exception
+ *                                                                    {
+ *                                                                      return new ExpensiveService(...);
+ *                                                                    }
+ *                                                                  });
+ *     ...
+ *     service.get().doSomething(); // Service is created on first call.
+ * </pre>
+ * <p>
+ * Once created, the resource is published through an immutable holder object with a <code>final</code> field. Final field semantics
+ * guarantee that a thread seeing the holder also sees the fully constructed resource, so {@link #get()} is a plain field load without
+ * <code>volatile</code> or locking. A thread not seeing the holder yet falls back to the synchronized path.
+ *
+ * @param <TResource> The type of the resource object.
+ */
+public final class LazyResourceHolder<TResource> implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link LazyResourceHolder}. The resource is not created till {@link #get()} is called.
+   *
+   * @param factory The {@link Callable} which creates the resource.
+   */
+  public LazyResourceHolder(final Callable<TResource> factory)
+  {
+    notNull("factory", factory);
+
+    this.factory = factory;
+  }
+
+  /**
+   * @return The instance of the resource. The resource is created if this is the first call.
+   *
+   * @throws IllegalStateException If the holder is closed or if the factory throws checked exception. The checked exception
+   * is set as the cause. Unchecked exceptions thrown by the factory are thrown as is.
+   */
+  public TResource get()
+  {
+    final Holder<TResource> holder = this.holder; // Plain read, see class comments.
+    if (null != holder)
+    {
+      return holder.resource;
+    }
+
+    return initialize();
+  }
+
+  /**
+   * @return <code>true</code> if the resource is created, <code>false</code> otherwise.
+   */
+  public synchronized boolean isInitialized()
+  {
+    return null != this.holder;
+  }
+
+  /**
+   * This method closes the resource if it is created and implements {@link AutoCloseable}. Once closed, {@link #get()} throws
+   * {@link IllegalStateException} on the closing thread and on the threads which synchronize with it later (e.g. via
+   * {@link #isInitialized()}). As {@link #get()} does not synchronize, other threads may still get the closed resource, so this
+   * method should be called only once the other threads have stopped using the resource e.g. on shutdown.
+   *
+   * @throws ResourceCloseException If closing the resource throws checked exception, which is set as the cause. Unchecked exceptions
+   * are thrown as is.
+   */
+  @Override
+  public void close() throws ResourceCloseException
+  {
+    final Holder<TResource> holder;
+    synchronized (this)
+    {
+      if (this.closed)
+      {
+        return;
+      }
+
+      this.closed = true;
+
+      holder      = this.holder;
+      this.holder = null;
+    }
+
+    if (null != holder && holder.resource instanceof AutoCloseable)
+    {
+      try
+      {
+        ((AutoCloseable)holder.resource).close();
+      }
+      catch (RuntimeException e)
+      {
+        throw e;
+      }
+      catch (Exception e)
+      {
+        throw new ResourceCloseException(e);
+      }
+    }
+  }
+
+  // Private methods
+  private synchronized TResource initialize()
+  {
+    if (this.closed)
+    {
+      throw new IllegalStateException("Resource holder is closed.");
+    }
+
+    if (null == this.holder) // Some other thread might have created it while we were waiting.
+    {
+      try
+      {
+        this.holder = new Holder<>(this.factory.call());
+      }
+      catch (RuntimeException e)
+      {
+        throw e;
+      }
+      catch (Exception e)
+      {
+        throw new IllegalStateException("Failed to create the resource.", e);
+      }
+    }
+
+    return this.holder.resource;
+  }
+
+  // Private members
+  private final Callable<TResource> factory;
+  private Holder<TResource>         holder; // Deliberately not volatile.
+  private boolean                   closed; // Guarded by this.
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private static final class Holder<TResource>
+  {
+    private Holder(final TResource resource)
+    {
+      this.resource = resource;
+    }
+
+    // Private members
+    private final TResource resource;
+  }
+}
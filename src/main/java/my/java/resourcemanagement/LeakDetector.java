@@ -0,0 +1,179 @@
+/********************************************************************
+ * File Name:    LeakDetector.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Detects {@link AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose} instances (e.g. {@link my.java.util.concurrent.locks.AutoCloseableLock}
+ * or pooled resources) which are garbage collected without being closed. Only a fraction of the resources, as per the sampling rate,
+ * are tracked and the creation stack trace is captured only for them, so that detection can be left on in production. Sampling is off
+ * by default.
+ * <pre>
+ * <b>Example:</b>
+ *     LeakDetector.setSamplingRate(0.01); // Track 1% of the resources.
+ * </pre>
+ * <p>
+ * Tracked resources are watched using {@link PhantomReference}. Leaks are reported to the {@link ResourceLeakListener} whenever a new
+ * resource gets sampled or when {@link #reportLeaks()} is called. There is no default reporting, leaks are only counted (see
+ * {@link #getLeakCount()}) till a listener is set using {@link #setLeakListener(ResourceLeakListener)}.
+ */
+public final class LeakDetector
+{
+  /**
+   * This method sets the fraction of the resources to track.
+   *
+   * @param samplingRate Value between 0 (tracking is off) and 1 (all resources are tracked).
+   */
+  public static void setSamplingRate(final double samplingRate)
+  {
+    if ( ! (0 <= samplingRate && samplingRate <= 1) )
+    {
+      throw new IllegalArgumentException("@samplingRate should be between 0 and 1.");
+    }
+
+    samplingRateValue = samplingRate;
+  }
+
+  /**
+   * @return The fraction of the resources being tracked.
+   */
+  public static double getSamplingRate()
+  {
+    return samplingRateValue;
+  }
+
+  /**
+   * This method sets the {@link ResourceLeakListener} to notify when a leak is detected.
+   *
+   * @param leakListener The {@link ResourceLeakListener}.
+   */
+  public static void setLeakListener(final ResourceLeakListener leakListener)
+  {
+    notNull("leakListener", leakListener);
+
+    listener = leakListener;
+  }
+
+  /**
+   * @return The number of leaks detected so far, whether or not they were reported to a listener.
+   */
+  public static long getLeakCount()
+  {
+    return LEAK_COUNT.get();
+  }
+
+  /**
+   * This method reports the leaked resources which got garbage collected since the last call.
+   *
+   * @return The number of leaks reported.
+   */
+  public static int reportLeaks()
+  {
+    int nLeaks = 0;
+
+    Tracker tracker = null;
+    while (null != (tracker = (Tracker)QUEUE.poll()))
+    {
+      if (TRACKERS.remove(tracker)) // Closed trackers are already removed.
+      {
+        nLeaks++;
+        LEAK_COUNT.incrementAndGet();
+
+        try
+        {
+          listener.onLeak(tracker.resourceType, tracker.creationStack);
+        }
+        catch (RuntimeException ignored)
+        {
+          // Listener failure must not stop reporting other leaks.
+        }
+      }
+    }
+
+    return nLeaks;
+  }
+
+  // Package private methods
+  /**
+   * @return The {@link Tracker} for the resource if it is sampled, otherwise null.
+   */
+  static Tracker track(final Object resource)
+  {
+    final double samplingRate = samplingRateValue;
+    if (0 == samplingRate || (samplingRate < 1 && ThreadLocalRandom.current().nextDouble() >= samplingRate))
+    {
+      return null; // Fast path. Nothing is allocated for resources which are not sampled.
+    }
+
+    reportLeaks();
+
+    final Tracker tracker = new Tracker(resource);
+
+    TRACKERS.add(tracker);
+
+    return tracker;
+  }
+
+  private LeakDetector()
+  {
+  }
+
+  // Private members
+  private static final ReferenceQueue<Object> QUEUE      = new ReferenceQueue<>();
+  private static final Set<Tracker>           TRACKERS   = Collections.newSetFromMap(new ConcurrentHashMap<Tracker, Boolean>()); // Keeps the trackers reachable till the resource is closed or collected.
+  private static final AtomicLong             LEAK_COUNT = new AtomicLong();
+
+  private static volatile double               samplingRateValue = 0;
+  private static volatile ResourceLeakListener listener          = new ResourceLeakListener()
+                                                                   {
+                                                                     @Override
+                                                                     public void onLeak(final String resourceType, final Throwable creationStack)
+                                                                     {
+                                                                     }
+                                                                   };
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * Tracks a single sampled resource.
+   */
+  static final class Tracker extends PhantomReference<Object>
+  {
+    private Tracker(final Object resource)
+    {
+      super(resource, QUEUE);
+
+      this.resourceType  = resource.getClass().getName();
+      this.creationStack = new Throwable("Leaked resource was created here.");
+    }
+
+    /**
+     * This method stops tracking as the resource is closed.
+     */
+    void close()
+    {
+      TRACKERS.remove(this);
+      clear();
+    }
+
+    // Private members
+    private final String    resourceType;
+    private final Throwable creationStack;
+  }
+}
@@ -0,0 +1,103 @@
+/********************************************************************
+ * File Name:    MappedFileRegionResource.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Class to hold a region of a file mapped into memory which is unmapped when the instance is closed instead of when the buffer gets
+ * garbage collected. This also releases the file, so it can be deleted or truncated (e.g. on Windows) right after the close.
+ * <pre>
+ * <b>Example:</b>
+ *     try(final MappedFileRegionResource region = MappedFileRegionResource.map(path, MapMode.READ_ONLY, 0, Files.size(path)))
+ *     {
+ *       parse(region.get());
+ *     }
+ * </pre>
+ * <p>
+ * <strong>Note:</strong> The buffer, or any slice or duplicate of it, must not be used after the instance is closed. Accessing an
+ * unmapped region can crash the JVM.
+ */
+public class MappedFileRegionResource extends AbstractAutoCloseableResource<MappedByteBuffer>
+{
+  /**
+   * Creates instance of {@link MappedFileRegionResource} mapping the region of the file. The channel can be closed once the region
+   * is mapped.
+   *
+   * @param channel The {@link FileChannel} of the file.
+   *
+   * @param mode The {@link MapMode}.
+   *
+   * @param position The position in the file where the region starts.
+   *
+   * @param size The size of the region in bytes.
+   *
+   * @throws IOException If the region cannot be mapped.
+   */
+  public MappedFileRegionResource(final FileChannel channel, final MapMode mode, final long position, final long size) throws IOException
+  {
+    super(mapRegion(channel, mode, position, size));
+  }
+
+  /**
+   * This method maps the region of the file. The file is opened only for mapping and is closed before returning.
+   *
+   * @param file The {@link Path} of the file.
+   *
+   * @param mode The {@link MapMode}. Files are opened for read only for {@link MapMode#READ_ONLY}, otherwise for read and write,
+   * which {@link MapMode#PRIVATE} needs as well even though its changes are not written to the file.
+   *
+   * @param position The position in the file where the region starts.
+   *
+   * @param size The size of the region in bytes.
+   *
+   * @return The {@link MappedFileRegionResource} holding the region.
+   *
+   * @throws IOException If the file cannot be opened or the region cannot be mapped.
+   */
+  public static MappedFileRegionResource map(final Path file, final MapMode mode, final long position, final long size) throws IOException
+  {
+    notNull("file", file);
+    notNull("mode", mode);
+
+    final FileChannel channel = MapMode.READ_ONLY == mode ? FileChannel.open(file, StandardOpenOption.READ)
+                                                          : FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try
+    {
+      return new MappedFileRegionResource(channel, mode, position, size);
+    }
+    finally
+    {
+      channel.close(); // Mapping stays valid after the channel is closed.
+    }
+  }
+
+  @Override
+  protected void doClose()
+  {
+    DirectBufferCleaner.free(this.get());
+  }
+
+  // Private methods
+  private static MappedByteBuffer mapRegion(final FileChannel channel, final MapMode mode, final long position, final long size) throws IOException
+  {
+    notNull("channel", channel);
+    notNull("mode", mode);
+
+    return channel.map(mode, position, size);
+  }
+}
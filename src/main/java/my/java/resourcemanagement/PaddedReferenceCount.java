@@ -0,0 +1,25 @@
+/********************************************************************
+ * File Name:    PaddedReferenceCount.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Padding after the reference count of {@link RefCountedResource} which keeps the fields of the derived classes away from the
+ * reference count, so that heavily shared counters do not false share the cache line with other data.
+ */
+abstract class PaddedReferenceCount extends ReferenceCountValue
+{
+  PaddedReferenceCount(final int referenceCount)
+  {
+    super(referenceCount);
+  }
+
+  // Package private members
+  long p11, p12, p13, p14, p15, p16, p17;
+}
@@ -0,0 +1,40 @@
+/********************************************************************
+ * File Name:    PooledResourceFactory.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Factory used by {@link ResourcePool} to create, validate and destroy the pooled resources.
+ *
+ * @param <TResource> The type of the pooled resource.
+ */
+public interface PooledResourceFactory<TResource>
+{
+  /**
+   * @return The new instance of the resource. Must not be null.
+   */
+  TResource create();
+
+  /**
+   * This method is called when the resource is returned to the pool. The method can also reset the state of the
+   * resource before it is borrowed again.
+   *
+   * @param resource The resource being returned to the pool.
+   *
+   * @return <code>true</code> if the resource can be reused, <code>false</code> if it should be destroyed.
+   */
+  boolean validate(TResource resource);
+
+  /**
+   * This method is called when the resource is removed from the pool i.e. it failed validation or the pool is closed.
+   *
+   * @param resource The resource to destroy.
+   */
+  void destroy(TResource resource);
+}
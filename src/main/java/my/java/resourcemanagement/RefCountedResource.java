@@ -0,0 +1,144 @@
+/********************************************************************
+ * File Name:    RefCountedResource.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Base class for holding a resource shared by many owners e.g. buffers or handles. The resource is created with reference count of one,
+ * each additional owner calls {@link #retain()} and each owner calls {@link #release()} (or {@link #close()}) once done. The
+ * {@link #doClose()} method is called by the owner releasing the last reference.
+ * <pre>
+ * <b>Example:</b>
+ *     final RefCountedResource<ByteBuffer> buffer = new RefCountedResource<ByteBuffer>(ByteBuffer.allocateDirect(4096))
+ *                                                   {
+ *                                                     &#64;Override
+ *                                                     protected void doClose()
+ *                                                     {
+ *                                                       ...
+ *                                                     }
+ *                                                   };
+ *     ...
+ *     executor.submit(new Consumer(buffer.retain())); // Consumer closes it once done.
+ *     ...
+ *     buffer.close();
+ * </pre>
+ * <p>
+ * {@link #retain()} and {@link #release()} are lock-free. The reference count is padded so that a heavily shared counter does not
+ * false share the cache line with other data.
+ *
+ * @param <TResource> The type of the resource object.
+ */
+public abstract class RefCountedResource<TResource> extends PaddedReferenceCount implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link RefCountedResource} with reference count of one.
+   *
+   * @param resource The instance of the resource.
+   */
+  public RefCountedResource(final TResource resource)
+  {
+    super(1);
+
+    this.resource = resource;
+  }
+
+  /**
+   * @return The instance of the resource.
+   */
+  public TResource get()
+  {
+    return this.resource;
+  }
+
+  /**
+   * @return The current reference count. Zero once the resource is closed.
+   */
+  public int getReferenceCount()
+  {
+    return getReferenceCountValue();
+  }
+
+  /**
+   * This method adds a reference to the resource.
+   *
+   * @return This instance.
+   *
+   * @throws IllegalStateException If all the references are already released i.e. the resource is closed.
+   */
+  public RefCountedResource<TResource> retain()
+  {
+    while (true)
+    {
+      final int referenceCount = getReferenceCountValue();
+      if (0 == referenceCount)
+      {
+        throw new IllegalStateException("Resource is already closed.");
+      }
+
+      if (Integer.MAX_VALUE == referenceCount)
+      {
+        throw new IllegalStateException("Reference count overflow.");
+      }
+
+      if (compareAndSetReferenceCount(referenceCount, referenceCount + 1))
+      {
+        return this;
+      }
+    }
+  }
+
+  /**
+   * This method releases a reference to the resource. The resource is closed when the last reference is released.
+   *
+   * @return <code>true</code> if the last reference is released and the resource is closed, <code>false</code> otherwise.
+   *
+   * @throws IllegalStateException If the reference is released more times than retained.
+   */
+  public boolean release()
+  {
+    while (true)
+    {
+      final int referenceCount = getReferenceCountValue();
+      if (0 == referenceCount)
+      {
+        throw new IllegalStateException("Resource is released more times than retained.");
+      }
+
+      if (compareAndSetReferenceCount(referenceCount, referenceCount - 1))
+      {
+        if (1 == referenceCount)
+        {
+          doClose();
+
+          return true;
+        }
+
+        return false;
+      }
+    }
+  }
+
+  /**
+   * This method releases a reference to the resource. See {@link #release()}.
+   */
+  @Override
+  public void close()
+  {
+    release();
+  }
+
+  /**
+   * This methods needs to be implemented by the derived class having logic to clean up the resource. It is called once, by the
+   * owner releasing the last reference.
+   */
+  protected abstract void doClose();
+
+  // Private members
+  private final TResource resource;
+}
@@ -0,0 +1,20 @@
+/********************************************************************
+ * File Name:    ReferenceCountLhsPadding.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Padding before the reference count of {@link RefCountedResource}. Fields of the super class are laid out before the fields of the
+ * derived class, so the padding keeps the reference count away from the object header and the fields before it.
+ */
+abstract class ReferenceCountLhsPadding
+{
+  // Package private members
+  long p01, p02, p03, p04, p05, p06, p07;
+}
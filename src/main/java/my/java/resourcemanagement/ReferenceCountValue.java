@@ -0,0 +1,39 @@
+/********************************************************************
+ * File Name:    ReferenceCountValue.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * Reference count of {@link RefCountedResource} placed between the paddings.
+ */
+abstract class ReferenceCountValue extends ReferenceCountLhsPadding
+{
+  ReferenceCountValue(final int referenceCount)
+  {
+    this.referenceCount = referenceCount;
+  }
+
+  // Package private methods
+  final int getReferenceCountValue()
+  {
+    return this.referenceCount;
+  }
+
+  final boolean compareAndSetReferenceCount(final int expectedReferenceCount, final int newReferenceCount)
+  {
+    return REFERENCE_COUNT_UPDATER.compareAndSet(this, expectedReferenceCount, newReferenceCount);
+  }
+
+  // Private members
+  private static final AtomicIntegerFieldUpdater<ReferenceCountValue> REFERENCE_COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ReferenceCountValue.class, "referenceCount");
+
+  private volatile int referenceCount;
+}
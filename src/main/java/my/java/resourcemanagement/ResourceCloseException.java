@@ -0,0 +1,32 @@
+/********************************************************************
+ * File Name:    ResourceCloseException.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Checked exception thrown when closing a resource fails with a checked exception, which is set as the cause. {@link AutoCloseable}
+ * classes closing arbitrary resources declare this exception instead of <code>throws Exception</code>, so that their
+ * <code>close()</code> cannot throw {@link InterruptedException} (javac <code>-Xlint:try</code>). Unchecked exceptions and errors are
+ * thrown as they are.
+ */
+public class ResourceCloseException extends Exception
+{
+  /**
+   * Creates instance of {@link ResourceCloseException}.
+   *
+   * @param cause The checked exception thrown while closing the resource.
+   */
+  public ResourceCloseException(final Throwable cause)
+  {
+    super(cause.getMessage(), cause);
+  }
+
+  // Private members
+  private static final long serialVersionUID = 1L;
+}
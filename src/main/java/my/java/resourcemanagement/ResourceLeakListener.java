@@ -0,0 +1,25 @@
+/********************************************************************
+ * File Name:    ResourceLeakListener.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Listener notified by {@link LeakDetector} when a sampled resource is garbage collected without being closed.
+ */
+public interface ResourceLeakListener
+{
+  /**
+   * This method is called when a leaked resource is detected. Exceptions thrown by this method are ignored.
+   *
+   * @param resourceType The class name of the leaked resource.
+   *
+   * @param creationStack The {@link Throwable} capturing the stack trace where the resource was created.
+   */
+  void onLeak(String resourceType, Throwable creationStack);
+}
@@ -0,0 +1,334 @@
+/********************************************************************
+ * File Name:    ResourcePool.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+import static my.java.util.Assert.*;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of expensive resources e.g. parsers, buffers or connections. The borrowed resource is returned as
+ * {@link AbstractAutoCloseableResource} which should be used in try-with-resource statement. Closing it returns the resource to the
+ * pool instead of destroying it.
+ * <pre>
+ * <b>Example:</b>
+ *     final ResourcePool<Parser> pool = new ResourcePool<Parser>(parserFactory, 16);
+ *     try(final AbstractAutoCloseableResource<Parser> parser = pool.borrow()) // Current thread blocks till a parser is available.
+ *     {
+ *       parser.get().parse(...);
+ *     }
+ *     // Parser is returned to the pool once the try-with-resource statement is exited.
+ * </pre>
+ * <p>
+ * Idle resources are kept in a fixed array of slots which are claimed and released using CAS. Each thread starts probing from its own
+ * slot so a thread returning and borrowing again usually gets back the same resource without contending with other threads. The number
+ * of borrowed resources is bounded by a {@link Semaphore}, so the pool is <b>not</b> lock-free: a borrower parks when the pool is
+ * exhausted, and acquiring or releasing a contended permit goes through the semaphore's queue. The number of created resources is
+ * counted separately and a resource is created only after claiming room for it, so the pool never holds more than its maximum size
+ * even when a probe misses an idle resource which was moved behind it.
+ *
+ * @param <TResource> The type of the pooled resource.
+ */
+public class ResourcePool<TResource> implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link ResourcePool}. Resources are created lazily when borrowed.
+   *
+   * @param factory The {@link PooledResourceFactory} to create, validate and destroy the resources.
+   *
+   * @param maxSize The maximum number of resources, idle or borrowed, in the pool. Must be greater than zero.
+   */
+  public ResourcePool(final PooledResourceFactory<TResource> factory, final int maxSize)
+  {
+    notNull("factory", factory);
+
+    if (maxSize <= 0)
+    {
+      throw new IllegalArgumentException("@maxSize should be greater than zero.");
+    }
+
+    this.factory   = factory;
+    this.idleSlots = new AtomicReferenceArray<>(maxSize);
+    this.permits   = new Semaphore(maxSize);
+    this.nCreated  = new AtomicInteger();
+  }
+
+  /**
+   * This method borrows a resource from the pool. If all the resources are borrowed then the current thread blocks till
+   * a resource is returned to the pool.
+   *
+   * @return The {@link AbstractAutoCloseableResource} holding the borrowed resource. Closing it returns the resource to the pool.
+   *
+   * @throws IllegalStateException If the pool is closed or the factory returns <code>null</code>.
+   */
+  public AbstractAutoCloseableResource<TResource> borrow()
+  {
+    ensureNotClosed();
+
+    this.permits.acquireUninterruptibly();
+
+    return borrowWithPermit();
+  }
+
+  /**
+   * This method borrows a resource from the pool waiting at most the specified time for a resource to be returned.
+   *
+   * @param timeout The maximum time to wait.
+   *
+   * @param unit The {@link TimeUnit} of <code>timeout</code>.
+   *
+   * @return The {@link AbstractAutoCloseableResource} holding the borrowed resource or <code>null</code> if no resource
+   * was available within the specified time.
+   *
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   *
+   * @throws IllegalStateException If the pool is closed or the factory returns <code>null</code>.
+   */
+  public AbstractAutoCloseableResource<TResource> borrow(final long timeout, final TimeUnit unit) throws InterruptedException
+  {
+    notNull("unit", unit);
+    ensureNotClosed();
+
+    if ( ! this.permits.tryAcquire(timeout, unit) )
+    {
+      return null;
+    }
+
+    return borrowWithPermit();
+  }
+
+  /**
+   * @return The maximum number of resources in the pool.
+   */
+  public int getMaxSize()
+  {
+    return this.idleSlots.length();
+  }
+
+  /**
+   * @return The number of resources currently borrowed from the pool.
+   */
+  public int getBorrowedCount()
+  {
+    return getMaxSize() - this.permits.availablePermits();
+  }
+
+  /**
+   * This method closes the pool and destroys the idle resources. Borrowed resources are destroyed when they are returned.
+   */
+  @Override
+  public void close()
+  {
+    this.closed = true;
+
+    for (int nIndex = 0; nIndex < this.idleSlots.length(); nIndex++)
+    {
+      final TResource resource = this.idleSlots.getAndSet(nIndex, null);
+      if (null != resource)
+      {
+        destroy(resource);
+      }
+    }
+  }
+
+  // Private methods
+  private AbstractAutoCloseableResource<TResource> borrowWithPermit()
+  {
+    try
+    {
+      for (;;)
+      {
+        final TResource resource = takeIdle();
+        if (null != resource)
+        {
+          return new PooledResource(resource);
+        }
+
+        if (tryClaimNewResource())
+        {
+          return new PooledResource(create());
+        }
+
+        Thread.yield(); // Pool is full, so a resource is idle or being returned, but the probe missed it. Probe again.
+      }
+    }
+    catch (RuntimeException | Error e)
+    {
+      this.permits.release();
+
+      throw e;
+    }
+  }
+
+  private boolean tryClaimNewResource()
+  {
+    for (;;)
+    {
+      final int nResources = this.nCreated.get();
+      if (nResources >= this.idleSlots.length())
+      {
+        return false;
+      }
+
+      if (this.nCreated.compareAndSet(nResources, nResources + 1))
+      {
+        return true;
+      }
+    }
+  }
+
+  private TResource create()
+  {
+    boolean created = false;
+    try
+    {
+      final TResource resource = this.factory.create();
+      if (null == resource)
+      {
+        throw new IllegalStateException("Factory " + this.factory.getClass().getName() + " returned null resource.");
+      }
+
+      created = true;
+
+      return resource;
+    }
+    finally
+    {
+      if ( ! created )
+      {
+        this.nCreated.decrementAndGet(); // Give back the claimed room.
+      }
+    }
+  }
+
+  private void destroy(final TResource resource)
+  {
+    try
+    {
+      this.factory.destroy(resource);
+    }
+    finally
+    {
+      this.nCreated.decrementAndGet();
+    }
+  }
+
+  private TResource takeIdle()
+  {
+    final int nSlots = this.idleSlots.length();
+    final int start  = probe(nSlots);
+    for (int nProbe = 0; nProbe < nSlots; nProbe++)
+    {
+      final int nIndex = (start + nProbe) % nSlots;
+
+      final TResource resource = this.idleSlots.get(nIndex);
+      if (null != resource && this.idleSlots.compareAndSet(nIndex, resource, null))
+      {
+        return resource;
+      }
+    }
+
+    return null;
+  }
+
+  private void giveBack(final TResource resource)
+  {
+    try
+    {
+      if (this.closed || ! isValid(resource))
+      {
+        destroy(resource);
+      }
+      else
+      {
+        putIdle(resource);
+
+        if (this.closed)
+        {
+          close(); // Pool got closed while we were returning the resource. Make sure it does not stay in the pool.
+        }
+      }
+    }
+    finally
+    {
+      this.permits.release(); // After the resource is idle or destroyed, so that a borrower with a permit always finds room or a resource.
+    }
+  }
+
+  private boolean isValid(final TResource resource)
+  {
+    try
+    {
+      return this.factory.validate(resource);
+    }
+    catch (RuntimeException e)
+    {
+      return false;
+    }
+  }
+
+  private void putIdle(final TResource resource)
+  {
+    final int nSlots = this.idleSlots.length();
+    final int start  = probe(nSlots);
+    for (int nIndex = start; ; )
+    {
+      if (null == this.idleSlots.get(nIndex) && this.idleSlots.compareAndSet(nIndex, null, resource))
+      {
+        return;
+      }
+
+      nIndex = (nIndex + 1) % nSlots;
+      if (start == nIndex)
+      {
+        Thread.yield(); // There are never more resources than slots, so a free slot exists but the probe missed it. Probe again.
+      }
+    }
+  }
+
+  private void ensureNotClosed()
+  {
+    if (this.closed)
+    {
+      throw new IllegalStateException("Resource pool is closed.");
+    }
+  }
+
+  private static int probe(final int nSlots)
+  {
+    return (int)(Thread.currentThread().getId() % nSlots); // Thread affine start slot.
+  }
+
+  // Private members
+  private final PooledResourceFactory<TResource> factory;
+  private final AtomicReferenceArray<TResource>  idleSlots;
+  private final Semaphore                        permits;
+  private final AtomicInteger                    nCreated; // Resources created and not yet destroyed, idle or borrowed.
+  private volatile boolean                       closed;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private final class PooledResource extends AbstractAutoCloseableResource<TResource>
+  {
+    private PooledResource(final TResource resource)
+    {
+      super(resource);
+    }
+
+    @Override
+    protected void doClose()
+    {
+      giveBack(this.get());
+    }
+  }
+}
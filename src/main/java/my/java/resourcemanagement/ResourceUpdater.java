@@ -0,0 +1,28 @@
+/********************************************************************
+ * File Name:    ResourceUpdater.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.resourcemanagement;
+
+/**
+ * Creates the updated copy of a resource for read-copy-update using {@link AtomicResourceHolder#update(ResourceUpdater)}.
+ *
+ * @param <TResource> The type of the resource object.
+ */
+public interface ResourceUpdater<TResource>
+{
+  /**
+   * This method creates the updated copy of the current resource. The current resource must not be modified as readers can be
+   * using it. This method can be called more than once if other writers update the resource concurrently.
+   *
+   * @param currentResource The current resource instance. Can be null.
+   *
+   * @return The updated resource instance.
+   */
+  TResource update(TResource currentResource);
+}
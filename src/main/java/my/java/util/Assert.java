@@ -11,9 +11,34 @@ package my.java.util;
   
 /**
  * Class containing simple assert methods.
+ * <p>
+ * The assertions are grouped into levels:
+ * <ul>
+ * <li>Argument assertions, {@link #notNull(String, Object)}, {@link #notNullOrEmptyOrWhiteSpace(String, String)} and
+ * {@link #isTrue(boolean, String)}, are always checked and throw {@link IllegalArgumentException}.</li>
+ * <li>State assertions, {@link #state(boolean, String)}, are always checked and throw {@link IllegalStateException}.</li>
+ * <li>Internal assertions, {@link #internalState(boolean, String)}, are checked only if {@link #INTERNAL_CHECKS_ENABLED} is set and
+ * throw {@link IllegalStateException}. They are meant for invariants of hot internal code.</li>
+ * </ul>
+ * The success path of every assertion does not allocate; messages are built only on failure. Callers with a message that needs
+ * formatting should pass a {@link MessageSupplier} instead of a pre-built message.
  */
 public final class Assert
 {
+  /**
+   * This flag enables the internal assertions. It is set if the system property <code>my.java.util.internalChecks</code> is
+   * <code>true</code> or if the assertions are enabled for this class (<code>-ea</code>). Being static final, the JIT compiler removes
+   * the internal assertions, and the code guarded by this flag, entirely when it is not set.
+   * <pre>
+   * <b>Example:</b>
+   *     if (Assert.INTERNAL_CHECKS_ENABLED)
+   *     {
+   *       internalState(isConsistent(), "Lock table is inconsistent.");
+   *     }
+   * </pre>
+   */
+  public static final boolean INTERNAL_CHECKS_ENABLED = Boolean.getBoolean("my.java.util.internalChecks") || Assert.class.desiredAssertionStatus();
+
   /**
    * This method checks if the specified argument value is null or not. If the value is
    * null then {@link IllegalArgumentException} is thrown with the message <strong><i>@paramName cannot be null.</i></strong>
@@ -36,15 +61,146 @@ public final class Assert
   /**
    * This method checks if the specified string value is null or empty or contains only white spaces. If the value is
    * null or empty or only white spaces then {@link IllegalArgumentException} is thrown with the message <strong><i>@paramName cannot be null or empty.</i></strong>
+   * <p>
+   * White spaces are the characters removed by {@link String#trim()}, but the value is scanned in place instead of being trimmed.
+   * 
+   * @param argumentName The argument name to be used in message.
+   * 
+   * @param argumentValue The argument value to verify.
    * 
-   * @param argumentName
-   * @param argumentValue
+   * @throws IllegalArgumentException This exception is thrown if the specified <code>argumentValue</code> is null or empty or only
+   * white spaces.
    */
   public static void notNullOrEmptyOrWhiteSpace(final String argumentName, final String argumentValue) 
   {
-    if (null == argumentValue || argumentValue.isEmpty() || argumentValue.trim().isEmpty())
+    if (null == argumentValue || isWhiteSpace(argumentValue))
     {
       throw new IllegalArgumentException(String.format("@%s cannot be null or empty.", argumentName));
     }    
   }
-}
\ No newline at end of file
+
+  /**
+   * This method checks if the specified argument condition is true. If it is false then {@link IllegalArgumentException} is thrown
+   * with the specified message.
+   *
+   * @param condition The condition to verify.
+   *
+   * @param message The message of the exception.
+   *
+   * @throws IllegalArgumentException This exception is thrown if the specified <code>condition</code> is false.
+   */
+  public static void isTrue(final boolean condition, final String message)
+  {
+    if (! condition)
+    {
+      throw new IllegalArgumentException(message);
+    }
+  }
+
+  /**
+   * This method checks if the specified argument condition is true. If it is false then {@link IllegalArgumentException} is thrown
+   * with the message from the specified {@link MessageSupplier}.
+   *
+   * @param condition The condition to verify.
+   *
+   * @param messageSupplier The {@link MessageSupplier} called only if the condition is false.
+   *
+   * @throws IllegalArgumentException This exception is thrown if the specified <code>condition</code> is false.
+   */
+  public static void isTrue(final boolean condition, final MessageSupplier messageSupplier)
+  {
+    if (! condition)
+    {
+      throw new IllegalArgumentException(messageSupplier.getMessage());
+    }
+  }
+
+  /**
+   * This method checks if the specified state condition is true. If it is false then {@link IllegalStateException} is thrown with the
+   * specified message.
+   *
+   * @param condition The condition to verify.
+   *
+   * @param message The message of the exception.
+   *
+   * @throws IllegalStateException This exception is thrown if the specified <code>condition</code> is false.
+   */
+  public static void state(final boolean condition, final String message)
+  {
+    if (! condition)
+    {
+      throw new IllegalStateException(message);
+    }
+  }
+
+  /**
+   * This method checks if the specified state condition is true. If it is false then {@link IllegalStateException} is thrown with the
+   * message from the specified {@link MessageSupplier}.
+   *
+   * @param condition The condition to verify.
+   *
+   * @param messageSupplier The {@link MessageSupplier} called only if the condition is false.
+   *
+   * @throws IllegalStateException This exception is thrown if the specified <code>condition</code> is false.
+   */
+  public static void state(final boolean condition, final MessageSupplier messageSupplier)
+  {
+    if (! condition)
+    {
+      throw new IllegalStateException(messageSupplier.getMessage());
+    }
+  }
+
+  /**
+   * This method checks the specified internal invariant if {@link #INTERNAL_CHECKS_ENABLED} is set. If the condition is false then
+   * {@link IllegalStateException} is thrown with the specified message.
+   *
+   * @param condition The condition to verify.
+   *
+   * @param message The message of the exception.
+   *
+   * @throws IllegalStateException This exception is thrown if the internal assertions are enabled and the specified
+   * <code>condition</code> is false.
+   */
+  public static void internalState(final boolean condition, final String message)
+  {
+    if (INTERNAL_CHECKS_ENABLED && ! condition)
+    {
+      throw new IllegalStateException(message);
+    }
+  }
+
+  /**
+   * This method checks the specified internal invariant if {@link #INTERNAL_CHECKS_ENABLED} is set. If the condition is false then
+   * {@link IllegalStateException} is thrown with the message from the specified {@link MessageSupplier}.
+   *
+   * @param condition The condition to verify.
+   *
+   * @param messageSupplier The {@link MessageSupplier} called only if the condition is false.
+   *
+   * @throws IllegalStateException This exception is thrown if the internal assertions are enabled and the specified
+   * <code>condition</code> is false.
+   */
+  public static void internalState(final boolean condition, final MessageSupplier messageSupplier)
+  {
+    if (INTERNAL_CHECKS_ENABLED && ! condition)
+    {
+      throw new IllegalStateException(messageSupplier.getMessage());
+    }
+  }
+
+  // Private methods
+  private static boolean isWhiteSpace(final String value)
+  {
+    final int length = value.length();
+    for (int nChar = 0; nChar < length; nChar++)
+    {
+      if (value.charAt(nChar) > ' ') // Same characters as trimmed by String.trim().
+      {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -0,0 +1,33 @@
+/********************************************************************
+ * File Name:    MessageSupplier.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util;
+
+/**
+ * Supplies the message of a failed assertion. The message is built only if the assertion fails, so the success path does not pay
+ * for formatting.
+ * <pre>
+ * <b>Example:</b>
+ *     isTrue(index < size, new MessageSupplier()
+ *                          {
+ *                            &#64;Override
+ *                            public String getMessage()
+ *                            {
+ *                              return String.format("@index %d is out of range.", index);
+ *                            }
+ *                          });
+ * </pre>
+ */
+public interface MessageSupplier
+{
+  /**
+   * @return The message of the failed assertion.
+   */
+  String getMessage();
+}
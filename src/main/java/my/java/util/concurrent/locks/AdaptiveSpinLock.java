@@ -0,0 +1,319 @@
+/********************************************************************
+ * File Name:    AdaptiveSpinLock.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import static my.java.util.Assert.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Reentrant {@link Lock} which spins for a while before parking the thread. {@link ReentrantLock} parks the waiting thread
+ * almost immediately and waking it up again costs much more than a short critical section. {@link AdaptiveSpinLock} spins
+ * as long as spinning has recently been successful and the lock is held for short durations, otherwise it falls back to parking
+ * (inflates) like {@link ReentrantLock}.
+ * <p>
+ * The spin limit adapts as follows:
+ * <ul>
+ *   <li>Every acquisition by spinning doubles the spin limit (up to the maximum) and every failed spin halves it (down to the minimum).</li>
+ *   <li>If the average hold time of the lock is more than the configured threshold then the thread does not spin at all.</li>
+ * </ul>
+ * The hold time is measured for the contended acquisitions and for every 16th uncontended one, so the uncontended
+ * <code>lock</code>/<code>unlock</code> usually does not read the clock.
+ * While spinning, {@link Thread}<code>.onSpinWait()</code> is called when the runtime supports it.
+ * <pre>
+ * <b>Example:</b>
+ *     final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+ *     try(final AutoCloseableLock<AdaptiveSpinLock> autoCloseableLock = new AutoCloseableLock<AdaptiveSpinLock>(lock))
+ *     {
+ *       // This block will execute once the lock is acquired.
+ *     }
+ *
+ *     final NamedLockManager namedLockManager = new NamedLockManager(AdaptiveSpinLock.FACTORY);
+ * </pre>
+ */
+public final class AdaptiveSpinLock implements Lock
+{
+  /**
+   * {@link LockFactory} creating {@link AdaptiveSpinLock} instances with default settings.
+   */
+  public static final LockFactory FACTORY = new LockFactory()
+                                            {
+                                              @Override
+                                              public Lock createLock()
+                                              {
+                                                return new AdaptiveSpinLock();
+                                              }
+                                            };
+
+  /**
+   * Creates instance of {@link AdaptiveSpinLock} with default settings i.e. spins up to 4096 times and does not spin
+   * if the average hold time is more than 20 microseconds.
+   */
+  public AdaptiveSpinLock()
+  {
+    this(DEFAULT_MAX_SPINS, DEFAULT_MAX_SPIN_HOLD_TIME_NANOS, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Creates instance of {@link AdaptiveSpinLock}.
+   *
+   * @param maxSpins The maximum number of times a thread spins before parking. Must be greater than zero.
+   *
+   * @param maxSpinHoldTime If the average hold time of the lock is more than this then the thread parks without spinning.
+   *
+   * @param unit The {@link TimeUnit} of <code>maxSpinHoldTime</code>.
+   */
+  public AdaptiveSpinLock(final int maxSpins, final long maxSpinHoldTime, final TimeUnit unit)
+  {
+    notNull("unit", unit);
+
+    if (maxSpins <= 0)
+    {
+      throw new IllegalArgumentException("@maxSpins should be greater than zero.");
+    }
+
+    this.maxSpins             = maxSpins;
+    this.minSpins             = Math.min(MIN_SPINS, maxSpins);
+    this.maxSpinHoldTimeNanos = unit.toNanos(maxSpinHoldTime);
+    this.spinLimit            = maxSpins;
+  }
+
+  @Override
+  public void lock()
+  {
+    if (this.lock.tryLock())
+    {
+      onAcquired(false);
+
+      return;
+    }
+
+    if ( ! spinToAcquire(false, 0) )
+    {
+      this.lock.lock();
+    }
+
+    onAcquired(true);
+  }
+
+  @Override
+  public void lockInterruptibly() throws InterruptedException
+  {
+    if (Thread.interrupted())
+    {
+      throw new InterruptedException(); // Same as ReentrantLock, even if the lock is free.
+    }
+
+    if (this.lock.tryLock())
+    {
+      onAcquired(false);
+
+      return;
+    }
+
+    if ( ! spinToAcquire(false, 0) )
+    {
+      this.lock.lockInterruptibly();
+    }
+
+    onAcquired(true);
+  }
+
+  @Override
+  public boolean tryLock()
+  {
+    if (this.lock.tryLock())
+    {
+      onAcquired(false);
+
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException
+  {
+    if (Thread.interrupted())
+    {
+      throw new InterruptedException();
+    }
+
+    if (this.lock.tryLock())
+    {
+      onAcquired(false);
+
+      return true;
+    }
+
+    final long timeoutNanos = unit.toNanos(time);
+    if (timeoutNanos <= 0)
+    {
+      return false; // No time to spin.
+    }
+
+    final long deadlineNanos = System.nanoTime() + timeoutNanos;
+    if (spinToAcquire(true, deadlineNanos) || this.lock.tryLock(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) // Spin time counts against the timeout.
+    {
+      onAcquired(true);
+
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public void unlock()
+  {
+    if (this.holdTimed && 1 == this.lock.getHoldCount())
+    {
+      final long holdTimeNanos = System.nanoTime() - this.acquiredAtNanos;
+
+      this.averageHoldTimeNanos += (holdTimeNanos - this.averageHoldTimeNanos) >> HOLD_TIME_AVERAGE_SHIFT; // Only the owner writes it.
+    }
+
+    this.lock.unlock();
+  }
+
+  @Override
+  public Condition newCondition()
+  {
+    return this.lock.newCondition();
+  }
+
+  /**
+   * @return <code>true</code> if the current thread holds this lock, <code>false</code> otherwise.
+   */
+  public boolean isHeldByCurrentThread()
+  {
+    return this.lock.isHeldByCurrentThread();
+  }
+
+  /**
+   * @return <code>true</code> if any thread holds this lock, <code>false</code> otherwise.
+   */
+  public boolean isLocked()
+  {
+    return this.lock.isLocked();
+  }
+
+  /**
+   * @return The number of holds on this lock by the current thread.
+   */
+  public int getHoldCount()
+  {
+    return this.lock.getHoldCount();
+  }
+
+  /**
+   * @return The moving average of the time, in nano seconds, for which the lock was held.
+   */
+  public long getAverageHoldTimeNanos()
+  {
+    return this.averageHoldTimeNanos;
+  }
+
+  // Private methods
+  private void onAcquired(final boolean contended)
+  {
+    if (1 == this.lock.getHoldCount())
+    {
+      this.holdTimed = contended || 0 == (this.nAcquires++ & HOLD_TIME_SAMPLE_MASK); // Sampling keeps the clock off the uncontended path.
+      if (this.holdTimed)
+      {
+        this.acquiredAtNanos = System.nanoTime();
+      }
+    }
+  }
+
+  private boolean spinToAcquire(final boolean timed, final long deadlineNanos)
+  {
+    if (this.averageHoldTimeNanos > this.maxSpinHoldTimeNanos)
+    {
+      return false; // Critical section is too long to be worth spinning.
+    }
+
+    final int spinLimit = this.spinLimit;
+    for (int nSpins = 0; nSpins < spinLimit; nSpins++)
+    {
+      onSpinWait();
+
+      if (timed && 0 == (nSpins & DEADLINE_CHECK_MASK) && System.nanoTime() - deadlineNanos >= 0)
+      {
+        return false; // Timed out, the spin limit is left as is.
+      }
+
+      if ( ! this.lock.isLocked() && this.lock.tryLock() ) // Avoid CAS while the lock is held.
+      {
+        this.spinLimit = Math.min(spinLimit << 1, this.maxSpins); // Benign race, it is only a heuristic.
+
+        return true;
+      }
+    }
+
+    this.spinLimit = Math.max(spinLimit >> 1, this.minSpins);
+
+    return false;
+  }
+
+  private static void onSpinWait()
+  {
+    if (null != ON_SPIN_WAIT)
+    {
+      try
+      {
+        ON_SPIN_WAIT.invokeExact();
+      }
+      catch (Throwable e)
+      {
+        throw new IllegalStateException(e); // Thread.onSpinWait() does not throw.
+      }
+    }
+  }
+
+  private static MethodHandle findOnSpinWait()
+  {
+    try
+    {
+      return MethodHandles.publicLookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+    }
+    catch (NoSuchMethodException | IllegalAccessException e)
+    {
+      return null; // Runtime older than Java 9.
+    }
+  }
+
+  // Private members
+  private static final int          DEFAULT_MAX_SPINS                = 4096;
+  private static final long         DEFAULT_MAX_SPIN_HOLD_TIME_NANOS = TimeUnit.MICROSECONDS.toNanos(20); // Roughly the cost of park and unpark.
+  private static final int          MIN_SPINS                        = 16;
+  private static final int          HOLD_TIME_AVERAGE_SHIFT          = 3;  // Weight of 1/8 for the latest hold time.
+  private static final int          HOLD_TIME_SAMPLE_MASK            = 15; // Every 16th uncontended acquisition is timed.
+  private static final int          DEADLINE_CHECK_MASK              = 63; // Timed spins read the clock every 64 spins.
+  private static final MethodHandle ON_SPIN_WAIT                     = findOnSpinWait();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final int           maxSpins;
+  private final int           minSpins;
+  private final long          maxSpinHoldTimeNanos;
+  private volatile int        spinLimit;
+  private volatile long       averageHoldTimeNanos;
+  private long                acquiredAtNanos; // Guarded by lock.
+  private boolean             holdTimed;       // Guarded by lock.
+  private int                 nAcquires;       // Guarded by lock.
+}
@@ -0,0 +1,28 @@
+/********************************************************************
+ * File Name:    LockFactory.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Factory to create {@link Lock} instances. Used by {@link NamedLockManager} to create the lock for each name.
+ * <pre>
+ * <b>Example:</b>
+ *     final NamedLockManager namedLockManager = new NamedLockManager(AdaptiveSpinLock.FACTORY);
+ * </pre>
+ */
+public interface LockFactory
+{
+  /**
+   * @return The new instance of {@link Lock}. The returned instance must be reentrant i.e. the thread holding it can lock it again,
+   * as the reentrant and combining paths of {@link NamedLockManager} lock a name the current thread may already hold.
+   */
+  Lock createLock();
+}
@@ -11,9 +11,17 @@ package my.java.util.concurrent.locks;
   
 import static my.java.util.Assert.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -29,9 +37,90 @@ import my.java.util.concurrent.locks.NamedLockManager.NamedReadWriteLock.NamedWr
  * <strong>Note:</strong> Each instance of {@link NamedLockManager} maintains a list of acquired named locks. Application should make sure
  * same instance of {@link NamedLockManager} is used throughout i.e. if dependency injection is used then all consumers should be injected with
  * same instance of {@link NamedLockManager}.
+ * <p>
+ * Lock names which are known upfront (e.g. job types or partitions) can be pinned while creating the {@link NamedLockManager}. Locks for the
+ * pinned names are created once, are never removed and are looked up using a precomputed perfect hash table without any allocation.
  */
-public final class NamedLockManager // TODO: JustTechie - Flexibility to configure factory to generate Lock instances and to acquire the locks !!!
+public final class NamedLockManager // TODO: JustTechie - Flexibility to configure factory to generate ReadWriteLock instances !!!
 {
+  /**
+   * Creates instance of {@link NamedLockManager} which uses {@link ReentrantLock} for critical section locks.
+   */
+  public NamedLockManager()
+  {
+    this(REENTRANT_LOCK_FACTORY);
+  }
+  
+  /**
+   * Creates instance of {@link NamedLockManager} which uses the specified {@link LockFactory} to create the critical section locks.
+   * <pre>
+   * <strong>Example:</strong>
+   *    final NamedLockManager namedLockManager = new NamedLockManager(AdaptiveSpinLock.FACTORY);
+   * </pre> 
+   * 
+   * @param lockFactory The {@link LockFactory} used to create the {@link Lock} for each critical section lock name.
+   */
+  public NamedLockManager(final LockFactory lockFactory)
+  {
+    this(lockFactory, Collections.<String>emptyList());
+  }
+  
+  /**
+   * Creates instance of {@link NamedLockManager} with the specified pinned lock names. Lock names are case-insensitive i.e. a pinned name
+   * is used for the lock names differing only in case.
+   * <pre>
+   * <strong>Example:</strong>
+   *    final NamedLockManager namedLockManager = new NamedLockManager(Arrays.asList("invoiceJob", "reportJob"));
+   *    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("invoiceJob")) // No allocation or registry lookup.
+   *    {
+   *          ...
+   *    }
+   * </pre> 
+   * 
+   * @param pinnedLockNames The lock names for which the locks are created upfront and never removed.
+   */
+  public NamedLockManager(final Collection<String> pinnedLockNames)
+  {
+    this(REENTRANT_LOCK_FACTORY, pinnedLockNames);
+  }
+  
+  /**
+   * Creates instance of {@link NamedLockManager} with the specified {@link LockFactory} and pinned lock names.
+   * 
+   * @param lockFactory The {@link LockFactory} used to create the {@link Lock} for each critical section lock name.
+   * 
+   * @param pinnedLockNames The lock names for which the locks are created upfront and never removed.
+   * 
+   * @see #NamedLockManager(Collection)
+   */
+  public NamedLockManager(final LockFactory lockFactory, final Collection<String> pinnedLockNames)
+  {
+    notNull("lockFactory", lockFactory);
+    notNull("pinnedLockNames", pinnedLockNames);
+    
+    this.lockFactory     = lockFactory;
+    this.pinnedLockNames = new PinnedLockNameTable(pinnedLockNames);
+    
+    final String[] lockNames = this.pinnedLockNames.lockNames;
+    
+    this.pinnedCriticalSectionLocks = new NamedCriticalSectionLock[lockNames.length];
+    this.pinnedReadWriteLocks       = new NamedReadWriteLock[lockNames.length];
+    for (int nIndex = 0; nIndex < lockNames.length; nIndex++)
+    {
+      if (null != lockNames[nIndex])
+      {
+        final NamedLock criticalSectionLock = this.criticalSectionLockFactory.create(generateLockName(lockNames[nIndex], "criticalSection"));
+        final NamedLock readWriteLock       = this.readWriteLockFactory.create(generateLockName(lockNames[nIndex], "readerWriter"));
+        
+        criticalSectionLock.pinned = true;
+        readWriteLock.pinned       = true;
+        
+        this.pinnedCriticalSectionLocks[nIndex] = (NamedCriticalSectionLock)criticalSectionLock;
+        this.pinnedReadWriteLocks[nIndex]       = (NamedReadWriteLock)readWriteLock;
+      }
+    }
+  }
+  
   /**
    * This method acquires a {@link Lock} using the given name. If there is no lock for the given name then a new {@link Lock} instance is created
    * and the lock is acquired. If a lock is already created for a give name then existing {@link Lock} is retrieved and the thread is 
@@ -54,23 +143,107 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
   {
     notNullOrEmptyOrWhiteSpace("lockName", lockName);
     
-    final LockName criticalSectionLockName = generateLockName(lockName, "criticalSection");
-    
-    final NamedCriticalSectionLock namedCriticalSectionLock = getNamedLock(criticalSectionLockName, 
-                                                              new NamedLockFactory()
-                                                              {                          
-                                                                @Override
-                                                                public NamedLock create(final LockName lockName)
-                                                                {
-                                                                  return new NamedCriticalSectionLock(lockName, new ReentrantLock()); // TODO: JustTechie - fairness policy ???
-                                                                }
-                                                              });
+    final NamedCriticalSectionLock namedCriticalSectionLock = retainCriticalSectionLock(lockName);
 
     namedCriticalSectionLock.acquireLock(); // block till we acquire the lock.
     
     return namedCriticalSectionLock;
   }
 
+  /**
+   * This method acquires the critical section {@link Lock} using the given name, executes the specified {@link Callable} and releases the lock.
+   * This is same as calling {@link #acquireCriticalSectionLock(String)} in try-with-resource statement but the consumer does not need to
+   * hold the {@link NamedCriticalSectionLock} instance.
+   * <pre>
+   * <strong>Example:</strong>
+   *    final NamedLockManager namedLockManager = new NamedLockManager();
+   *    final Job job = namedLockManager.withLock("someJobWithID1234", new Callable<Job>()  // This call blocks till lock is acquired.
+   *                                                                   {
+   *                                                                     &#64;Override
+   *                                                                     public Job call()
+   *                                                                     {
+   *                                                                       ...
+   *                                                                     }
+   *                                                                   });
+   *    // The lock is released once the callable returns or throws.    
+   * </pre> 
+   * 
+   * @param lockName The name of the lock.
+   * 
+   * @param callable The {@link Callable} to execute while the lock is held.
+   * 
+   * @return The value returned by the <code>callable</code>.
+   * 
+   * @throws Exception The exception thrown by the <code>callable</code>.
+   */
+  public <TResult> TResult withLock(final String lockName, final Callable<TResult> callable) throws Exception
+  {
+    notNull("callable", callable);
+    
+    final NamedCriticalSectionLock namedCriticalSectionLock = acquireCriticalSectionLock(lockName);
+    try
+    {
+      return callable.call();
+    }
+    finally
+    {
+      namedCriticalSectionLock.close();
+    }
+  }
+
+  /**
+   * This method executes the specified {@link Callable} under the critical section {@link Lock} of the given name using flat combining.
+   * The <code>callable</code> is published to the publication list of the named lock and whichever thread acquires the lock executes all
+   * the published callables in a batch while the other threads wait for their result. For highly contended names this avoids handing the
+   * lock (and the cache lines protected by it) from thread to thread for each critical section.
+   * <p>
+   * The critical section is mutually exclusive with the critical sections entered using {@link #acquireCriticalSectionLock(String)} and
+   * {@link #withLock(String, Callable)} for the same name.
+   * <p>
+   * <strong>Note:</strong> The <code>callable</code> may get executed on some other thread and hence it should be small and should not
+   * depend on thread local state or on the lock being held by the calling thread.
+   * <pre>
+   * <strong>Example:</strong>
+   *    final NamedLockManager namedLockManager = new NamedLockManager();
+   *    final Long count = namedLockManager.withCombiningLock("someHotCounter", new Callable<Long>()  // This call blocks till the callable is executed.
+   *                                                                            {
+   *                                                                              &#64;Override
+   *                                                                              public Long call()
+   *                                                                              {
+   *                                                                                return ++counter;
+   *                                                                              }
+   *                                                                            });
+   * </pre> 
+   * 
+   * @param lockName The name of the lock.
+   * 
+   * @param callable The {@link Callable} to execute while the lock is held.
+   * 
+   * @return The value returned by the <code>callable</code>.
+   * 
+   * @throws Exception The exception thrown by the <code>callable</code>.
+   */
+  public <TResult> TResult withCombiningLock(final String lockName, final Callable<TResult> callable) throws Exception
+  {
+    notNullOrEmptyOrWhiteSpace("lockName", lockName);
+    notNull("callable", callable);
+    
+    final CombinedOperation cachedOperation = this.combinedOperations.get();
+    final CombinedOperation operation       = cachedOperation.inUse ? new CombinedOperation() : cachedOperation; // In use if called from a combined callable.
+    
+    final NamedCriticalSectionLock namedCriticalSectionLock = retainCriticalSectionLock(lockName);
+    try
+    {
+      return namedCriticalSectionLock.combine(callable, operation);
+    }
+    finally
+    {
+      operation.clear();
+      
+      namedCriticalSectionLock.releaseReference(); // The lock is already released by the combining thread.
+    }
+  }
+
   /**
    * This method acquires {@link Lock} using the given name. If there is no lock for the given name then a new {@link ReadWriteLock} instance is created
    * and the read lock is acquired. If a lock is already created for a give name then existing {@link ReadWriteLock} is retrieved and the thread is 
@@ -123,21 +296,76 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
     return namedReadWriteLock.acquireWriteLock(); // block till we acquire the lock.
   }
 
-  ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
   // Private methods
   private NamedReadWriteLock getNamedReadWriteLock(final String lockName)
   {
-    final LockName readerWriterLockName = generateLockName(lockName, "readerWriter");
+    final int pinnedIndex = this.pinnedLockNames.indexOf(lockName);
+    if (0 <= pinnedIndex)
+    {
+      return this.pinnedReadWriteLocks[pinnedIndex];
+    }
+    
+    final HeldLocks heldLocks = this.heldLocks.get();
+
+    return retainNamedLock(heldLocks, heldLocks.readerWriterLocks, lockName, "readerWriter", this.readWriteLockFactory);
+  }
+
+  private NamedCriticalSectionLock retainCriticalSectionLock(final String lockName)
+  {
+    final int pinnedIndex = this.pinnedLockNames.indexOf(lockName);
+    if (0 <= pinnedIndex)
+    {
+      return this.pinnedCriticalSectionLocks[pinnedIndex];
+    }
+    
+    final HeldLocks heldLocks = this.heldLocks.get();
 
-    return getNamedLock(readerWriterLockName, 
-                        new NamedLockFactory()
-                        {                                                                      
-                          @Override
-                          public NamedLock create(final LockName lockName)
-                          {
-                            return new NamedReadWriteLock(lockName, new ReentrantReadWriteLock()); // TODO: JustTechie - fairness policy ???
-                          }
-                        });
+    return retainNamedLock(heldLocks, heldLocks.criticalSectionLocks, lockName, "criticalSection", this.criticalSectionLockFactory);
+  }
+
+  /**
+   * If the current thread already holds a reference to the named lock then only the thread local hold count is incremented,
+   * otherwise the reference is taken from the shared registry using {@link #getNamedLock(LockName, NamedLockFactory)}.
+   */
+  @SuppressWarnings("unchecked")
+  private <TNamedLock> TNamedLock retainNamedLock(final HeldLocks                 heldLocks,
+                                                  final HashMap<String, HeldLock> heldLocksByName,
+                                                  final String                    lockName,
+                                                  final String                    suffix,
+                                                  final NamedLockFactory          factory)
+  {
+    HeldLock heldLock = heldLocksByName.get(lockName);
+    if (null != heldLock && heldLock.namedLock.retired)
+    {
+      heldLocks.remove(heldLock); // Closed on some other thread and removed from the registry, must not be reused.
+      
+      heldLock = null;
+    }
+    
+    if (null == heldLock)
+    {
+      final NamedLock namedLock = getNamedLock(generateLockName(lockName, suffix), factory);
+      
+      heldLock = heldLocks.byNamedLock.get(namedLock);
+      if (null == heldLock)
+      {
+        heldLock = new HeldLock(namedLock, heldLocksByName, lockName);
+        
+        heldLocks.byNamedLock.put(namedLock, heldLock);
+      }
+      else
+      {
+        namedLock.decrementReference(); // Same lock acquired using the name in different case, this thread already holds a reference.
+        
+        heldLock.aliased = true;
+      }
+      
+      heldLocksByName.put(lockName, heldLock);
+    }
+    
+    heldLock.nHolds++;
+    
+    return (TNamedLock)heldLock.namedLock;
   }
 
   @SuppressWarnings("unchecked")
@@ -164,12 +392,70 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
   
   private LockName generateLockName(final String lockName, final String suffix)
   {
-    return new LockName(lockName, String.format("%s_%s_lock", lockName.toLowerCase(), suffix)); // Assumption: Normally lock names will be internal to code and will not have localization need i.e. no need to use locale. 
+    return new LockName(lockName, String.format("%s_%s_lock", foldCase(lockName), suffix));
+  }
+  
+  /**
+   * Case folding of the lock names, shared by the registry keys and the pinned lock names so that both treat the same names as equal.
+   * Lock names are internal to code i.e. the folding must not depend on the default locale.
+   */
+  private static String foldCase(final String lockName)
+  {
+    return lockName.toLowerCase(Locale.ROOT);
   }
   
   // Private members
+  private static final int MAX_COMBINING_SPINS = 64; // Number of times a waiting thread yields before parking.
+  
+  private static final LockFactory REENTRANT_LOCK_FACTORY = new LockFactory()
+                                                           {
+                                                             @Override
+                                                             public Lock createLock()
+                                                             {
+                                                               return new ReentrantLock(); // TODO: JustTechie - fairness policy ???
+                                                             }
+                                                           };
+  
+  private final LockFactory                lockFactory;
+  private final PinnedLockNameTable        pinnedLockNames;
+  private final NamedCriticalSectionLock[] pinnedCriticalSectionLocks; // Indexed by the slot in pinnedLockNames.
+  private final NamedReadWriteLock[]       pinnedReadWriteLocks;
   private Object syncObject = new Object();
   private HashMap<String, NamedLock> acquiredLocks = new HashMap<>(); // Using HashMap directly since we are converting the input lock name to lower case i.e. no need for case-insensitive keys.
+  private final ThreadLocal<HeldLocks> heldLocks = new ThreadLocal<HeldLocks>()
+                                                   {
+                                                     @Override
+                                                     protected HeldLocks initialValue()
+                                                     {
+                                                       return new HeldLocks();
+                                                     }
+                                                   };
+  private final ThreadLocal<CombinedOperation> combinedOperations = new ThreadLocal<CombinedOperation>()
+                                                                    {
+                                                                      @Override
+                                                                      protected CombinedOperation initialValue()
+                                                                      {
+                                                                        return new CombinedOperation(); // Reused by the thread for every combined call.
+                                                                      }
+                                                                    };
+  
+  // Factories are created once per manager instead of on every acquire.
+  private final NamedLockFactory criticalSectionLockFactory = new NamedLockFactory()
+                                                              {                          
+                                                                @Override
+                                                                public NamedLock create(final LockName lockName)
+                                                                {
+                                                                  return new NamedCriticalSectionLock(lockName, NamedLockManager.this.lockFactory.createLock());
+                                                                }
+                                                              };
+  private final NamedLockFactory readWriteLockFactory       = new NamedLockFactory()
+                                                              {                                                                      
+                                                                @Override
+                                                                public NamedLock create(final LockName lockName)
+                                                                {
+                                                                  return new NamedReadWriteLock(lockName, new ReentrantReadWriteLock()); // TODO: JustTechie - fairness policy ???
+                                                                }
+                                                              };
   
   //////////////////////////////////////////////////////////////////////////////////////////////////////
   // Inner classes
@@ -199,6 +485,33 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
     @Override
     public void close()
     {
+      releaseReference();
+    }
+
+    /**
+     * Releases the reference taken by {@link NamedLockManager#retainNamedLock(HeldLocks, HashMap, String, String, NamedLockFactory)}.
+     * The shared registry is touched only when the current thread releases its last hold.
+     */
+    void releaseReference()
+    {
+      if (this.pinned)
+      {
+        return; // Pinned locks are not reference counted.
+      }
+      
+      final HeldLocks heldLocks = NamedLockManager.this.heldLocks.get();
+      
+      final HeldLock heldLock = heldLocks.byNamedLock.get(this);
+      if (null != heldLock)
+      {
+        if (0 < --heldLock.nHolds)
+        {
+          return;
+        }
+        
+        heldLocks.remove(heldLock);
+      }
+      
       decrementReference();
     }
 
@@ -214,8 +527,19 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
     {
       synchronized (NamedLockManager.this.syncObject)
       {
-        if (0 == this.nReferences.decrementAndGet())
+        if (this.retired)
+        {
+          return; // Last reference was released on some other thread, stale hold of this thread is being dropped.
+        }
+        
+        final long nReferences = this.nReferences.decrementAndGet();
+
+        internalState(0 <= nReferences, "Lock is released more times than acquired.");
+
+        if (0 == nReferences)
         {
+          this.retired = true;
+          
           NamedLockManager.this.acquiredLocks.remove(this.lockName.fullName);
         }
       }
@@ -223,7 +547,9 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
 
     // Protected members
     private final LockName   lockName;
-    private final AtomicLong nReferences = new AtomicLong(1);    
+    private final AtomicLong nReferences = new AtomicLong(1); // Number of threads holding (or waiting for) this lock. Holds within a thread are counted in HeldLock.
+    private boolean          pinned;                          // Set only while constructing NamedLockManager.
+    private volatile boolean retired;                         // Set, under syncObject, once removed from the registry. Validates the thread local holds on reuse.
   }
 
   /**
@@ -241,7 +567,7 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
     @Override
     public void close()
     {
-      this.lock.unlock(); // Release this lock before acquiring any lock in super class to avoid any deadlock situation. 
+      unlock(); // Release this lock before acquiring any lock in super class to avoid any deadlock situation. 
       
       super.close();
     }
@@ -252,8 +578,98 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
       this.lock.lock();
     }
     
+    @SuppressWarnings("unchecked")
+    <TResult> TResult combine(final Callable<TResult> callable, final CombinedOperation operation) throws Exception
+    {
+      operation.prepare(callable);
+      
+      publish(operation);
+      
+      boolean interrupted = false;
+      for (int nSpins = 0; ! operation.isCompleted(); nSpins++)
+      {
+        if (this.lock.tryLock())
+        {
+          try
+          {
+            runPublishedOperations(); // Our own operation is in the list as well.
+          }
+          finally
+          {
+            unlock();
+          }
+        }
+        else if (nSpins < MAX_COMBINING_SPINS)
+        {
+          Thread.yield();
+        }
+        else
+        {
+          LockSupport.park(this); // Combiner unparks us once our operation is executed, the thread releasing the lock unparks us to combine.
+          
+          interrupted |= Thread.interrupted(); // Otherwise park returns immediately. Interrupt is restored once done.
+        }
+      }
+      
+      if (interrupted)
+      {
+        Thread.currentThread().interrupt();
+      }
+      
+      return (TResult)operation.getResult();
+    }
+    
+    private void publish(final CombinedOperation operation)
+    {
+      CombinedOperation head;
+      do
+      {
+        head           = this.publicationList.get();
+        operation.next = head;
+      }
+      while ( ! this.publicationList.compareAndSet(head, operation) );
+    }
+    
+    private void runPublishedOperations()
+    {
+      CombinedOperation operation = null;
+      for (CombinedOperation published = this.publicationList.getAndSet(null); null != published; ) // Take all, published last first.
+      {
+        final CombinedOperation next = published.next;
+        
+        published.next = operation; // Reverse so that the operations run in the order of publication.
+        operation      = published;
+        published      = next;
+      }
+      
+      while (null != operation)
+      {
+        final CombinedOperation next = operation.next; // Read before running, the waiter reuses the operation once it is completed.
+        
+        operation.run();
+        
+        operation = next;
+      }
+    }
+    
+    /**
+     * Unlocks and unparks the thread of the first waiting operation, if any, so that it combines. Waiters never miss the release: they
+     * publish before trying the lock while this method unlocks before checking the publication list.
+     */
+    private void unlock()
+    {
+      this.lock.unlock();
+      
+      final CombinedOperation waitingOperation = this.publicationList.get();
+      if (null != waitingOperation)
+      {
+        LockSupport.unpark(waitingOperation.waiter);
+      }
+    }
+    
     // Private members
     private final Lock lock;
+    private final AtomicReference<CombinedOperation> publicationList = new AtomicReference<>(); // Stack of operations waiting to be combined.
   }
   
   /**
@@ -404,6 +820,264 @@ public final class NamedLockManager // TODO: JustTechie - Flexibility to configu
     NamedLock create(LockName lockName);
   }
   
+  /**
+   * Perfect hash table of pinned lock names i.e. each name has a slot of its own and hence lookup is a hash computation followed by a
+   * single comparison. The seed of the hash is searched while building the table. Lookup is case-insensitive and does not allocate.
+   */
+  private static final class PinnedLockNameTable
+  {
+    private PinnedLockNameTable(final Collection<String> lockNames)
+    {
+      final HashMap<String, String> distinctLockNames = new HashMap<>();
+      for (final String lockName : lockNames)
+      {
+        notNullOrEmptyOrWhiteSpace("pinnedLockNames", lockName);
+        
+        distinctLockNames.put(foldCase(lockName), lockName);
+      }
+      
+      int capacity = Integer.highestOneBit(Math.max(1, distinctLockNames.size() * 2 - 1)) << 1; 
+      for (;;)
+      {
+        for (int seed = 1; seed <= MAX_SEEDS_PER_CAPACITY; seed++)
+        {
+          final String[] table = tryBuild(distinctLockNames.keySet(), capacity, seed);
+          if (null != table)
+          {
+            final String[] givenLockNames = new String[capacity];
+            for (int nIndex = 0; nIndex < capacity; nIndex++)
+            {
+              givenLockNames[nIndex] = null == table[nIndex] ? null : distinctLockNames.get(table[nIndex]);
+            }
+            
+            this.lockNames       = givenLockNames;
+            this.foldedLockNames = table;
+            this.mask            = capacity - 1;
+            this.seed            = seed;
+            this.isEmpty         = distinctLockNames.isEmpty();
+            
+            return;
+          }
+        }
+        
+        capacity <<= 1; // Too many collisions, retry with a sparser table.
+      }
+    }
+    
+    /**
+     * @return The slot of the pinned lock name or -1 if the name is not pinned.
+     */
+    private int indexOf(final String lockName)
+    {
+      if (this.isEmpty)
+      {
+        return -1;
+      }
+      
+      final String name      = foldsPerCharacter(lockName) ? lockName : foldCase(lockName); // Rare, allocates the folded copy.
+      final int    index     = hash(name, this.seed) & this.mask;
+      final String candidate = this.foldedLockNames[index];
+      
+      return null != candidate && equalsFolded(candidate, name) ? index : -1;
+    }
+    
+    private static String[] tryBuild(final Collection<String> lockNames, final int capacity, final int seed)
+    {
+      final String[] table = new String[capacity];
+      for (final String lockName : lockNames)
+      {
+        final int index = hash(lockName, seed) & (capacity - 1);
+        if (null != table[index])
+        {
+          return null;
+        }
+        
+        table[index] = lockName;
+      }
+      
+      return table;
+    }
+    
+    /**
+     * Hashes the name as folded by {@link NamedLockManager#foldCase(String)}, provided the name is already folded or
+     * {@link #foldsPerCharacter(String)}. Per character folding avoids allocating a folded copy, and folding is idempotent so a folded
+     * name hashes the same.
+     */
+    private static int hash(final String lockName, final int seed)
+    {
+      int hash = seed * FNV_PRIME;
+      for (int nIndex = 0; nIndex < lockName.length(); nIndex++)
+      {
+        hash = (hash ^ Character.toLowerCase(lockName.charAt(nIndex))) * FNV_PRIME;
+      }
+      
+      return hash ^ (hash >>> 16);
+    }
+    
+    private static boolean equalsFolded(final String foldedLockName, final String lockName)
+    {
+      if (foldedLockName.length() != lockName.length())
+      {
+        return false;
+      }
+      
+      for (int nIndex = 0; nIndex < lockName.length(); nIndex++)
+      {
+        if (foldedLockName.charAt(nIndex) != Character.toLowerCase(lockName.charAt(nIndex)))
+        {
+          return false;
+        }
+      }
+      
+      return true;
+    }
+    
+    /**
+     * @return <code>true</code> if folding the name one character at a time gives the same result as
+     * {@link NamedLockManager#foldCase(String)}. <code>String.toLowerCase(Locale.ROOT)</code> folds differently only the dotted capital I,
+     * which becomes two characters, the capital sigma, which depends on its position in the word, and the surrogate pairs.
+     */
+    private static boolean foldsPerCharacter(final String lockName)
+    {
+      for (int nIndex = 0; nIndex < lockName.length(); nIndex++)
+      {
+        final char character = lockName.charAt(nIndex);
+        if (character >= '\u0080' && ('\u0130' == character || '\u03A3' == character || Character.isSurrogate(character)))
+        {
+          return false;
+        }
+      }
+      
+      return true;
+    }
+    
+    // Private members
+    private static final int FNV_PRIME              = 0x01000193;
+    private static final int MAX_SEEDS_PER_CAPACITY = 64;
+    
+    private final String[] lockNames;       // Slot to pinned lock name as given. Empty slots are null.
+    private final String[] foldedLockNames; // Slot to folded pinned lock name, for the lookup.
+    private final int      mask;
+    private final int      seed;
+    private final boolean  isEmpty;
+  }
+  
+  /**
+   * Named locks held by a thread. Only accessed by the owning thread.
+   */
+  private static final class HeldLocks
+  {
+    private void remove(final HeldLock heldLock)
+    {
+      this.byNamedLock.remove(heldLock.namedLock);
+      
+      heldLock.heldLocksByName.remove(heldLock.lockName);
+      if (heldLock.aliased)
+      {
+        for (final Iterator<HeldLock> iterator = heldLock.heldLocksByName.values().iterator(); iterator.hasNext(); )
+        {
+          if (heldLock == iterator.next())
+          {
+            iterator.remove();
+          }
+        }
+      }
+    }
+    
+    // Private members
+    private final HashMap<String, HeldLock>            criticalSectionLocks = new HashMap<>(); // Keyed by the lock name as passed by the consumer i.e. without case conversion.
+    private final HashMap<String, HeldLock>            readerWriterLocks    = new HashMap<>();
+    private final IdentityHashMap<NamedLock, HeldLock> byNamedLock          = new IdentityHashMap<>();
+  }
+  
+  private static final class HeldLock
+  {
+    private HeldLock(final NamedLock namedLock, final HashMap<String, HeldLock> heldLocksByName, final String lockName)
+    {
+      this.namedLock       = namedLock;
+      this.heldLocksByName = heldLocksByName;
+      this.lockName        = lockName;
+    }
+    
+    // Private members
+    private final NamedLock                 namedLock;
+    private final HashMap<String, HeldLock> heldLocksByName;
+    private final String                    lockName;
+    private int                             nHolds;
+    private boolean                         aliased; // true if the lock is held using more than one name e.g. names differing in case.
+  }
+  
+  /**
+   * Callable published for flat combining. Each thread reuses its own instance, so the fields other than <code>completed</code> are
+   * published by the publication list and by the volatile write of <code>completed</code>.
+   */
+  private static final class CombinedOperation
+  {
+    private CombinedOperation()
+    {
+      this.waiter = Thread.currentThread();
+    }
+    
+    private void prepare(final Callable<?> callable)
+    {
+      this.callable  = callable;
+      this.inUse     = true;
+      this.completed = false;
+    }
+    
+    private void run()
+    {
+      try
+      {
+        this.result = this.callable.call();
+      }
+      catch (Throwable e)
+      {
+        this.failure = e;
+      }
+      
+      this.completed = true; // Volatile write publishes result\failure to the waiter.
+      
+      LockSupport.unpark(this.waiter);
+    }
+    
+    private boolean isCompleted()
+    {
+      return this.completed;
+    }
+    
+    private Object getResult() throws Exception
+    {
+      if (this.failure instanceof Exception)
+      {
+        throw (Exception)this.failure;
+      }
+      else if (this.failure instanceof Error)
+      {
+        throw (Error)this.failure;
+      }
+      
+      return this.result;
+    }
+    
+    private void clear()
+    {
+      this.callable = null;
+      this.result   = null;
+      this.failure  = null;
+      this.inUse    = false;
+    }
+    
+    // Private members
+    private final Thread      waiter;
+    private Callable<?>       callable;
+    private Object            result;
+    private Throwable         failure;
+    private volatile boolean  completed;
+    private CombinedOperation next;  // Next in the publication list.
+    private boolean           inUse; // Only accessed by the waiter.
+  }
+  
   private class LockName
   {
     private LockName(final String simpleName, final String fullName)
@@ -9,6 +9,7 @@
 
 package my.java.util.concurrent.locks;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 
@@ -83,5 +84,70 @@ public class ReaderWriterLock<TReaderWriterLock extends ReadWriteLock> extends R
   {
     return new AutoCloseableLock<TLock>((TLock)this.get().writeLock());
   }
-}
 
+  /**
+   * This method acquires the <code>read lock</code>, executes the specified {@link Callable} and releases the lock.
+   * Unlike {@link #acquireReadLock()} no {@link AutoCloseableLock} is created and hence there is no allocation on 
+   * this path other than the one done by the underlying {@link ReadWriteLock}.
+   * <pre>
+   * <b>Example:</b>
+   *     final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<ReentrantReadWriteLock>(new ReentrantReadWriteLock());
+   *     final String value = readerWriterLock.withReadLock(new Callable<String>()
+   *                                                        {
+   *                                                          &#64;Override
+   *                                                          public String call()
+   *                                                          {
+   *                                                            return map.get(key); // This block will execute once the read lock is acquired.
+   *                                                          }
+   *                                                        });
+   *     // Read lock is released once the callable returns or throws.
+   * </pre>
+   * 
+   * @param callable The {@link Callable} to execute while the read lock is held.
+   * 
+   * @return The value returned by the <code>callable</code>.
+   * 
+   * @throws Exception The exception thrown by the <code>callable</code>.
+   */
+  public <TResult> TResult withReadLock(final Callable<TResult> callable) throws Exception
+  {
+    notNull("callable", callable);
+    
+    return callWithLock(this.get().readLock(), callable);
+  }
+
+  /**
+   * This method acquires the <code>write lock</code>, executes the specified {@link Callable} and releases the lock.
+   * Unlike {@link #acquireWriteLock()} no {@link AutoCloseableLock} is created and hence there is no allocation on 
+   * this path other than the one done by the underlying {@link ReadWriteLock}.
+   * 
+   * @param callable The {@link Callable} to execute while the write lock is held.
+   * 
+   * @return The value returned by the <code>callable</code>.
+   * 
+   * @throws Exception The exception thrown by the <code>callable</code>.
+   * 
+   * @see #withReadLock(Callable)
+   */
+  public <TResult> TResult withWriteLock(final Callable<TResult> callable) throws Exception
+  {
+    notNull("callable", callable);
+    
+    return callWithLock(this.get().writeLock(), callable);
+  }
+
+  // Private methods
+  private static <TResult> TResult callWithLock(final Lock lock, final Callable<TResult> callable) throws Exception
+  {
+    // Kept small on purpose so that it gets inlined into the caller i.e. uncontended path is just lock() + call() + unlock().
+    lock.lock();
+    try
+    {
+      return callable.call();
+    }
+    finally
+    {
+      lock.unlock();
+    }
+  }
+}
\ No newline at end of file
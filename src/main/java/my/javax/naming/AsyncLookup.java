@@ -0,0 +1,442 @@
+/********************************************************************
+ * File Name:    AsyncLookup.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import static my.java.util.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+
+/**
+ * Looks up names asynchronously on a dedicated {@link Executor}, so that the calling thread, e.g. an event loop, never blocks on a slow
+ * naming provider.
+ * <pre>
+ * <b>Example:</b>
+ *     private final AsyncLookup asyncLookup = new AsyncLookup(pooledContextFactory, lookupExecutor, lookupCache);
+ *     ...
+ *     asyncLookup.lookupAsync("java:comp/env/jms/queue", new LookupCallback()
+ *                                                        {
+ *                                                          &#64;Override
+ *                                                          public void onSuccess(final String name, final Object object)
+ *                                                          {
+ *                                                            ...
+ *                                                          }
+ *
+ *                                                          &#64;Override
+ *                                                          public void onFailure(final String name, final NamingException failure)
+ *                                                          {
+ *                                                            ...
+ *                                                          }
+ *                                                        });
+ * </pre>
+ * <p>
+ * Concurrent lookups of the same name are merged i.e. the name is looked up once and all the callers get the result. Every caller gets
+ * its own {@link Future}, so cancelling it only stops that caller waiting and never cancels the lookup for the other callers.
+ * <p>
+ * If the {@link NamingLookupCache} is set then the names found in it are completed on the calling thread, without a context from the
+ * {@link PooledContextFactory} and without going through the executor. Only the misses take a context from the pool. If the executor
+ * rejects the lookup then the lookup fails instead of running on the calling thread.
+ */
+public class AsyncLookup
+{
+  /**
+   * Creates instance of {@link AsyncLookup}.
+   *
+   * @param contextFactory The {@link PooledContextFactory} to get the contexts from.
+   *
+   * @param executor The {@link Executor} to run the lookups on.
+   *
+   * @param cache The {@link NamingLookupCache} to serve the lookups from. Can be null.
+   */
+  public AsyncLookup(final PooledContextFactory contextFactory, final Executor executor, final NamingLookupCache cache)
+  {
+    notNull("contextFactory", contextFactory);
+    notNull("executor", executor);
+
+    this.contextFactory = contextFactory;
+    this.executor       = executor;
+    this.cache          = cache;
+    this.pendingLookups = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * This method starts looking up the name, or joins the lookup of the name already in progress.
+   *
+   * @param name The name to look up.
+   *
+   * @return The {@link Future} of the object bound to the name. Failures are reported as {@link ExecutionException} with the
+   * {@link NamingException} as the cause.
+   */
+  public Future<Object> lookupAsync(final String name)
+  {
+    notNull("name", name);
+
+    final LookupFuture future = new LookupFuture(null);
+    lookupAsync(name, future);
+
+    return future;
+  }
+
+  /**
+   * This method starts looking up the name, or joins the lookup of the name already in progress, and notifies the callback when
+   * the lookup completes. If the name is cached then the callback is notified on the calling thread before this method returns.
+   *
+   * @param name The name to look up.
+   *
+   * @param callback The {@link LookupCallback} to notify.
+   *
+   * @return The {@link Future} of the object bound to the name.
+   */
+  public Future<Object> lookupAsync(final String name, final LookupCallback callback)
+  {
+    notNull("name", name);
+    notNull("callback", callback);
+
+    final LookupFuture future = new LookupFuture(callback);
+    lookupAsync(name, future);
+
+    return future;
+  }
+
+  /**
+   * @return The number of names being looked up.
+   */
+  public int getPendingCount()
+  {
+    return this.pendingLookups.size();
+  }
+
+  // Private methods
+  private void lookupAsync(final String name, final LookupFuture future)
+  {
+    final NamingLookupCache.Entry entry = null == this.cache ? null : this.cache.getEntry(name);
+    if (null != entry)
+    {
+      complete(name, entry, future);
+
+      return;
+    }
+
+    LookupTask lookup = this.pendingLookups.get(name);
+    if (null != lookup)
+    {
+      lookup.addCallback(future);
+
+      return;
+    }
+
+    final LookupTask newLookup = new LookupTask(name);
+    newLookup.addCallback(future);
+
+    lookup = this.pendingLookups.putIfAbsent(name, newLookup);
+    if (null != lookup)
+    {
+      lookup.addCallback(future); // Some other thread started the lookup in the meanwhile.
+
+      return;
+    }
+
+    try
+    {
+      this.executor.execute(newLookup);
+    }
+    catch (RejectedExecutionException e)
+    {
+      final NamingException namingException = new NamingException("Lookup was rejected by the executor.");
+      namingException.setRootCause(e);
+
+      newLookup.fail(namingException);
+    }
+  }
+
+  private static void complete(final String name, final NamingLookupCache.Entry entry, final LookupFuture future)
+  {
+    final Object object;
+    try
+    {
+      object = entry.getValue();
+    }
+    catch (NamingException e)
+    {
+      future.onFailure(name, e);
+
+      return;
+    }
+
+    future.onSuccess(name, object);
+  }
+
+  private Object lookup(final String name) throws NamingException
+  {
+    if (null == this.cache)
+    {
+      return lookupInContext(name);
+    }
+
+    return this.cache.lookup(name, new NameLookup()
+                                   {
+                                     @Override
+                                     public Object lookup(final String ignored) throws NamingException
+                                     {
+                                       return lookupInContext(name); // Context is taken only on a miss.
+                                     }
+                                   });
+  }
+
+  private Object lookupInContext(final String name) throws NamingException
+  {
+    try(final AutoCloseableContext<Context> context = this.contextFactory.getContext())
+    {
+      return context.get().lookup(name);
+    }
+  }
+
+  // Private members
+  private final PooledContextFactory                  contextFactory;
+  private final Executor                              executor;
+  private final NamingLookupCache                     cache;
+  private final ConcurrentHashMap<String, LookupTask> pendingLookups;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  private final class LookupTask extends FutureTask<Object>
+  {
+    private LookupTask(final String name)
+    {
+      super(new Callable<Object>()
+            {
+              @Override
+              public Object call() throws NamingException
+              {
+                return lookup(name);
+              }
+            });
+
+      this.name      = name;
+      this.callbacks = new ArrayList<>(1);
+    }
+
+    @Override
+    protected void done()
+    {
+      AsyncLookup.this.pendingLookups.remove(this.name, this); // Later lookups start afresh, e.g. after a failure.
+
+      final List<LookupCallback> callbacks;
+      synchronized (this)
+      {
+        callbacks      = this.callbacks;
+        this.callbacks = null;
+      }
+
+      for (final LookupCallback callback : callbacks)
+      {
+        notify(callback);
+      }
+    }
+
+    private void fail(final NamingException failure)
+    {
+      setException(failure);
+    }
+
+    private void addCallback(final LookupCallback callback)
+    {
+      synchronized (this)
+      {
+        if (null != this.callbacks)
+        {
+          this.callbacks.add(callback);
+
+          return;
+        }
+      }
+
+      notify(callback); // Already complete.
+    }
+
+    private void notify(final LookupCallback callback)
+    {
+      try
+      {
+        try
+        {
+          callback.onSuccess(this.name, get());
+        }
+        catch (ExecutionException e)
+        {
+          callback.onFailure(this.name, toNamingException(e.getCause()));
+        }
+        catch (CancellationException | InterruptedException e) // Interrupt cannot happen as the task is done.
+        {
+          callback.onFailure(this.name, toNamingException(e));
+        }
+      }
+      catch (RuntimeException ignored)
+      {
+        // Callback failures must not stop notifying other callbacks.
+      }
+    }
+
+    private NamingException toNamingException(final Throwable failure)
+    {
+      if (failure instanceof NamingException)
+      {
+        return (NamingException)failure;
+      }
+
+      final NamingException namingException = new NamingException(failure instanceof CancellationException ? "Lookup was cancelled." : "Failed to look up the name.");
+      namingException.setRootCause(failure);
+
+      return namingException;
+    }
+
+    // Private members
+    private final String         name;
+    private List<LookupCallback> callbacks; // Guarded by this, null once done.
+  }
+
+  /**
+   * Future of a single caller, completed by the lookup through the {@link LookupCallback} methods. Cancelling it only completes it for
+   * this caller, the lookup goes on for the others.
+   */
+  private static final class LookupFuture implements Future<Object>, LookupCallback
+  {
+    private LookupFuture(final LookupCallback callback)
+    {
+      this.callback = callback;
+      this.done     = new CountDownLatch(1);
+    }
+
+    @Override
+    public void onSuccess(final String name, final Object object)
+    {
+      complete(object, null);
+
+      try
+      {
+        if (null != this.callback)
+        {
+          this.callback.onSuccess(name, object);
+        }
+      }
+      catch (RuntimeException ignored)
+      {
+        // Callback failures must not reach the lookup or the caller.
+      }
+    }
+
+    @Override
+    public void onFailure(final String name, final NamingException failure)
+    {
+      complete(null, failure);
+
+      try
+      {
+        if (null != this.callback)
+        {
+          this.callback.onFailure(name, failure);
+        }
+      }
+      catch (RuntimeException ignored)
+      {
+        // Callback failures must not reach the lookup or the caller.
+      }
+    }
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning)
+    {
+      return complete(null, new CancellationException("Lookup was cancelled."));
+    }
+
+    @Override
+    public boolean isCancelled()
+    {
+      return isDone() && this.failure instanceof CancellationException;
+    }
+
+    @Override
+    public boolean isDone()
+    {
+      return 0 == this.done.getCount();
+    }
+
+    @Override
+    public Object get() throws InterruptedException, ExecutionException
+    {
+      this.done.await();
+
+      return getResult();
+    }
+
+    @Override
+    public Object get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+    {
+      notNull("unit", unit);
+
+      if ( ! this.done.await(timeout, unit) )
+      {
+        throw new TimeoutException();
+      }
+
+      return getResult();
+    }
+
+    // Private methods
+    private synchronized boolean complete(final Object result, final Throwable failure)
+    {
+      if (isDone())
+      {
+        return false;
+      }
+
+      this.result  = result;
+      this.failure = failure;
+      this.done.countDown(); // Publishes the result to the threads returning from await().
+
+      return true;
+    }
+
+    private Object getResult() throws ExecutionException
+    {
+      if (this.failure instanceof CancellationException)
+      {
+        throw (CancellationException)this.failure;
+      }
+
+      if (null != this.failure)
+      {
+        throw new ExecutionException(this.failure);
+      }
+
+      return this.result;
+    }
+
+    // Private members
+    private final LookupCallback callback;
+    private final CountDownLatch done;
+    private Object               result;  // Written before done is counted down.
+    private Throwable            failure; // Written before done is counted down.
+  }
+}
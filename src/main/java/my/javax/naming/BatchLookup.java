@@ -0,0 +1,218 @@
+/********************************************************************
+ * File Name:    BatchLookup.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import static my.java.util.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+
+/**
+ * Looks up many names in parallel e.g. at startup. The names are looked up by a bounded number of tasks running on the
+ * {@link Executor}, and each task uses its own context from the {@link PooledContextFactory}.
+ * <pre>
+ * <b>Example:</b>
+ *     final BatchLookup batchLookup = new BatchLookup(pooledContextFactory, executor, 8);
+ *     final BatchLookupResult result = batchLookup.lookupAll(names);
+ *     if (result.hasErrors())
+ *     {
+ *       ...
+ *     }
+ *
+ *     final DataSource dataSource = (DataSource)result.getObjects().get("java:comp/env/jdbc/db");
+ * </pre>
+ * <p>
+ * The tasks take the next name to look up from the shared list, so a slow name does not hold up the names behind it. Failure to look up
+ * a name does not stop the others, the error is reported for the name in the {@link BatchLookupResult}. Unchecked exceptions and errors
+ * are reported as {@link NamingException} with the thrown one as the root cause. If the executor rejects a task then the task runs on the
+ * calling thread.
+ */
+public class BatchLookup
+{
+  /**
+   * Creates instance of {@link BatchLookup}.
+   *
+   * @param contextFactory The {@link PooledContextFactory} to get the contexts from.
+   *
+   * @param executor The {@link Executor} to run the lookup tasks on.
+   *
+   * @param parallelism The maximum number of lookup tasks for a batch. Must be greater than zero.
+   */
+  public BatchLookup(final PooledContextFactory contextFactory, final Executor executor, final int parallelism)
+  {
+    notNull("contextFactory", contextFactory);
+    notNull("executor", executor);
+
+    if (parallelism <= 0)
+    {
+      throw new IllegalArgumentException("@parallelism should be greater than zero.");
+    }
+
+    this.contextFactory = contextFactory;
+    this.executor       = executor;
+    this.parallelism    = parallelism;
+  }
+
+  /**
+   * This method looks up the names in parallel and waits for all of them to complete.
+   *
+   * @param names The names to look up. Duplicates are looked up once.
+   *
+   * @return The {@link BatchLookupResult} holding the objects and the errors by name.
+   *
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  public BatchLookupResult lookupAll(final Collection<String> names) throws InterruptedException
+  {
+    notNull("names", names);
+
+    final List<String>   uniqueNames = new ArrayList<>(new LinkedHashSet<>(names));
+    final Batch          batch       = new Batch(uniqueNames);
+    final int            nTasks      = Math.min(this.parallelism, uniqueNames.size());
+    final CountDownLatch doneLatch   = new CountDownLatch(nTasks);
+
+    for (int nTask = 0; nTask < nTasks; nTask++)
+    {
+      final Runnable task = new Runnable()
+                            {
+                              @Override
+                              public void run()
+                              {
+                                try
+                                {
+                                  lookup(batch);
+                                }
+                                finally
+                                {
+                                  doneLatch.countDown();
+                                }
+                              }
+                            };
+
+      try
+      {
+        this.executor.execute(task);
+      }
+      catch (RejectedExecutionException e)
+      {
+        task.run(); // Executor is saturated or shut down.
+      }
+    }
+
+    doneLatch.await();
+
+    return batch.toResult();
+  }
+
+  // Private methods
+  private void lookup(final Batch batch)
+  {
+    AutoCloseableContext<Context> context = null;
+    try
+    {
+      int nName;
+      while ((nName = batch.nextName.getAndIncrement()) < batch.names.size())
+      {
+        try
+        {
+          if (null == context)
+          {
+            context = this.contextFactory.getContext(); // Kept for the rest of the names taken by this task.
+          }
+
+          batch.objects[nName] = context.get().lookup(batch.names.get(nName));
+        }
+        catch (NamingException e)
+        {
+          batch.errors[nName] = e;
+        }
+        catch (Throwable e) // Including errors, so that a name is never reported as looked up without an object.
+        {
+          final NamingException namingException = new NamingException("Failed to look up the name.");
+          namingException.setRootCause(e);
+
+          batch.errors[nName] = namingException;
+        }
+      }
+    }
+    finally
+    {
+      if (null != context)
+      {
+        try
+        {
+          context.close();
+        }
+        catch (NamingException ignored)
+        {
+          // Pooled context is returned to the pool, nothing to report.
+        }
+      }
+    }
+  }
+
+  // Private members
+  private final PooledContextFactory contextFactory;
+  private final Executor             executor;
+  private final int                  parallelism;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * State of a batch shared by its tasks. Each task writes only the slots of the names it took, and the results are read after the
+   * tasks are done, so the arrays need no synchronization of their own.
+   */
+  private static final class Batch
+  {
+    private Batch(final List<String> names)
+    {
+      this.names    = names;
+      this.objects  = new Object[names.size()];
+      this.errors   = new NamingException[names.size()];
+      this.nextName = new AtomicInteger();
+    }
+
+    private BatchLookupResult toResult()
+    {
+      final Map<String, Object>          objects = new LinkedHashMap<>();
+      final Map<String, NamingException> errors  = new LinkedHashMap<>();
+      for (int nName = 0; nName < this.names.size(); nName++)
+      {
+        if (null == this.errors[nName])
+        {
+          objects.put(this.names.get(nName), this.objects[nName]);
+        }
+        else
+        {
+          errors.put(this.names.get(nName), this.errors[nName]);
+        }
+      }
+
+      return new BatchLookupResult(objects, errors);
+    }
+
+    // Private members
+    private final List<String>      names;
+    private final Object[]          objects;
+    private final NamingException[] errors;
+    private final AtomicInteger     nextName;
+  }
+}
@@ -0,0 +1,57 @@
+/********************************************************************
+ * File Name:    BatchLookupResult.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.naming.NamingException;
+
+/**
+ * Result of {@link BatchLookup#lookupAll(java.util.Collection)} holding the looked up objects and the errors by name. Every name is
+ * either in the objects or in the errors.
+ */
+public final class BatchLookupResult
+{
+  /**
+   * @return The looked up objects by name, in the order of the names.
+   */
+  public Map<String, Object> getObjects()
+  {
+    return this.objects;
+  }
+
+  /**
+   * @return The errors by name for the names which could not be looked up, in the order of the names.
+   */
+  public Map<String, NamingException> getErrors()
+  {
+    return this.errors;
+  }
+
+  /**
+   * @return <code>true</code> if any of the names could not be looked up.
+   */
+  public boolean hasErrors()
+  {
+    return ! this.errors.isEmpty();
+  }
+
+  // Package private methods
+  BatchLookupResult(final Map<String, Object> objects, final Map<String, NamingException> errors)
+  {
+    this.objects = Collections.unmodifiableMap(objects);
+    this.errors  = Collections.unmodifiableMap(errors);
+  }
+
+  // Private members
+  private final Map<String, Object>          objects;
+  private final Map<String, NamingException> errors;
+}
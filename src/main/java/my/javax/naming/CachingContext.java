@@ -0,0 +1,356 @@
+/********************************************************************
+ * File Name:    CachingContext.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import static my.java.util.Assert.*;
+
+import java.util.Hashtable;
+
+import javax.naming.Binding;
+import javax.naming.Context;
+import javax.naming.Name;
+import javax.naming.NameClassPair;
+import javax.naming.NameParser;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+
+/**
+ * Decorator for {@link Context} which serves the lookups from {@link NamingLookupCache}. Binding, rebinding, unbinding or renaming
+ * a name through the decorator removes the name, and the names under it, from the cache. All the other operations are passed on to
+ * the decorated {@link Context} as is.
+ * <pre>
+ * <b>Example:</b>
+ *     try(final AutoCloseableContext<CachingContext> context = new AutoCloseableContext<>(new CachingContext(new InitialContext(), LOOKUP_CACHE)))
+ *     {
+ *       final DataSource dataSource = (DataSource)context.get().lookup("java:comp/env/jdbc/db");
+ *       ...
+ *     }
+ * </pre>
+ * <p>
+ * The cache is usually shared by the contexts, so closing the decorator closes the decorated {@link Context} but keeps the cache. Only
+ * the contexts of the same namespace should share a cache, as it is keyed by the name only.
+ * Changes made directly to the naming service, not through a decorator sharing the cache, are seen once the cached entries expire.
+ */
+public class CachingContext implements Context
+{
+  /**
+   * Creates instance of {@link CachingContext}.
+   *
+   * @param context The {@link Context} to decorate.
+   *
+   * @param cache The {@link NamingLookupCache} to serve the lookups from.
+   */
+  public CachingContext(final Context context, final NamingLookupCache cache)
+  {
+    notNull("context", context);
+    notNull("cache", cache);
+
+    this.context = context;
+    this.cache   = cache;
+  }
+
+  /**
+   * @return The decorated {@link Context}.
+   */
+  public Context getContext()
+  {
+    return this.context;
+  }
+
+  /**
+   * @return The {@link NamingLookupCache} the lookups are served from.
+   */
+  public NamingLookupCache getCache()
+  {
+    return this.cache;
+  }
+
+  @Override
+  public Object lookup(final Name name) throws NamingException
+  {
+    return this.cache.lookup(name.toString(), new NameLookup()
+                                              {
+                                                @Override
+                                                public Object lookup(final String ignored) throws NamingException
+                                                {
+                                                  return CachingContext.this.context.lookup(name);
+                                                }
+                                              });
+  }
+
+  @Override
+  public Object lookup(final String name) throws NamingException
+  {
+    return this.cache.lookup(name, this.contextLookup);
+  }
+
+  @Override
+  public void bind(final Name name, final Object obj) throws NamingException
+  {
+    try
+    {
+      this.context.bind(name, obj);
+    }
+    finally
+    {
+      this.cache.invalidate(name.toString());
+    }
+  }
+
+  @Override
+  public void bind(final String name, final Object obj) throws NamingException
+  {
+    try
+    {
+      this.context.bind(name, obj);
+    }
+    finally
+    {
+      this.cache.invalidate(name);
+    }
+  }
+
+  @Override
+  public void rebind(final Name name, final Object obj) throws NamingException
+  {
+    try
+    {
+      this.context.rebind(name, obj);
+    }
+    finally
+    {
+      this.cache.invalidate(name.toString());
+    }
+  }
+
+  @Override
+  public void rebind(final String name, final Object obj) throws NamingException
+  {
+    try
+    {
+      this.context.rebind(name, obj);
+    }
+    finally
+    {
+      this.cache.invalidate(name);
+    }
+  }
+
+  @Override
+  public void unbind(final Name name) throws NamingException
+  {
+    try
+    {
+      this.context.unbind(name);
+    }
+    finally
+    {
+      this.cache.invalidate(name.toString());
+    }
+  }
+
+  @Override
+  public void unbind(final String name) throws NamingException
+  {
+    try
+    {
+      this.context.unbind(name);
+    }
+    finally
+    {
+      this.cache.invalidate(name);
+    }
+  }
+
+  @Override
+  public void rename(final Name oldName, final Name newName) throws NamingException
+  {
+    try
+    {
+      this.context.rename(oldName, newName);
+    }
+    finally
+    {
+      this.cache.invalidate(oldName.toString());
+      this.cache.invalidate(newName.toString());
+    }
+  }
+
+  @Override
+  public void rename(final String oldName, final String newName) throws NamingException
+  {
+    try
+    {
+      this.context.rename(oldName, newName);
+    }
+    finally
+    {
+      this.cache.invalidate(oldName);
+      this.cache.invalidate(newName);
+    }
+  }
+
+  @Override
+  public NamingEnumeration<NameClassPair> list(final Name name) throws NamingException
+  {
+    return this.context.list(name);
+  }
+
+  @Override
+  public NamingEnumeration<NameClassPair> list(final String name) throws NamingException
+  {
+    return this.context.list(name);
+  }
+
+  @Override
+  public NamingEnumeration<Binding> listBindings(final Name name) throws NamingException
+  {
+    return this.context.listBindings(name);
+  }
+
+  @Override
+  public NamingEnumeration<Binding> listBindings(final String name) throws NamingException
+  {
+    return this.context.listBindings(name);
+  }
+
+  @Override
+  public void destroySubcontext(final Name name) throws NamingException
+  {
+    try
+    {
+      this.context.destroySubcontext(name);
+    }
+    finally
+    {
+      this.cache.invalidate(name.toString());
+    }
+  }
+
+  @Override
+  public void destroySubcontext(final String name) throws NamingException
+  {
+    try
+    {
+      this.context.destroySubcontext(name);
+    }
+    finally
+    {
+      this.cache.invalidate(name);
+    }
+  }
+
+  @Override
+  public Context createSubcontext(final Name name) throws NamingException
+  {
+    try
+    {
+      return this.context.createSubcontext(name);
+    }
+    finally
+    {
+      this.cache.invalidate(name.toString());
+    }
+  }
+
+  @Override
+  public Context createSubcontext(final String name) throws NamingException
+  {
+    try
+    {
+      return this.context.createSubcontext(name);
+    }
+    finally
+    {
+      this.cache.invalidate(name);
+    }
+  }
+
+  @Override
+  public Object lookupLink(final Name name) throws NamingException
+  {
+    return this.context.lookupLink(name);
+  }
+
+  @Override
+  public Object lookupLink(final String name) throws NamingException
+  {
+    return this.context.lookupLink(name);
+  }
+
+  @Override
+  public NameParser getNameParser(final Name name) throws NamingException
+  {
+    return this.context.getNameParser(name);
+  }
+
+  @Override
+  public NameParser getNameParser(final String name) throws NamingException
+  {
+    return this.context.getNameParser(name);
+  }
+
+  @Override
+  public Name composeName(final Name name, final Name prefix) throws NamingException
+  {
+    return this.context.composeName(name, prefix);
+  }
+
+  @Override
+  public String composeName(final String name, final String prefix) throws NamingException
+  {
+    return this.context.composeName(name, prefix);
+  }
+
+  @Override
+  public Object addToEnvironment(final String propName, final Object propVal) throws NamingException
+  {
+    return this.context.addToEnvironment(propName, propVal);
+  }
+
+  @Override
+  public Object removeFromEnvironment(final String propName) throws NamingException
+  {
+    return this.context.removeFromEnvironment(propName);
+  }
+
+  @Override
+  public Hashtable<?, ?> getEnvironment() throws NamingException
+  {
+    return this.context.getEnvironment();
+  }
+
+  @Override
+  public String getNameInNamespace() throws NamingException
+  {
+    return this.context.getNameInNamespace();
+  }
+
+  /**
+   * This method closes the decorated {@link Context}. The cache is kept as it can be shared.
+   */
+  @Override
+  public void close() throws NamingException
+  {
+    this.context.close();
+  }
+
+  // Private members
+  private final Context           context;
+  private final NamingLookupCache cache;
+  private final NameLookup        contextLookup = new NameLookup()
+                                                  {
+                                                    @Override
+                                                    public Object lookup(final String name) throws NamingException
+                                                    {
+                                                      return CachingContext.this.context.lookup(name);
+                                                    }
+                                                  };
+}
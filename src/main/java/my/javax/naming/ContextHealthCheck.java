@@ -0,0 +1,25 @@
+/********************************************************************
+ * File Name:    ContextHealthCheck.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import javax.naming.Context;
+
+/**
+ * Checks whether a pooled {@link Context} can still be used. Used by {@link PooledContextFactory} before handing out an idle context.
+ */
+public interface ContextHealthCheck
+{
+  /**
+   * @param context The {@link Context} to check.
+   *
+   * @return <code>true</code> if the context can be used, <code>false</code> if it should be closed and replaced.
+   */
+  boolean isHealthy(Context context);
+}
@@ -0,0 +1,728 @@
+/********************************************************************
+ * File Name:    InMemoryContext.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.naming.Binding;
+import javax.naming.CompositeName;
+import javax.naming.CompoundName;
+import javax.naming.Context;
+import javax.naming.ContextNotEmptyException;
+import javax.naming.InvalidNameException;
+import javax.naming.Name;
+import javax.naming.NameAlreadyBoundException;
+import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
+import javax.naming.NameParser;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.NotContextException;
+
+/**
+ * Fast in-memory {@link Context} e.g. for tests or as in-process registry. Names are compound names with <code>/</code> as the
+ * separator and the subcontexts form a tree.
+ * <pre>
+ * <b>Example:</b>
+ *     final InMemoryContext registry = new InMemoryContext();
+ *     registry.createSubcontext("jdbc");
+ *     registry.bind("jdbc/db", dataSource);
+ *     ...
+ *     try(final AutoCloseableContext<Context> context = new AutoCloseableContext<Context>(new InitialContext(environment)))
+ *     {
+ *       // With Context.INITIAL_CONTEXT_FACTORY set to InMemoryInitialContextFactory.
+ *       final DataSource dataSource = (DataSource)context.get().lookup("jdbc/db");
+ *     }
+ * </pre>
+ * <p>
+ * The whole tree is immutable and is replaced on every change by copying the nodes on the path to the changed name. Lookups read the
+ * current tree without any locking, changes are published with CAS, and {@link #list(String)} and {@link #listBindings(String)}
+ * enumerate a consistent snapshot which is not affected by later changes.
+ * <p>
+ * Instances are views of a namespace at a path, e.g. the subcontexts returned by {@link #lookup(String)}, so closing them does not
+ * release anything.
+ */
+public class InMemoryContext implements Context
+{
+  /**
+   * Creates instance of {@link InMemoryContext} with a new empty namespace.
+   */
+  public InMemoryContext()
+  {
+    this(null);
+  }
+
+  /**
+   * Creates instance of {@link InMemoryContext} with a new empty namespace.
+   *
+   * @param environment The environment of the context. Can be null.
+   */
+  public InMemoryContext(final Hashtable<?, ?> environment)
+  {
+    this(new Namespace(), Collections.<String>emptyList(), null == environment ? new Hashtable<>() : new Hashtable<>(environment));
+  }
+
+  @Override
+  public Object lookup(final Name name) throws NamingException
+  {
+    return lookup(components(name));
+  }
+
+  @Override
+  public Object lookup(final String name) throws NamingException
+  {
+    return lookup(components(name));
+  }
+
+  @Override
+  public void bind(final Name name, final Object obj) throws NamingException
+  {
+    bind(components(name), obj);
+  }
+
+  @Override
+  public void bind(final String name, final Object obj) throws NamingException
+  {
+    bind(components(name), obj);
+  }
+
+  @Override
+  public void rebind(final Name name, final Object obj) throws NamingException
+  {
+    rebind(components(name), obj);
+  }
+
+  @Override
+  public void rebind(final String name, final Object obj) throws NamingException
+  {
+    rebind(components(name), obj);
+  }
+
+  @Override
+  public void unbind(final Name name) throws NamingException
+  {
+    unbind(components(name));
+  }
+
+  @Override
+  public void unbind(final String name) throws NamingException
+  {
+    unbind(components(name));
+  }
+
+  @Override
+  public void rename(final Name oldName, final Name newName) throws NamingException
+  {
+    rename(components(oldName), components(newName));
+  }
+
+  @Override
+  public void rename(final String oldName, final String newName) throws NamingException
+  {
+    rename(components(oldName), components(newName));
+  }
+
+  @Override
+  public NamingEnumeration<NameClassPair> list(final Name name) throws NamingException
+  {
+    return list(components(name));
+  }
+
+  @Override
+  public NamingEnumeration<NameClassPair> list(final String name) throws NamingException
+  {
+    return list(components(name));
+  }
+
+  @Override
+  public NamingEnumeration<Binding> listBindings(final Name name) throws NamingException
+  {
+    return listBindings(components(name));
+  }
+
+  @Override
+  public NamingEnumeration<Binding> listBindings(final String name) throws NamingException
+  {
+    return listBindings(components(name));
+  }
+
+  @Override
+  public void destroySubcontext(final Name name) throws NamingException
+  {
+    destroySubcontext(components(name));
+  }
+
+  @Override
+  public void destroySubcontext(final String name) throws NamingException
+  {
+    destroySubcontext(components(name));
+  }
+
+  @Override
+  public Context createSubcontext(final Name name) throws NamingException
+  {
+    return createSubcontext(components(name));
+  }
+
+  @Override
+  public Context createSubcontext(final String name) throws NamingException
+  {
+    return createSubcontext(components(name));
+  }
+
+  /**
+   * This method looks up the name. Links are not supported, so it is same as {@link #lookup(Name)}.
+   */
+  @Override
+  public Object lookupLink(final Name name) throws NamingException
+  {
+    return lookup(name);
+  }
+
+  /**
+   * This method looks up the name. Links are not supported, so it is same as {@link #lookup(String)}.
+   */
+  @Override
+  public Object lookupLink(final String name) throws NamingException
+  {
+    return lookup(name);
+  }
+
+  @Override
+  public NameParser getNameParser(final Name name) throws NamingException
+  {
+    return NAME_PARSER;
+  }
+
+  @Override
+  public NameParser getNameParser(final String name) throws NamingException
+  {
+    return NAME_PARSER;
+  }
+
+  @Override
+  public Name composeName(final Name name, final Name prefix) throws NamingException
+  {
+    return ((Name)prefix.clone()).addAll(name);
+  }
+
+  @Override
+  public String composeName(final String name, final String prefix) throws NamingException
+  {
+    return prefix.isEmpty() ? name : prefix + SEPARATOR + name;
+  }
+
+  @Override
+  public Object addToEnvironment(final String propName, final Object propVal) throws NamingException
+  {
+    return this.environment.put(propName, propVal);
+  }
+
+  @Override
+  public Object removeFromEnvironment(final String propName) throws NamingException
+  {
+    return this.environment.remove(propName);
+  }
+
+  @Override
+  public Hashtable<?, ?> getEnvironment() throws NamingException
+  {
+    return new Hashtable<>(this.environment);
+  }
+
+  @Override
+  public String getNameInNamespace() throws NamingException
+  {
+    final StringBuilder name = new StringBuilder();
+    for (final String component : this.path)
+    {
+      if (0 != name.length())
+      {
+        name.append(SEPARATOR);
+      }
+
+      name.append(component);
+    }
+
+    return name.toString();
+  }
+
+  /**
+   * This method does nothing as the context is a view of the namespace. The bindings stay in the namespace.
+   */
+  @Override
+  public void close() throws NamingException
+  {
+  }
+
+  // Package private methods
+  /**
+   * Creates the view of the namespace at the path.
+   */
+  InMemoryContext(final Namespace namespace, final List<String> path, final Hashtable<Object, Object> environment)
+  {
+    this.namespace   = namespace;
+    this.path        = path;
+    this.environment = environment;
+  }
+
+  // Private methods
+  private Object lookup(final List<String> name) throws NamingException
+  {
+    final List<String> fullPath = fullPath(name);
+    final Object       value    = resolve(this.namespace.root.get(), fullPath, fullPath.size());
+
+    if (value instanceof Node)
+    {
+      return new InMemoryContext(this.namespace, fullPath, new Hashtable<>(this.environment));
+    }
+
+    return NULL_VALUE == value ? null : value;
+  }
+
+  private void bind(final List<String> name, final Object obj) throws NamingException
+  {
+    update(fullPath(name), new Mutation()
+                           {
+                             @Override
+                             public Node apply(final Node parent, final String atom) throws NamingException
+                             {
+                               if (parent.bindings.containsKey(atom))
+                               {
+                                 throw new NameAlreadyBoundException(atom);
+                               }
+
+                               return parent.with(atom, null == obj ? NULL_VALUE : obj);
+                             }
+                           });
+  }
+
+  private void rebind(final List<String> name, final Object obj) throws NamingException
+  {
+    update(fullPath(name), new Mutation()
+                           {
+                             @Override
+                             public Node apply(final Node parent, final String atom) throws NamingException
+                             {
+                               return parent.with(atom, null == obj ? NULL_VALUE : obj);
+                             }
+                           });
+  }
+
+  private void unbind(final List<String> name) throws NamingException
+  {
+    update(fullPath(name), new Mutation()
+                           {
+                             @Override
+                             public Node apply(final Node parent, final String atom) throws NamingException
+                             {
+                               return parent.without(atom); // Unbinding a name which is not bound succeeds.
+                             }
+                           });
+  }
+
+  private void rename(final List<String> oldName, final List<String> newName) throws NamingException
+  {
+    final List<String> oldPath = fullPath(oldName);
+    final List<String> newPath = fullPath(newName);
+    ensureNotEmpty(oldPath);
+    ensureNotEmpty(newPath);
+
+    while (true)
+    {
+      final Node   root  = this.namespace.root.get();
+      final Object value = resolve(root, oldPath, oldPath.size());
+
+      final Node renamedRoot = update(update(root, oldPath, 0, new Mutation()
+                                                              {
+                                                                @Override
+                                                                public Node apply(final Node parent, final String atom)
+                                                                {
+                                                                  return parent.without(atom);
+                                                                }
+                                                              }),
+                                      newPath, 0, new Mutation()
+                                                  {
+                                                    @Override
+                                                    public Node apply(final Node parent, final String atom) throws NamingException
+                                                    {
+                                                      if (parent.bindings.containsKey(atom))
+                                                      {
+                                                        throw new NameAlreadyBoundException(atom);
+                                                      }
+
+                                                      return parent.with(atom, value);
+                                                    }
+                                                  });
+
+      if (this.namespace.root.compareAndSet(root, renamedRoot))
+      {
+        return;
+      }
+    }
+  }
+
+  private NamingEnumeration<NameClassPair> list(final List<String> name) throws NamingException
+  {
+    final Map<String, Object> bindings = resolveContext(fullPath(name)).bindings; // Immutable snapshot.
+
+    final List<NameClassPair> pairs = new ArrayList<>(bindings.size());
+    for (final Map.Entry<String, Object> binding : bindings.entrySet())
+    {
+      pairs.add(new NameClassPair(binding.getKey(), className(binding.getValue())));
+    }
+
+    return new ListEnumeration<>(pairs);
+  }
+
+  private NamingEnumeration<Binding> listBindings(final List<String> name) throws NamingException
+  {
+    final List<String>        contextPath = fullPath(name);
+    final Map<String, Object> bindings    = resolveContext(contextPath).bindings; // Immutable snapshot.
+
+    final List<Binding> pairs = new ArrayList<>(bindings.size());
+    for (final Map.Entry<String, Object> binding : bindings.entrySet())
+    {
+      final Object value = binding.getValue();
+      if (value instanceof Node)
+      {
+        pairs.add(new Binding(binding.getKey(), className(value), new InMemoryContext(this.namespace, append(contextPath, binding.getKey()),
+                                                                                    new Hashtable<>(this.environment))));
+      }
+      else
+      {
+        pairs.add(new Binding(binding.getKey(), className(value), NULL_VALUE == value ? null : value));
+      }
+    }
+
+    return new ListEnumeration<>(pairs);
+  }
+
+  private void destroySubcontext(final List<String> name) throws NamingException
+  {
+    update(fullPath(name), new Mutation()
+                           {
+                             @Override
+                             public Node apply(final Node parent, final String atom) throws NamingException
+                             {
+                               final Object value = parent.bindings.get(atom);
+                               if (null == value)
+                               {
+                                 return parent; // Destroying a name which is not bound succeeds.
+                               }
+
+                               if ( ! (value instanceof Node) )
+                               {
+                                 throw new NotContextException(atom + " is not a context.");
+                               }
+
+                               if ( ! ((Node)value).bindings.isEmpty() )
+                               {
+                                 throw new ContextNotEmptyException(atom);
+                               }
+
+                               return parent.without(atom);
+                             }
+                           });
+  }
+
+  private Context createSubcontext(final List<String> name) throws NamingException
+  {
+    final List<String> fullPath = fullPath(name);
+
+    update(fullPath, new Mutation()
+                     {
+                       @Override
+                       public Node apply(final Node parent, final String atom) throws NamingException
+                       {
+                         if (parent.bindings.containsKey(atom))
+                         {
+                           throw new NameAlreadyBoundException(atom);
+                         }
+
+                         return parent.with(atom, Node.EMPTY);
+                       }
+                     });
+
+    return new InMemoryContext(this.namespace, fullPath, new Hashtable<>(this.environment));
+  }
+
+  private Node resolveContext(final List<String> fullPath) throws NamingException
+  {
+    final Object value = resolve(this.namespace.root.get(), fullPath, fullPath.size());
+    if ( ! (value instanceof Node) )
+    {
+      throw new NotContextException(fullPath + " is not a context.");
+    }
+
+    return (Node)value;
+  }
+
+  private void update(final List<String> fullPath, final Mutation mutation) throws NamingException
+  {
+    ensureNotEmpty(fullPath);
+
+    while (true)
+    {
+      final Node root    = this.namespace.root.get();
+      final Node newRoot = update(root, fullPath, 0, mutation);
+      if (newRoot == root || this.namespace.root.compareAndSet(root, newRoot))
+      {
+        return;
+      }
+
+      // Changed by some other thread, apply the change to the latest tree.
+    }
+  }
+
+  private List<String> fullPath(final List<String> name)
+  {
+    if (this.path.isEmpty())
+    {
+      return name;
+    }
+
+    final List<String> fullPath = new ArrayList<>(this.path.size() + name.size());
+    fullPath.addAll(this.path);
+    fullPath.addAll(name);
+
+    return fullPath;
+  }
+
+  private static Object resolve(final Node root, final List<String> fullPath, final int length) throws NamingException
+  {
+    Object value = root;
+    for (int nComponent = 0; nComponent < length; nComponent++)
+    {
+      if ( ! (value instanceof Node) )
+      {
+        throw new NotContextException(fullPath.get(nComponent - 1) + " is not a context.");
+      }
+
+      value = ((Node)value).bindings.get(fullPath.get(nComponent));
+      if (null == value)
+      {
+        throw new NameNotFoundException(fullPath.get(nComponent));
+      }
+    }
+
+    return value;
+  }
+
+  private static Node update(final Node node, final List<String> fullPath, final int nComponent, final Mutation mutation) throws NamingException
+  {
+    final String atom = fullPath.get(nComponent);
+    if (fullPath.size() - 1 == nComponent)
+    {
+      return mutation.apply(node, atom);
+    }
+
+    final Object child = node.bindings.get(atom);
+    if (null == child)
+    {
+      throw new NameNotFoundException(atom);
+    }
+
+    if ( ! (child instanceof Node) )
+    {
+      throw new NotContextException(atom + " is not a context.");
+    }
+
+    final Node newChild = update((Node)child, fullPath, nComponent + 1, mutation);
+
+    return newChild == child ? node : node.with(atom, newChild);
+  }
+
+  private static void ensureNotEmpty(final List<String> fullPath) throws InvalidNameException
+  {
+    if (fullPath.isEmpty())
+    {
+      throw new InvalidNameException("Name cannot be empty.");
+    }
+  }
+
+  private static List<String> components(final String name) throws NamingException
+  {
+    return components(new CompositeName(name));
+  }
+
+  private static List<String> components(final Name name)
+  {
+    final List<String> components = new ArrayList<>(name.size());
+    for (int nComponent = 0; nComponent < name.size(); nComponent++)
+    {
+      final String component = name.get(nComponent);
+      if ( ! component.isEmpty() )
+      {
+        components.add(component);
+      }
+    }
+
+    return components;
+  }
+
+  private static List<String> append(final List<String> path, final String component)
+  {
+    final List<String> appended = new ArrayList<>(path.size() + 1);
+    appended.addAll(path);
+    appended.add(component);
+
+    return appended;
+  }
+
+  private static String className(final Object value)
+  {
+    if (value instanceof Node)
+    {
+      return InMemoryContext.class.getName();
+    }
+
+    return NULL_VALUE == value ? null : value.getClass().getName();
+  }
+
+  private static Properties nameSyntax()
+  {
+    final Properties syntax = new Properties();
+    syntax.put("jndi.syntax.direction", "left_to_right");
+    syntax.put("jndi.syntax.separator", SEPARATOR);
+
+    return syntax;
+  }
+
+  // Private members
+  private static final String     SEPARATOR   = "/";
+  private static final Object     NULL_VALUE  = new Object(); // Bound in place of null.
+  private static final Properties NAME_SYNTAX = nameSyntax();
+  private static final NameParser NAME_PARSER = new NameParser()
+                                                {
+                                                  @Override
+                                                  public Name parse(final String name) throws NamingException
+                                                  {
+                                                    return new CompoundName(name, NAME_SYNTAX);
+                                                  }
+                                                };
+
+  private final Namespace                 namespace;
+  private final List<String>              path;
+  private final Hashtable<Object, Object> environment;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * The tree of the bindings shared by all the views.
+   */
+  static final class Namespace
+  {
+    // Private members
+    private final AtomicReference<Node> root = new AtomicReference<>(Node.EMPTY);
+  }
+
+  /**
+   * Immutable node of the tree. The value of a binding is either a {@link Node} for a subcontext or the bound object.
+   */
+  private static final class Node
+  {
+    private Node(final Map<String, Object> bindings)
+    {
+      this.bindings = bindings;
+    }
+
+    private Node with(final String atom, final Object value)
+    {
+      final Map<String, Object> bindings = new HashMap<>(this.bindings);
+      bindings.put(atom, value);
+
+      return new Node(Collections.unmodifiableMap(bindings));
+    }
+
+    private Node without(final String atom)
+    {
+      if ( ! this.bindings.containsKey(atom) )
+      {
+        return this;
+      }
+
+      final Map<String, Object> bindings = new HashMap<>(this.bindings);
+      bindings.remove(atom);
+
+      return new Node(Collections.unmodifiableMap(bindings));
+    }
+
+    // Private members
+    private static final Node EMPTY = new Node(Collections.<String, Object>emptyMap());
+
+    private final Map<String, Object> bindings;
+  }
+
+  /**
+   * Change to the binding of the last component of a name.
+   */
+  private interface Mutation
+  {
+    /**
+     * @return The copy of the parent node with the change, or the parent node itself if nothing changed.
+     */
+    Node apply(Node parent, String atom) throws NamingException;
+  }
+
+  private static final class ListEnumeration<T> implements NamingEnumeration<T>
+  {
+    private ListEnumeration(final List<T> elements)
+    {
+      this.elements = elements.iterator();
+    }
+
+    @Override
+    public boolean hasMore()
+    {
+      return this.elements.hasNext();
+    }
+
+    @Override
+    public T next()
+    {
+      return this.elements.next();
+    }
+
+    @Override
+    public boolean hasMoreElements()
+    {
+      return this.elements.hasNext();
+    }
+
+    @Override
+    public T nextElement()
+    {
+      if ( ! this.elements.hasNext() )
+      {
+        throw new NoSuchElementException();
+      }
+
+      return this.elements.next();
+    }
+
+    @Override
+    public void close()
+    {
+    }
+
+    // Private members
+    private final Iterator<T> elements;
+  }
+}
@@ -0,0 +1,97 @@
+/********************************************************************
+ * File Name:    InMemoryInitialContextFactory.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import static my.java.util.Assert.*;
+
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+import javax.naming.spi.InitialContextFactory;
+
+/**
+ * {@link InitialContextFactory} plugging {@link InMemoryContext} in through the standard environment properties. All the initial
+ * contexts created with the same namespace name share the bindings for the lifetime of the JVM.
+ * <pre>
+ * <b>Example:</b>
+ *     final Hashtable<String, Object> environment = new Hashtable<>();
+ *     environment.put(Context.INITIAL_CONTEXT_FACTORY, InMemoryInitialContextFactory.class.getName());
+ *     environment.put(InMemoryInitialContextFactory.NAMESPACE, "tests"); // Optional.
+ *
+ *     try(final AutoCloseableContext<InitialContext> context = new AutoCloseableContext<>(new InitialContext(environment)))
+ *     {
+ *       context.get().bind("name", value);
+ *     }
+ * </pre>
+ */
+public class InMemoryInitialContextFactory implements InitialContextFactory
+{
+  /**
+   * The environment property with the name of the namespace to use. If not set then {@link #DEFAULT_NAMESPACE} is used.
+   */
+  public static final String NAMESPACE = "my.javax.naming.inmemory.namespace";
+
+  /**
+   * The name of the namespace used when {@link #NAMESPACE} is not set.
+   */
+  public static final String DEFAULT_NAMESPACE = "default";
+
+  @Override
+  public Context getInitialContext(final Hashtable<?, ?> environment) throws NamingException
+  {
+    final Object namespaceName = null == environment ? null : environment.get(NAMESPACE);
+
+    final Hashtable<Object, Object> contextEnvironment = new Hashtable<>();
+    if (null != environment)
+    {
+      contextEnvironment.putAll(environment);
+    }
+
+    return new InMemoryContext(getNamespace(null == namespaceName ? DEFAULT_NAMESPACE : namespaceName.toString()),
+                               Collections.<String>emptyList(), contextEnvironment);
+  }
+
+  /**
+   * This method removes all the bindings of the namespace e.g. between tests. Initial contexts created afterwards start with an
+   * empty namespace, the ones created before keep the old bindings.
+   *
+   * @param namespaceName The name of the namespace.
+   */
+  public static void clearNamespace(final String namespaceName)
+  {
+    notNull("namespaceName", namespaceName);
+
+    NAMESPACES.remove(namespaceName);
+  }
+
+  // Private methods
+  private static InMemoryContext.Namespace getNamespace(final String namespaceName)
+  {
+    InMemoryContext.Namespace namespace = NAMESPACES.get(namespaceName);
+    if (null == namespace)
+    {
+      final InMemoryContext.Namespace newNamespace = new InMemoryContext.Namespace();
+
+      namespace = NAMESPACES.putIfAbsent(namespaceName, newNamespace);
+      if (null == namespace)
+      {
+        namespace = newNamespace;
+      }
+    }
+
+    return namespace;
+  }
+
+  // Private members
+  private static final ConcurrentHashMap<String, InMemoryContext.Namespace> NAMESPACES = new ConcurrentHashMap<>();
+}
@@ -0,0 +1,38 @@
+/********************************************************************
+ * File Name:    LookupCallback.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import javax.naming.NamingException;
+
+/**
+ * Callback notified when an asynchronous lookup started by {@link AsyncLookup#lookupAsync(String, LookupCallback)} completes.
+ * The callback is called on the thread which completed the lookup, or on the calling thread if the lookup was already complete,
+ * so it should not block.
+ */
+public interface LookupCallback
+{
+  /**
+   * This method is called when the name is looked up.
+   *
+   * @param name The name.
+   *
+   * @param object The object bound to the name.
+   */
+  void onSuccess(String name, Object object);
+
+  /**
+   * This method is called when the lookup fails or is cancelled.
+   *
+   * @param name The name.
+   *
+   * @param failure The {@link NamingException} describing the failure.
+   */
+  void onFailure(String name, NamingException failure);
+}
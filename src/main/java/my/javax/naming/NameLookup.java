@@ -0,0 +1,28 @@
+/********************************************************************
+ * File Name:    NameLookup.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import javax.naming.NamingException;
+
+/**
+ * Looks up the object bound to a name e.g. by calling {@link javax.naming.Context#lookup(String)}. Used by {@link NamingLookupCache}
+ * to load the names which are not cached.
+ */
+public interface NameLookup
+{
+  /**
+   * @param name The name to look up.
+   *
+   * @return The object bound to the name.
+   *
+   * @throws NamingException If the lookup fails.
+   */
+  Object lookup(String name) throws NamingException;
+}
@@ -0,0 +1,263 @@
+/********************************************************************
+ * File Name:    NamingLookupCache.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import static my.java.util.Assert.*;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+
+/**
+ * Thread-safe cache of naming lookup results with time to live and bounded size. The cache can be shared by many {@link CachingContext}
+ * instances e.g. by the contexts created per request.
+ * <pre>
+ * <b>Example:</b>
+ *     private static final NamingLookupCache LOOKUP_CACHE = new NamingLookupCache(1000, 5, 1, TimeUnit.MINUTES);
+ *     ...
+ *     try(final AutoCloseableContext<CachingContext> context = new AutoCloseableContext<>(new CachingContext(new InitialContext(), LOOKUP_CACHE)))
+ *     {
+ *       final DataSource dataSource = (DataSource)context.get().lookup("java:comp/env/jdbc/db");
+ *       ...
+ *     }
+ * </pre>
+ * <p>
+ * Names which are not found are cached too (negative caching), usually with a shorter time to live, so that repeated lookups of
+ * missing names do not hit the naming service. Other failures are not cached. When the cache is full, entries are evicted in a batch,
+ * expired entries first and then arbitrary entries, till the cache is down to 90% of the maximum size. So the eviction scan runs once
+ * per many lookups and not on every lookup of a full cache.
+ * <p>
+ * The cache is keyed by the name only, so one cache must serve a single namespace i.e. the contexts sharing it must resolve the same
+ * names to the same objects. Use separate caches for different naming providers or environments.
+ * <p>
+ * Cached objects are shared by all the callers looking up the same name, so they should be thread-safe e.g. data sources or
+ * connection factories.
+ */
+public class NamingLookupCache
+{
+  /**
+   * Creates instance of {@link NamingLookupCache}.
+   *
+   * @param maxSize The maximum number of cached names. Must be greater than zero.
+   *
+   * @param timeToLive The time for which the found objects are cached. Must be greater than zero.
+   *
+   * @param negativeTimeToLive The time for which the names not found are cached. Zero disables negative caching.
+   *
+   * @param unit The {@link TimeUnit} of the times.
+   */
+  public NamingLookupCache(final int maxSize, final long timeToLive, final long negativeTimeToLive, final TimeUnit unit)
+  {
+    notNull("unit", unit);
+
+    if (maxSize <= 0)
+    {
+      throw new IllegalArgumentException("@maxSize should be greater than zero.");
+    }
+
+    if (timeToLive <= 0)
+    {
+      throw new IllegalArgumentException("@timeToLive should be greater than zero.");
+    }
+
+    if (negativeTimeToLive < 0)
+    {
+      throw new IllegalArgumentException("@negativeTimeToLive cannot be negative.");
+    }
+
+    this.maxSize                 = maxSize;
+    this.evictToSize             = maxSize - Math.max(1, maxSize / 10);
+    this.timeToLiveNanos         = unit.toNanos(timeToLive);
+    this.negativeTimeToLiveNanos = unit.toNanos(negativeTimeToLive);
+    this.entries                 = new ConcurrentHashMap<>();
+    this.generation              = new AtomicLong();
+  }
+
+  /**
+   * This method returns the cached object bound to the name or looks it up using the {@link NameLookup} and caches it.
+   *
+   * @param name The name to look up.
+   *
+   * @param nameLookup The {@link NameLookup} to look up the name if it is not cached.
+   *
+   * @return The object bound to the name.
+   *
+   * @throws NameNotFoundException If the name is not bound, also if it is cached as not found.
+   *
+   * @throws NamingException If the lookup fails.
+   */
+  public Object lookup(final String name, final NameLookup nameLookup) throws NamingException
+  {
+    notNull("name", name);
+    notNull("nameLookup", nameLookup);
+
+    final Entry entry = getEntry(name);
+    if (null != entry)
+    {
+      return entry.getValue();
+    }
+
+    final long generation = this.generation.get();
+    try
+    {
+      final Object value = nameLookup.lookup(name);
+
+      put(name, new Entry(value, false, null, System.nanoTime() + this.timeToLiveNanos), generation);
+
+      return value;
+    }
+    catch (NameNotFoundException e)
+    {
+      if (0 != this.negativeTimeToLiveNanos)
+      {
+        put(name, new Entry(null, true, e.getExplanation(), System.nanoTime() + this.negativeTimeToLiveNanos), generation);
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * This method removes the name and the names under it (i.e. starting with <code>name/</code>) from the cache. Should be called when
+   * the name is bound, rebound or unbound.
+   *
+   * @param name The name to remove.
+   */
+  public void invalidate(final String name)
+  {
+    notNull("name", name);
+
+    this.generation.incrementAndGet(); // Lookups in flight must not cache what they loaded before the change.
+
+    this.entries.remove(name);
+
+    final String prefix = name.endsWith("/") ? name : name + "/";
+    for (final Iterator<String> names = this.entries.keySet().iterator(); names.hasNext(); )
+    {
+      if (names.next().startsWith(prefix))
+      {
+        names.remove();
+      }
+    }
+  }
+
+  /**
+   * This method removes all the names from the cache.
+   */
+  public void invalidateAll()
+  {
+    this.generation.incrementAndGet();
+
+    this.entries.clear();
+  }
+
+  /**
+   * @return The number of cached names, including the expired ones not evicted yet.
+   */
+  public int size()
+  {
+    return this.entries.size();
+  }
+
+  // Package private methods
+  /**
+   * This method returns the cached entry of the name without looking it up.
+   *
+   * @param name The name to look up.
+   *
+   * @return The {@link Entry} of the name or null if the name is not cached or expired.
+   */
+  Entry getEntry(final String name)
+  {
+    final Entry entry = this.entries.get(name);
+
+    return null == entry || entry.isExpired(System.nanoTime()) ? null : entry;
+  }
+
+  // Private methods
+  private void put(final String name, final Entry entry, final long generation)
+  {
+    if (this.entries.size() >= this.maxSize && ! this.entries.containsKey(name))
+    {
+      evict();
+    }
+
+    this.entries.put(name, entry);
+
+    if (generation != this.generation.get())
+    {
+      this.entries.remove(name, entry); // Invalidated while we were looking up.
+    }
+  }
+
+  private void evict()
+  {
+    final long nowNanos = System.nanoTime();
+    for (final Iterator<Entry> entries = this.entries.values().iterator(); entries.hasNext(); )
+    {
+      if (entries.next().isExpired(nowNanos))
+      {
+        entries.remove();
+      }
+    }
+
+    for (final Iterator<String> names = this.entries.keySet().iterator(); this.entries.size() > this.evictToSize && names.hasNext(); )
+    {
+      names.next();
+      names.remove();
+    }
+  }
+
+  // Private members
+  private final int                              maxSize;
+  private final int                              evictToSize; // Evicting in batches keeps the full scan off most lookups.
+  private final long                             timeToLiveNanos;
+  private final long                             negativeTimeToLiveNanos;
+  private final ConcurrentHashMap<String, Entry> entries;
+  private final AtomicLong                       generation; // Changed on every invalidation.
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  static final class Entry
+  {
+    private Entry(final Object value, final boolean notFound, final String notFoundExplanation, final long expiresAtNanos)
+    {
+      this.value               = value;
+      this.notFound            = notFound;
+      this.notFoundExplanation = notFoundExplanation;
+      this.expiresAtNanos      = expiresAtNanos;
+    }
+
+    Object getValue() throws NameNotFoundException
+    {
+      if (this.notFound)
+      {
+        throw new NameNotFoundException(this.notFoundExplanation);
+      }
+
+      return this.value;
+    }
+
+    private boolean isExpired(final long nowNanos)
+    {
+      return nowNanos - this.expiresAtNanos >= 0;
+    }
+
+    // Private members
+    private final Object  value;
+    private final boolean notFound;
+    private final String  notFoundExplanation;
+    private final long    expiresAtNanos;
+  }
+}
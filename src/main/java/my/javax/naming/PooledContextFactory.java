@@ -0,0 +1,312 @@
+/********************************************************************
+ * File Name:    PooledContextFactory.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.javax.naming;
+
+import static my.java.util.Assert.*;
+
+import java.util.Hashtable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NamingException;
+
+import my.java.resourcemanagement.AbstractAutoCloseableResource;
+import my.java.resourcemanagement.PooledResourceFactory;
+import my.java.resourcemanagement.ResourcePool;
+
+/**
+ * Factory of {@link AutoCloseableContext} instances which are returned to a bounded pool when closed instead of closing the
+ * {@link Context}, so that request scoped usage reuses warm contexts.
+ * <pre>
+ * <b>Example:</b>
+ *     private static final PooledContextFactory CONTEXTS = new PooledContextFactory(environment, 16, 5, TimeUnit.MINUTES);
+ *     ...
+ *     try(final AutoCloseableContext<Context> context = CONTEXTS.getContext())
+ *     {
+ *       final DataSource dataSource = (DataSource)context.get().lookup("java:comp/env/jdbc/db");
+ *       ...
+ *     } // Context is returned to the pool.
+ * </pre>
+ * <p>
+ * Contexts are created lazily. Before an idle context is handed out it is closed and replaced if it was idle for longer than the idle
+ * timeout or if it fails the {@link ContextHealthCheck}. If all the contexts are in use then {@link #getContext()} blocks till one is
+ * returned. Closing the factory closes the idle contexts, the ones in use are closed when they are returned.
+ * <p>
+ * <strong>Note:</strong> The {@link Context} must not be closed, or used, after the {@link AutoCloseableContext} is closed.
+ */
+public class PooledContextFactory implements AutoCloseable
+{
+  /**
+   * Creates instance of {@link PooledContextFactory} creating {@link InitialContext} instances. The health check gets the environment
+   * of the context.
+   *
+   * @param environment The environment used to create the {@link InitialContext}. Can be null.
+   *
+   * @param maxSize The maximum number of contexts, idle or in use. Must be greater than zero.
+   *
+   * @param idleTimeout The time after which an idle context is replaced. Must be greater than zero.
+   *
+   * @param unit The {@link TimeUnit} of <code>idleTimeout</code>.
+   */
+  public PooledContextFactory(final Hashtable<?, ?> environment, final int maxSize, final long idleTimeout, final TimeUnit unit)
+  {
+    this(new Callable<Context>()
+         {
+           @Override
+           public Context call() throws NamingException
+           {
+             return new InitialContext(environment);
+           }
+         }, DEFAULT_HEALTH_CHECK, maxSize, idleTimeout, unit);
+  }
+
+  /**
+   * Creates instance of {@link PooledContextFactory}.
+   *
+   * @param contextFactory The {@link Callable} which creates the {@link Context}.
+   *
+   * @param healthCheck The {@link ContextHealthCheck} to check an idle context before it is handed out.
+   *
+   * @param maxSize The maximum number of contexts, idle or in use. Must be greater than zero.
+   *
+   * @param idleTimeout The time after which an idle context is replaced. Must be greater than zero.
+   *
+   * @param unit The {@link TimeUnit} of <code>idleTimeout</code>.
+   */
+  public PooledContextFactory(final Callable<? extends Context> contextFactory, final ContextHealthCheck healthCheck, final int maxSize,
+                              final long idleTimeout, final TimeUnit unit)
+  {
+    notNull("contextFactory", contextFactory);
+    notNull("healthCheck", healthCheck);
+    notNull("unit", unit);
+
+    if (idleTimeout <= 0)
+    {
+      throw new IllegalArgumentException("@idleTimeout should be greater than zero.");
+    }
+
+    this.contextFactory   = contextFactory;
+    this.healthCheck      = healthCheck;
+    this.idleTimeoutNanos = unit.toNanos(idleTimeout);
+    this.slots            = new ResourcePool<>(new SlotFactory(), maxSize);
+  }
+
+  /**
+   * This method gets a context from the pool, blocking if all the contexts are in use.
+   *
+   * @return The {@link AutoCloseableContext} holding the context. Closing it returns the context to the pool.
+   *
+   * @throws NamingException If a new context cannot be created.
+   *
+   * @throws IllegalStateException If the factory is closed.
+   */
+  public AutoCloseableContext<Context> getContext() throws NamingException
+  {
+    return checkOut(this.slots.borrow());
+  }
+
+  /**
+   * This method gets a context from the pool waiting at most the specified time for a context to be returned.
+   *
+   * @param timeout The maximum time to wait.
+   *
+   * @param unit The {@link TimeUnit} of <code>timeout</code>.
+   *
+   * @return The {@link AutoCloseableContext} holding the context or <code>null</code> if no context was returned within the
+   * specified time.
+   *
+   * @throws NamingException If a new context cannot be created.
+   *
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   *
+   * @throws IllegalStateException If the factory is closed.
+   */
+  public AutoCloseableContext<Context> getContext(final long timeout, final TimeUnit unit) throws NamingException, InterruptedException
+  {
+    final AbstractAutoCloseableResource<Slot> slot = this.slots.borrow(timeout, unit);
+
+    return null == slot ? null : checkOut(slot);
+  }
+
+  /**
+   * @return The number of contexts currently in use.
+   */
+  public int getInUseCount()
+  {
+    return this.slots.getBorrowedCount();
+  }
+
+  /**
+   * This method closes the idle contexts. The contexts in use are closed when they are returned.
+   */
+  @Override
+  public void close()
+  {
+    this.slots.close();
+  }
+
+  // Private methods
+  private AutoCloseableContext<Context> checkOut(final AbstractAutoCloseableResource<Slot> borrowedSlot) throws NamingException
+  {
+    try
+    {
+      final Slot slot = borrowedSlot.get();
+      if (null != slot.context && (System.nanoTime() - slot.lastUsedNanos > this.idleTimeoutNanos || ! isHealthy(slot.context)))
+      {
+        slot.closeContext();
+      }
+
+      if (null == slot.context)
+      {
+        slot.context = createContext();
+      }
+
+      return new PooledContext(slot.context, borrowedSlot);
+    }
+    catch (NamingException | RuntimeException | Error e)
+    {
+      borrowedSlot.close();
+
+      throw e;
+    }
+  }
+
+  private boolean isHealthy(final Context context)
+  {
+    try
+    {
+      return this.healthCheck.isHealthy(context);
+    }
+    catch (RuntimeException e)
+    {
+      return false;
+    }
+  }
+
+  private Context createContext() throws NamingException
+  {
+    try
+    {
+      final Context context = this.contextFactory.call();
+
+      notNull("context", context);
+
+      return context;
+    }
+    catch (NamingException | RuntimeException e)
+    {
+      throw e;
+    }
+    catch (Exception e)
+    {
+      final NamingException namingException = new NamingException("Failed to create the context.");
+      namingException.setRootCause(e);
+
+      throw namingException;
+    }
+  }
+
+  // Private members
+  private static final ContextHealthCheck DEFAULT_HEALTH_CHECK = new ContextHealthCheck()
+                                                                 {
+                                                                   @Override
+                                                                   public boolean isHealthy(final Context context)
+                                                                   {
+                                                                     try
+                                                                     {
+                                                                       context.getEnvironment();
+
+                                                                       return true;
+                                                                     }
+                                                                     catch (NamingException e)
+                                                                     {
+                                                                       return false;
+                                                                     }
+                                                                   }
+                                                                 };
+
+  private final Callable<? extends Context> contextFactory;
+  private final ContextHealthCheck          healthCheck;
+  private final long                        idleTimeoutNanos;
+  private final ResourcePool<Slot>          slots;
+
+  //////////////////////////////////////////////////////////////////////////////////////////////////////
+  // Inner classes
+  /**
+   * Pooled slot holding the context, created lazily, so that a stale context can be replaced without giving up the slot.
+   */
+  private static final class Slot
+  {
+    private void closeContext()
+    {
+      try
+      {
+        this.context.close();
+      }
+      catch (NamingException | RuntimeException ignored)
+      {
+        // Context is being thrown away.
+      }
+
+      this.context = null;
+    }
+
+    // Private members
+    private Context context;
+    private long    lastUsedNanos;
+  }
+
+  private static final class SlotFactory implements PooledResourceFactory<Slot>
+  {
+    @Override
+    public Slot create()
+    {
+      return new Slot();
+    }
+
+    @Override
+    public boolean validate(final Slot slot)
+    {
+      slot.lastUsedNanos = System.nanoTime();
+
+      return true;
+    }
+
+    @Override
+    public void destroy(final Slot slot)
+    {
+      if (null != slot.context)
+      {
+        slot.closeContext();
+      }
+    }
+  }
+
+  private static final class PooledContext extends AutoCloseableContext<Context>
+  {
+    private PooledContext(final Context context, final AbstractAutoCloseableResource<Slot> borrowedSlot)
+    {
+      super(context);
+
+      this.borrowedSlot = borrowedSlot;
+    }
+
+    @Override
+    protected void doClose()
+    {
+      this.borrowedSlot.close(); // Returns the context to the pool instead of closing it.
+    }
+
+    // Private members
+    private final AbstractAutoCloseableResource<Slot> borrowedSlot;
+  }
+}
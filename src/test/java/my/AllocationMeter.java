@@ -0,0 +1,147 @@
+/********************************************************************
+ * File Name:    AllocationMeter.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+
+/**
+ * Measures the bytes allocated per operation by the current thread using the thread allocated bytes counter of
+ * {@link com.sun.management.ThreadMXBean}. The operation is first warmed up so that one time allocations, e.g. of thread locals, are
+ * done, and then measured in rounds for up to 2 seconds. The smallest round is reported so that a stray allocation, e.g. by a
+ * deoptimization or a compilation in between, does not fail a test. Measuring stops at the first round which does not allocate.
+ * <p>
+ * Escape analysis of the JIT compiler may remove an allocation in one run and not in another, e.g. after the profile of a shared
+ * call site is polluted by other tests. So the asserted bytes must cover every object the operation creates: zero only for an
+ * operation which creates nothing, otherwise the agreed size of what it creates.
+ * <pre>
+ * <b>Example:</b>
+ *     AllocationMeter.assertAllocatesAtMost(0, "Pinned lock acquire", new Runnable()
+ *                                                                     {
+ *                                                                       &#64;Override
+ *                                                                       public void run()
+ *                                                                       {
+ *                                                                         namedLockManager.acquireCriticalSectionLock("pinned").close();
+ *                                                                       }
+ *                                                                     });
+ * </pre>
+ */
+public class AllocationMeter
+{
+  /**
+   * @return <code>true</code> if the JVM can measure the bytes allocated by a thread.
+   */
+  public static boolean isSupported()
+  {
+    return null != THREAD_MX_BEAN && THREAD_MX_BEAN.isThreadAllocatedMemorySupported();
+  }
+
+  /**
+   * This method measures the bytes allocated per call of the operation by the current thread.
+   *
+   * @param operation The operation to measure.
+   *
+   * @return The bytes allocated per operation in the round which allocated least.
+   */
+  public static long measureBytesPerOperation(final Runnable operation)
+  {
+    if ( ! isSupported() )
+    {
+      throw new UnsupportedOperationException("Thread allocated memory is not supported by the JVM.");
+    }
+
+    if ( ! THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled() )
+    {
+      THREAD_MX_BEAN.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    run(operation, WARMUP_OPERATIONS);
+
+    final long threadId = Thread.currentThread().getId();
+    final long overhead = measureOverhead(threadId);
+
+    final long endNanos = System.nanoTime() + MEASUREMENT_NANOS;
+
+    long minBytes = Long.MAX_VALUE;
+    while (0 < minBytes && System.nanoTime() - endNanos < 0) // The JIT compiler works in the background, so the rounds run for a while.
+    {
+      final long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+      run(operation, ROUND_OPERATIONS);
+
+      final long bytes = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore - overhead;
+
+      minBytes = Math.min(minBytes, Math.max(0, bytes));
+    }
+
+    return minBytes / ROUND_OPERATIONS;
+  }
+
+  /**
+   * This method asserts that the operation allocates at most the specified bytes per call. The test is skipped if the JVM cannot
+   * measure the allocated bytes.
+   *
+   * @param maxBytesPerOperation The maximum bytes allowed per operation.
+   *
+   * @param operationName The name of the operation used in the failure message.
+   *
+   * @param operation The operation to measure.
+   */
+  public static void assertAllocatesAtMost(final long maxBytesPerOperation, final String operationName, final Runnable operation)
+  {
+    if ( ! isSupported() )
+    {
+      throw new SkipException("Thread allocated memory is not supported by the JVM.");
+    }
+
+    final long bytesPerOperation = measureBytesPerOperation(operation);
+
+    Assert.assertTrue(bytesPerOperation <= maxBytesPerOperation,
+                      String.format("%s allocates %d bytes per operation, at most %d expected.", operationName, bytesPerOperation, maxBytesPerOperation));
+  }
+
+  // Private methods
+  private static void run(final Runnable operation, final int nOperations)
+  {
+    for (int nOperation = 0; nOperation < nOperations; nOperation++)
+    {
+      operation.run();
+    }
+  }
+
+  private static long measureOverhead(final long threadId)
+  {
+    final long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+
+    return THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore; // Allocation by the counter itself, if any.
+  }
+
+  private static com.sun.management.ThreadMXBean getThreadMXBean()
+  {
+    try
+    {
+      return (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+    }
+    catch (ClassCastException | LinkageError e)
+    {
+      return null; // Not a HotSpot based JVM.
+    }
+  }
+
+  // Private members
+  private static final int  WARMUP_OPERATIONS = 200000; // Enough for the operation to be queued for compilation by C2.
+  private static final int  ROUND_OPERATIONS  = 10000;
+  private static final long MEASUREMENT_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+}
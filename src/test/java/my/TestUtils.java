@@ -46,7 +46,7 @@ public class TestUtils
   {
     try
     {
-      final Field field = classInstance.getClass().getDeclaredField(fieldName);
+      final Field field = getDeclaredField(classInstance.getClass(), fieldName);
       
       if ( ! field.isAccessible() )
       {
@@ -60,5 +60,22 @@ public class TestUtils
       throw new RuntimeException(e);
     }
   }
-}
-
+  
+  // Private methods
+  private static Field getDeclaredField(final Class<?> clazz, final String fieldName) throws NoSuchFieldException
+  {
+    try
+    {
+      return clazz.getDeclaredField(fieldName);
+    }
+    catch (NoSuchFieldException e)
+    {
+      if (null == clazz.getSuperclass())
+      {
+        throw e;
+      }
+      
+      return getDeclaredField(clazz.getSuperclass(), fieldName); // Field can be declared in the base class.
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,338 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class AtomicResourceHolderUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@failureListener cannot be null.")
+  public void create_NullFailureListener_Throws()
+  {
+    new AtomicResourceHolder<Object>(new Object(), null);
+  }
+
+  @Test
+  public void acquire_ReturnsCurrentResource()
+  {
+    final TestResource resource = new TestResource();
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(resource))
+    {
+      try(final AbstractAutoCloseableResource<TestResource> handle = holder.acquire())
+      {
+        assertSame(handle.get(), resource);
+      }
+
+      assertEquals(resource.nClosed.get(), 0, "Current resource should not have been closed.");
+    }
+
+    assertEquals(resource.nClosed.get(), 1, "Resource should have been closed with the holder.");
+  }
+
+  @Test
+  public void acquire_NullResource_HandleHoldsNull()
+  {
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(null))
+    {
+      try(final AbstractAutoCloseableResource<TestResource> handle = holder.acquire())
+      {
+        assertNull(handle.get());
+      }
+    }
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Resource holder is closed.")
+  public void acquire_HolderClosed_Throws()
+  {
+    final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(new TestResource());
+    holder.close();
+
+    holder.acquire();
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Resource holder is closed.")
+  public void reset_HolderClosed_Throws()
+  {
+    final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(new TestResource());
+    holder.close();
+
+    holder.reset(new TestResource());
+  }
+
+  @Test
+  public void reset_ReaderInFlight_OldResourceIsClosedAfterReaderIsDone()
+  {
+    final TestResource oldResource = new TestResource();
+    final TestResource newResource = new TestResource();
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(oldResource))
+    {
+      final AbstractAutoCloseableResource<TestResource> handle = holder.acquire();
+
+      holder.reset(newResource);
+
+      assertEquals(oldResource.nClosed.get(), 0, "Resource in use should not have been closed.");
+
+      try(final AbstractAutoCloseableResource<TestResource> newHandle = holder.acquire())
+      {
+        assertSame(newHandle.get(), newResource);
+      }
+
+      handle.close();
+
+      assertEquals(oldResource.nClosed.get(), 1, "Resource should have been closed after the reader is done.");
+      assertEquals(newResource.nClosed.get(), 0, "Current resource should not have been closed.");
+    }
+  }
+
+  @Test
+  public void reset_NoReaders_OldResourceIsClosedImmediately()
+  {
+    final TestResource oldResource = new TestResource();
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(oldResource))
+    {
+      holder.reset(new TestResource());
+
+      assertEquals(oldResource.nClosed.get(), 1);
+    }
+  }
+
+  @Test
+  public void reset_SameResource_ResourceIsNotClosed()
+  {
+    final TestResource resource = new TestResource();
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(resource))
+    {
+      holder.reset(resource);
+
+      assertEquals(resource.nClosed.get(), 0);
+    }
+  }
+
+  @Test
+  public void compareAndReset_ExpectedResourceMatches_ResourceIsSet()
+  {
+    final TestResource oldResource = new TestResource();
+    final TestResource newResource = new TestResource();
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(oldResource))
+    {
+      assertFalse(holder.compareAndReset(newResource, new TestResource()), "Resource should not have been set.");
+      assertTrue(holder.compareAndReset(oldResource, newResource), "Resource should have been set.");
+
+      try(final AbstractAutoCloseableResource<TestResource> handle = holder.acquire())
+      {
+        assertSame(handle.get(), newResource);
+      }
+
+      assertEquals(oldResource.nClosed.get(), 1);
+    }
+  }
+
+  @Test
+  public void update_ConcurrentWriters_AllUpdatesAreApplied() throws InterruptedException
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+    final List<TestResource>       resources       = new ArrayList<>();
+    final int                      nThreads        = 8;
+    final int                      nUpdates        = 1000;
+    final CountDownLatch           startLatch      = new CountDownLatch(1);
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(new TestResource(), failureListener))
+    {
+      final Thread[] threads = new Thread[nThreads];
+      for (int nThread = 0; nThread < nThreads; nThread++)
+      {
+        threads[nThread] = new Thread(new Runnable()
+                                      {
+                                        @Override
+                                        public void run()
+                                        {
+                                          try
+                                          {
+                                            startLatch.await();
+                                          }
+                                          catch (InterruptedException e)
+                                          {
+                                            throw new RuntimeException(e);
+                                          }
+
+                                          for (int nUpdate = 0; nUpdate < nUpdates; nUpdate++)
+                                          {
+                                            holder.update(new ResourceUpdater<TestResource>()
+                                                          {
+                                                            @Override
+                                                            public TestResource update(final TestResource currentResource)
+                                                            {
+                                                              final TestResource newResource = new TestResource(currentResource.version + 1);
+                                                              synchronized (resources)
+                                                              {
+                                                                resources.add(newResource);
+                                                              }
+
+                                                              return newResource;
+                                                            }
+                                                          });
+                                          }
+                                        }
+                                      });
+        threads[nThread].start();
+      }
+
+      startLatch.countDown();
+      for (final Thread thread : threads)
+      {
+        thread.join();
+      }
+
+      try(final AbstractAutoCloseableResource<TestResource> handle = holder.acquire())
+      {
+        assertEquals(handle.get().version, nThreads * nUpdates, "All updates should have been applied.");
+      }
+    }
+
+    for (final TestResource resource : resources)
+    {
+      assertEquals(resource.nClosed.get(), 1, "Every created resource should have been closed once.");
+    }
+
+    assertEquals(failureListener.failures.size(), 0);
+  }
+
+  @Test
+  public void close_RetiredResourceThrows_FailureIsReportedToListener()
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+    final TestResource             oldResource     = new TestResource();
+    oldResource.throwOnClose = true;
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(oldResource, failureListener))
+    {
+      holder.reset(new TestResource());
+    }
+
+    assertEquals(failureListener.failures.size(), 1);
+    assertEquals(failureListener.failures.get(oldResource).getMessage(), "Failed to close.");
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void acquire_ConcurrentReadersAndWriters_ResourceIsNeverClosedWhileInUse() throws InterruptedException
+  {
+    final AtomicInteger      nFailures  = new AtomicInteger();
+    final AtomicBoolean      stop       = new AtomicBoolean();
+    final int                nReaders   = 8;
+    final CountDownLatch     startLatch = new CountDownLatch(1);
+    final List<TestResource> resources  = new ArrayList<>();
+
+    final TestResource initialResource = new TestResource();
+    resources.add(initialResource);
+
+    try(final AtomicResourceHolder<TestResource> holder = new AtomicResourceHolder<>(initialResource))
+    {
+      final Thread[] readers = new Thread[nReaders];
+      for (int nReader = 0; nReader < nReaders; nReader++)
+      {
+        readers[nReader] = new Thread(new Runnable()
+                                      {
+                                        @Override
+                                        public void run()
+                                        {
+                                          try
+                                          {
+                                            startLatch.await();
+                                          }
+                                          catch (InterruptedException e)
+                                          {
+                                            throw new RuntimeException(e);
+                                          }
+
+                                          while ( ! stop.get() )
+                                          {
+                                            try(final AbstractAutoCloseableResource<TestResource> handle = holder.acquire())
+                                            {
+                                              if (0 != handle.get().nClosed.get())
+                                              {
+                                                nFailures.incrementAndGet();
+                                              }
+                                            }
+                                          }
+                                        }
+                                      });
+        readers[nReader].start();
+      }
+
+      startLatch.countDown();
+      for (int nUpdate = 0; nUpdate < 10000; nUpdate++)
+      {
+        final TestResource newResource = new TestResource();
+        resources.add(newResource);
+
+        holder.reset(newResource);
+      }
+
+      stop.set(true);
+      for (final Thread reader : readers)
+      {
+        reader.join();
+      }
+    }
+
+    assertEquals(nFailures.get(), 0, "Resource should not have been closed while in use.");
+    for (final TestResource resource : resources)
+    {
+      assertEquals(resource.nClosed.get(), 1, "Every resource should have been closed once.");
+    }
+  }
+
+  // Private classes
+  private static class TestResource implements AutoCloseable
+  {
+    public TestResource()
+    {
+      this(0);
+    }
+
+    public TestResource(final int version)
+    {
+      this.version = version;
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+      this.nClosed.incrementAndGet();
+
+      if (this.throwOnClose)
+      {
+        throw new Exception("Failed to close.");
+      }
+    }
+
+    // Private members
+    private final int           version;
+    private final AtomicInteger nClosed = new AtomicInteger();
+    private boolean             throwOnClose;
+  }
+
+  private static class RecordingFailureListener implements CloseFailureListener
+  {
+    @Override
+    public void onCloseFailure(final AutoCloseable resource, final Throwable failure)
+    {
+      this.failures.put(resource, failure);
+    }
+
+    // Private members
+    private final ConcurrentHashMap<AutoCloseable, Throwable> failures = new ConcurrentHashMap<>();
+  }
+}
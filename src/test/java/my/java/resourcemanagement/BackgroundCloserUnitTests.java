@@ -0,0 +1,192 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class BackgroundCloserUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@failureListener cannot be null.")
+  public void create_NullFailureListener_Throws()
+  {
+    new BackgroundCloser(1, null);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@capacity should be greater than zero.")
+  public void create_ZeroCapacity_Throws()
+  {
+    new BackgroundCloser(0, new RecordingFailureListener());
+  }
+
+  @Test
+  public void close_DeferredResource_DoCloseIsExecutedOnBackgroundThread() throws InterruptedException
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+    final CountDownLatch           closedLatch     = new CountDownLatch(1);
+    final Thread[]                 closingThread   = new Thread[1];
+
+    try(final BackgroundCloser backgroundCloser = new BackgroundCloser(16, failureListener))
+    {
+      final AbstractAutoCloseableResource<Object> resource = new AbstractAutoCloseableResource<Object>(new Object())
+                                                             {
+                                                               @Override
+                                                               protected void doClose()
+                                                               {
+                                                                 closingThread[0] = Thread.currentThread();
+                                                                 closedLatch.countDown();
+                                                               }
+                                                             };
+      resource.deferCloseTo(backgroundCloser);
+      resource.close();
+      resource.close(); // Second close is a no-op.
+
+      assertTrue(closedLatch.await(10, TimeUnit.SECONDS), "Resource should have been closed.");
+    }
+
+    assertNotEquals(closingThread[0], Thread.currentThread(), "Resource should have been closed on the background thread.");
+    assertEquals(failureListener.failures.size(), 0);
+  }
+
+  @Test
+  public void close_DeferredResourceThrows_FailureIsReportedToListener()
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+
+    final AbstractAutoCloseableResource<Object> resource = new AbstractAutoCloseableResource<Object>(new Object())
+                                                           {
+                                                             @Override
+                                                             protected void doClose()
+                                                             {
+                                                               throw new IllegalStateException("Failed to close.");
+                                                             }
+                                                           };
+
+    try(final BackgroundCloser backgroundCloser = new BackgroundCloser(16, failureListener))
+    {
+      resource.deferCloseTo(backgroundCloser);
+      resource.close();
+    }
+
+    assertEquals(failureListener.failures.size(), 1);
+    assertEquals(failureListener.failures.get(resource).getMessage(), "Failed to close.");
+  }
+
+  @Test
+  public void close_DeferredResourceThrowsCheckedException_ExceptionIsReportedToListenerUnwrapped() throws IOException
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+
+    final AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose<Object, IOException> resource = new AbstractAutoCloseableResourceThrowingCheckedExceptionOnClose<Object, IOException>(new Object())
+                                                                                                      {
+                                                                                                        @Override
+                                                                                                        protected void doClose() throws IOException
+                                                                                                        {
+                                                                                                          throw new IOException("Failed to close.");
+                                                                                                        }
+                                                                                                      };
+
+    try(final BackgroundCloser backgroundCloser = new BackgroundCloser(16, failureListener))
+    {
+      resource.deferCloseTo(backgroundCloser);
+      resource.close();
+    }
+
+    assertEquals(failureListener.failures.size(), 1);
+    assertTrue(failureListener.failures.get(resource) instanceof IOException, "Exception thrown by the resource should have been reported.");
+  }
+
+  @Test
+  public void close_AllQueuedResourcesAreClosedBeforeBackgroundThreadStops()
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+    final AtomicInteger            nClosed         = new AtomicInteger();
+
+    try(final BackgroundCloser backgroundCloser = new BackgroundCloser(4, failureListener)) // Queue overflows, rest are closed on caller thread.
+    {
+      for (int nIndex = 0; nIndex < 100; nIndex++)
+      {
+        backgroundCloser.submit(new AutoCloseable()
+                                {
+                                  @Override
+                                  public void close()
+                                  {
+                                    nClosed.incrementAndGet();
+                                  }
+                                });
+      }
+    }
+
+    assertEquals(nClosed.get(), 100);
+  }
+
+  @Test
+  public void submit_BackgroundCloserClosed_ResourceIsClosedOnCallerThread()
+  {
+    final BackgroundCloser backgroundCloser = new BackgroundCloser(4, new RecordingFailureListener());
+    backgroundCloser.close();
+
+    final Thread[] closingThread = new Thread[1];
+    backgroundCloser.submit(new AutoCloseable()
+                            {
+                              @Override
+                              public void close()
+                              {
+                                closingThread[0] = Thread.currentThread();
+                              }
+                            });
+
+    assertEquals(closingThread[0], Thread.currentThread());
+  }
+
+  @Test
+  public void closeAllParallel_AllResourcesAreClosedAndFailuresAreReported()
+  {
+    final RecordingFailureListener failureListener = new RecordingFailureListener();
+    final AtomicInteger            nClosed         = new AtomicInteger();
+    final List<AutoCloseable>      resources       = new ArrayList<>();
+
+    for (int nIndex = 0; nIndex < 5000; nIndex++)
+    {
+      final boolean throwOnClose = 0 == nIndex % 1000;
+      resources.add(new AutoCloseable()
+                    {
+                      @Override
+                      public void close() throws Exception
+                      {
+                        nClosed.incrementAndGet();
+
+                        if (throwOnClose)
+                        {
+                          throw new Exception("Failed to close.");
+                        }
+                      }
+                    });
+    }
+
+    BackgroundCloser.closeAllParallel(resources, failureListener);
+
+    assertEquals(nClosed.get(), 5000);
+    assertEquals(failureListener.failures.size(), 5);
+  }
+
+  // Private classes
+  private static class RecordingFailureListener implements CloseFailureListener
+  {
+    @Override
+    public void onCloseFailure(final AutoCloseable resource, final Throwable failure)
+    {
+      this.failures.put(resource, failure);
+    }
+
+    // Private members
+    private final ConcurrentHashMap<AutoCloseable, Throwable> failures = new ConcurrentHashMap<>();
+  }
+}
@@ -0,0 +1,168 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import my.TestUtils;
+
+import org.testng.annotations.Test;
+
+public class CloseableScopeUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@initialCapacity should be greater than zero.")
+  public void create_ZeroInitialCapacity_Throws()
+  {
+    new CloseableScope(0);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@resource cannot be null.")
+  public void register_NullResource_Throws()
+  {
+    new CloseableScope().register(null);
+  }
+
+  @Test
+  public void close_ResourcesAreClosedInReverseOrder() throws Exception
+  {
+    final List<Integer> closedResources = new ArrayList<>();
+
+    try(final CloseableScope scope = new CloseableScope(2)) // Storage grows beyond initial capacity.
+    {
+      for (int nIndex = 0; nIndex < 5; nIndex++)
+      {
+        final DummyResource resource = scope.register(new DummyResource(nIndex, closedResources, false));
+
+        assertEquals(resource.id, nIndex);
+      }
+
+      assertEquals(scope.size(), 5);
+      assertTrue(closedResources.isEmpty(), "No resource should have been closed.");
+    }
+
+    assertEquals(closedResources.toString(), "[4, 3, 2, 1, 0]");
+  }
+
+  @Test
+  public void close_ResourcesThrowOnClose_AllResourcesAreClosedAndFirstExceptionIsThrownWithOthersSuppressed()
+  {
+    final List<Integer> closedResources = new ArrayList<>();
+
+    final CloseableScope scope = new CloseableScope();
+    scope.register(new DummyResource(0, closedResources, true));
+    scope.register(new DummyResource(1, closedResources, false));
+    scope.register(new DummyResource(2, closedResources, true));
+
+    try
+    {
+      scope.close();
+      fail("Exception should have been thrown.");
+    }
+    catch (ResourceCloseException e)
+    {
+      assertEquals(e.getCause().getMessage(), "Failed to close 2.");
+      assertEquals(e.getSuppressed().length, 1);
+      assertEquals(e.getSuppressed()[0].getMessage(), "Failed to close 0.");
+    }
+
+    assertEquals(closedResources.toString(), "[2, 1, 0]");
+    assertEquals(scope.size(), 0);
+  }
+
+  @Test
+  public void close_ResourceThrowsUncheckedException_ExceptionIsThrownUnwrapped() throws ResourceCloseException
+  {
+    final CloseableScope scope = new CloseableScope();
+    scope.register(new DummyResource(0, new ArrayList<Integer>(), true));
+    scope.register(new AutoCloseable()
+                   {
+                     @Override
+                     public void close()
+                     {
+                       throw new IllegalStateException("Failed to close.");
+                     }
+                   });
+
+    try
+    {
+      scope.close();
+      fail("Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals(e.getMessage(), "Failed to close.");
+      assertEquals(e.getSuppressed().length, 1);
+    }
+  }
+
+  @Test
+  public void close_ScopeIsReused_StorageIsRetainedAndCleared() throws Exception
+  {
+    final List<Integer> closedResources = new ArrayList<>();
+
+    final CloseableScope scope = new CloseableScope(1);
+    scope.register(new DummyResource(0, closedResources, false));
+    scope.register(new DummyResource(1, closedResources, false));
+    scope.close();
+
+    final AutoCloseable[] resources = TestUtils.getFieldValue(scope, "resources");
+    for (final AutoCloseable resource : resources)
+    {
+      assertNull(resource, "Closed resources should not be held by the scope.");
+    }
+
+    scope.register(new DummyResource(2, closedResources, false));
+    scope.close();
+
+    assertSame(TestUtils.getFieldValue(scope, "resources"), resources, "Storage should have been reused.");
+    assertEquals(closedResources.toString(), "[1, 0, 2]");
+  }
+
+  @Test
+  public void close_WithAbstractAutoCloseableResource_ResourceIsClosed() throws Exception
+  {
+    final List<Integer> closedResources = new ArrayList<>();
+
+    try(final CloseableScope scope = new CloseableScope())
+    {
+      scope.register(new AbstractAutoCloseableResource<Integer>(7)
+                     {
+                       @Override
+                       protected void doClose()
+                       {
+                         closedResources.add(this.get());
+                       }
+                     });
+    }
+
+    assertEquals(closedResources.toString(), "[7]");
+  }
+
+  // Private classes
+  private static class DummyResource implements AutoCloseable
+  {
+    public DummyResource(final int id, final List<Integer> closedResources, final boolean throwOnClose)
+    {
+      this.id              = id;
+      this.closedResources = closedResources;
+      this.throwOnClose    = throwOnClose;
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+      this.closedResources.add(this.id);
+
+      if (this.throwOnClose)
+      {
+        throw new Exception(String.format("Failed to close %d.", this.id));
+      }
+    }
+
+    // Private members
+    private final int           id;
+    private final List<Integer> closedResources;
+    private final boolean       throwOnClose;
+  }
+}
@@ -0,0 +1,118 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.Test;
+
+public class DirectBufferPoolUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@minBufferSize should be greater than zero.")
+  public void create_ZeroMinBufferSize_Throws()
+  {
+    new DirectBufferPool(0, 1024, 4);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@maxBufferSize should not be less than @minBufferSize.")
+  public void create_MaxBufferSizeLessThanMin_Throws()
+  {
+    new DirectBufferPool(1024, 512, 4);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@minBufferSize should not be greater than 1 GB.")
+  public void create_MinBufferSizeMoreThanOneGigabyte_Throws()
+  {
+    new DirectBufferPool((1 << 30) + 1, Integer.MAX_VALUE, 4);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@maxBufferSize should not be greater than 1 GB.")
+  public void create_MaxBufferSizeMoreThanOneGigabyte_Throws()
+  {
+    new DirectBufferPool(1024, (1 << 30) + 1, 4);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@maxBuffersPerSizeClass should be greater than zero.")
+  public void create_ZeroMaxBuffersPerSizeClass_Throws()
+  {
+    new DirectBufferPool(512, 1024, 0);
+  }
+
+  @Test
+  public void create_SizesAreRoundedUpToPowerOfTwo()
+  {
+    try(final DirectBufferPool pool = new DirectBufferPool(1000, 5000, 4))
+    {
+      assertEquals(pool.getSizeClassCount(), 4); // 1K, 2K, 4K, 8K.
+    }
+  }
+
+  @Test
+  public void borrow_BufferIsFromSmallestFittingSizeClassAndIsReused()
+  {
+    try(final DirectBufferPool pool = new DirectBufferPool(512, 4096, 4))
+    {
+      final ByteBuffer buffer;
+      try(final AbstractAutoCloseableResource<ByteBuffer> borrowed = pool.borrow(1000))
+      {
+        buffer = borrowed.get();
+
+        assertTrue(buffer.isDirect(), "Buffer should be direct.");
+        assertEquals(buffer.capacity(), 1024);
+        assertEquals(buffer.position(), 0);
+        assertEquals(buffer.limit(), 1000);
+
+        buffer.put((byte)1);
+      }
+
+      try(final AbstractAutoCloseableResource<ByteBuffer> borrowed = pool.borrow(600))
+      {
+        assertSame(borrowed.get(), buffer, "Buffer should have been reused.");
+        assertEquals(borrowed.get().position(), 0);
+        assertEquals(borrowed.get().limit(), 600);
+      }
+
+      try(final AbstractAutoCloseableResource<ByteBuffer> borrowed = pool.borrow(1))
+      {
+        assertEquals(borrowed.get().capacity(), 512);
+      }
+    }
+  }
+
+  @Test
+  public void borrow_LargerThanMaxBufferSize_UnpooledBufferIsReturned()
+  {
+    try(final DirectBufferPool pool = new DirectBufferPool(512, 4096, 4))
+    {
+      try(final AbstractAutoCloseableResource<ByteBuffer> borrowed = pool.borrow(10000))
+      {
+        assertTrue(borrowed instanceof DirectBufferResource, "Buffer should not have been pooled.");
+        assertEquals(borrowed.get().capacity(), 10000);
+      }
+    }
+  }
+
+  @Test
+  public void borrow_SizeClassExhausted_UnpooledBufferIsReturnedWithoutBlocking()
+  {
+    try(final DirectBufferPool pool = new DirectBufferPool(512, 4096, 1))
+    {
+      try(final AbstractAutoCloseableResource<ByteBuffer> first = pool.borrow(512);
+          final AbstractAutoCloseableResource<ByteBuffer> second = pool.borrow(512))
+      {
+        assertFalse(first instanceof DirectBufferResource, "First buffer should have been pooled.");
+        assertTrue(second instanceof DirectBufferResource, "Second buffer should not have been pooled.");
+        assertNotSame(first.get(), second.get());
+      }
+    }
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Resource pool is closed.")
+  public void borrow_PoolClosed_Throws()
+  {
+    final DirectBufferPool pool = new DirectBufferPool(512, 4096, 1);
+    pool.close();
+
+    pool.borrow(100000);
+  }
+}
@@ -0,0 +1,41 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.Test;
+
+public class DirectBufferResourceUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@capacity should be greater than zero.")
+  public void create_ZeroCapacity_Throws()
+  {
+    new DirectBufferResource(0);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@buffer should be a direct buffer.")
+  public void create_HeapBuffer_Throws()
+  {
+    new DirectBufferResource(ByteBuffer.allocate(16));
+  }
+
+  @Test
+  public void close_BufferIsFreedAndReleased()
+  {
+    assertTrue(DirectBufferCleaner.isSupported(), "Direct buffers should be freed deterministically on this JVM.");
+
+    final DirectBufferResource buffer = new DirectBufferResource(1024);
+
+    assertTrue(buffer.get().isDirect(), "Buffer should be direct.");
+    assertEquals(buffer.get().capacity(), 1024);
+
+    buffer.get().putLong(0, 42);
+    assertEquals(buffer.get().getLong(0), 42);
+
+    buffer.close();
+    buffer.close();
+
+    assertNull(buffer.get(), "Buffer should have been released.");
+  }
+}
@@ -0,0 +1,219 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class ExpiringResourceHolderUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@factory cannot be null.")
+  public void create_NullFactory_Throws()
+  {
+    new ExpiringResourceHolder<Object>(null, 10, 1, TimeUnit.SECONDS);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@timeToLive should be greater than zero.")
+  public void create_ZeroTimeToLive_Throws()
+  {
+    new ExpiringResourceHolder<>(new VersionedFactory(), 0, 0, TimeUnit.SECONDS);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@refreshAhead should be between zero and @timeToLive.")
+  public void create_RefreshAheadNotLessThanTimeToLive_Throws()
+  {
+    new ExpiringResourceHolder<>(new VersionedFactory(), 10, 10, TimeUnit.SECONDS);
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Failed to create the resource.")
+  public void create_FactoryThrows_Throws()
+  {
+    final VersionedFactory factory = new VersionedFactory();
+    factory.fail.set(true);
+
+    new ExpiringResourceHolder<>(factory, 10, 1, TimeUnit.SECONDS);
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void acquire_ResourceIsRefreshedAheadOfExpiry_OldResourceIsClosed() throws InterruptedException
+  {
+    final VersionedFactory factory = new VersionedFactory();
+
+    try(final ExpiringResourceHolder<VersionedResource> holder = new ExpiringResourceHolder<>(factory, 1000, 950, TimeUnit.MILLISECONDS))
+    {
+      final VersionedResource initialResource;
+      try(final AbstractAutoCloseableResource<VersionedResource> handle = holder.acquire())
+      {
+        initialResource = handle.get();
+      }
+
+      assertEquals(initialResource.version, 1);
+
+      while (1 == factory.nCreated.get())
+      {
+        Thread.sleep(10);
+      }
+
+      while (0 == initialResource.nClosed.get())
+      {
+        Thread.sleep(10);
+      }
+
+      try(final AbstractAutoCloseableResource<VersionedResource> handle = holder.acquire())
+      {
+        assertTrue(handle.get().version > 1, "Resource should have been refreshed.");
+      }
+
+      assertFalse(holder.isExpired(), "Resource should not have expired.");
+    }
+  }
+
+  @Test
+  public void refresh_CurrentResourceIsReplaced()
+  {
+    final VersionedFactory factory = new VersionedFactory();
+
+    try(final ExpiringResourceHolder<VersionedResource> holder = new ExpiringResourceHolder<>(factory, 1, 0, TimeUnit.HOURS))
+    {
+      holder.refresh();
+
+      try(final AbstractAutoCloseableResource<VersionedResource> handle = holder.acquire())
+      {
+        assertEquals(handle.get().version, 2);
+      }
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void refreshInBackground_FactoryThrows_CurrentResourceIsKeptAndFailureIsRecorded() throws InterruptedException
+  {
+    final VersionedFactory factory = new VersionedFactory();
+
+    try(final ExpiringResourceHolder<VersionedResource> holder = new ExpiringResourceHolder<>(factory, 100, 80, TimeUnit.MILLISECONDS))
+    {
+      factory.fail.set(true);
+
+      while (null == holder.getLastRefreshFailure())
+      {
+        Thread.sleep(10);
+      }
+
+      assertEquals(holder.getLastRefreshFailure().getCause().getMessage(), "Factory failed.");
+
+      try(final AbstractAutoCloseableResource<VersionedResource> handle = holder.acquire())
+      {
+        assertEquals(handle.get().version, 1, "Current resource should have been kept.");
+        assertEquals(handle.get().nClosed.get(), 0);
+      }
+
+      while ( ! holder.isExpired() )
+      {
+        Thread.sleep(10);
+      }
+
+      factory.fail.set(false);
+
+      while (null != holder.getLastRefreshFailure())
+      {
+        Thread.sleep(10);
+      }
+
+      assertFalse(holder.isExpired(), "Resource should have been refreshed.");
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void refreshInBackground_FactoryThrowsError_RefreshIsRetried() throws InterruptedException
+  {
+    final VersionedFactory factory = new VersionedFactory();
+
+    try(final ExpiringResourceHolder<VersionedResource> holder = new ExpiringResourceHolder<>(factory, 100, 0, TimeUnit.MILLISECONDS))
+    {
+      factory.failWithError.set(true);
+
+      while (null == holder.getLastRefreshFailure())
+      {
+        Thread.sleep(10);
+      }
+
+      assertTrue(holder.getLastRefreshFailure() instanceof AssertionError, "Error should have been recorded.");
+
+      factory.failWithError.set(false);
+
+      while (null != holder.getLastRefreshFailure())
+      {
+        Thread.sleep(10);
+      }
+
+      try(final AbstractAutoCloseableResource<VersionedResource> handle = holder.acquire())
+      {
+        assertTrue(handle.get().version > 1, "Resource should have been refreshed after the error.");
+      }
+    }
+  }
+
+  @Test
+  public void close_CurrentResourceIsClosed()
+  {
+    final VersionedFactory  factory = new VersionedFactory();
+    final VersionedResource resource;
+
+    final ExpiringResourceHolder<VersionedResource> holder = new ExpiringResourceHolder<>(factory, 1, 0, TimeUnit.HOURS);
+    try(final AbstractAutoCloseableResource<VersionedResource> handle = holder.acquire())
+    {
+      resource = handle.get();
+    }
+
+    holder.close();
+    holder.close();
+
+    assertEquals(resource.nClosed.get(), 1);
+  }
+
+  // Private classes
+  private static class VersionedResource implements AutoCloseable
+  {
+    public VersionedResource(final int version)
+    {
+      this.version = version;
+    }
+
+    @Override
+    public void close()
+    {
+      this.nClosed.incrementAndGet();
+    }
+
+    // Private members
+    private final int           version;
+    private final AtomicInteger nClosed = new AtomicInteger();
+  }
+
+  private static class VersionedFactory implements Callable<VersionedResource>
+  {
+    @Override
+    public VersionedResource call() throws Exception
+    {
+      if (this.fail.get())
+      {
+        throw new Exception("Factory failed.");
+      }
+
+      if (this.failWithError.get())
+      {
+        throw new AssertionError("Factory failed.");
+      }
+
+      return new VersionedResource(this.nCreated.incrementAndGet());
+    }
+
+    // Private members
+    private final AtomicInteger nCreated      = new AtomicInteger();
+    private final AtomicBoolean fail          = new AtomicBoolean();
+    private final AtomicBoolean failWithError = new AtomicBoolean();
+  }
+}
@@ -0,0 +1,206 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class LazyResourceHolderUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@factory cannot be null.")
+  public void create_NullFactory_Throws()
+  {
+    new LazyResourceHolder<Object>(null);
+  }
+
+  @Test
+  public void get_ResourceIsCreatedOnFirstCallOnly()
+  {
+    final CountingFactory factory = new CountingFactory();
+    final LazyResourceHolder<Object> holder = new LazyResourceHolder<Object>(factory);
+
+    assertFalse(holder.isInitialized(), "Resource should not have been created.");
+    assertEquals(factory.nCalls.get(), 0);
+
+    final Object resource = holder.get();
+
+    assertTrue(holder.isInitialized(), "Resource should have been created.");
+    assertSame(holder.get(), resource);
+    assertEquals(factory.nCalls.get(), 1);
+  }
+
+  @Test
+  public void get_FactoryThrows_ExceptionIsThrownAndNextCallRetries()
+  {
+    final CountingFactory factory = new CountingFactory();
+    factory.nFailures.set(2);
+
+    final LazyResourceHolder<Object> holder = new LazyResourceHolder<Object>(factory);
+
+    try
+    {
+      holder.get();
+      fail("Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals(e.getMessage(), "Failed to create the resource.");
+      assertEquals(e.getCause().getMessage(), "Factory failed.");
+    }
+
+    try
+    {
+      holder.get();
+      fail("Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals(e.getCause().getMessage(), "Factory failed.");
+    }
+
+    assertFalse(holder.isInitialized(), "Resource should not have been created.");
+    assertNotNull(holder.get(), "Resource should have been created.");
+    assertEquals(factory.nCalls.get(), 3);
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void get_manyThreads_ResourceIsCreatedOnce() throws InterruptedException
+  {
+    final CountingFactory            factory    = new CountingFactory();
+    final LazyResourceHolder<Object> holder     = new LazyResourceHolder<Object>(factory);
+    final int                        nThreads   = 16;
+    final Object[]                   resources  = new Object[nThreads];
+    final CountDownLatch             startLatch = new CountDownLatch(1);
+
+    final Thread[] threads = new Thread[nThreads];
+    for (int nThread = 0; nThread < nThreads; nThread++)
+    {
+      final int nIndex = nThread;
+      threads[nThread] = new Thread(new Runnable()
+                                    {
+                                      @Override
+                                      public void run()
+                                      {
+                                        try
+                                        {
+                                          startLatch.await();
+                                        }
+                                        catch (InterruptedException e)
+                                        {
+                                          throw new RuntimeException(e);
+                                        }
+
+                                        resources[nIndex] = holder.get();
+                                      }
+                                    });
+      threads[nThread].start();
+    }
+
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertEquals(factory.nCalls.get(), 1);
+    for (final Object resource : resources)
+    {
+      assertSame(resource, resources[0]);
+    }
+  }
+
+  @Test
+  public void close_CreatedAutoCloseableResource_ResourceIsClosedAndGetThrows() throws Exception
+  {
+    final AtomicInteger nClosed = new AtomicInteger();
+    final LazyResourceHolder<AutoCloseable> holder = new LazyResourceHolder<AutoCloseable>(new Callable<AutoCloseable>()
+                                                                                           {
+                                                                                             @Override
+                                                                                             public AutoCloseable call()
+                                                                                             {
+                                                                                               return new AutoCloseable()
+                                                                                                      {
+                                                                                                        @Override
+                                                                                                        public void close()
+                                                                                                        {
+                                                                                                          nClosed.incrementAndGet();
+                                                                                                        }
+                                                                                                      };
+                                                                                             }
+                                                                                           });
+
+    holder.get();
+    holder.close();
+    holder.close();
+
+    assertEquals(nClosed.get(), 1);
+
+    try
+    {
+      holder.get();
+      fail("Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals(e.getMessage(), "Resource holder is closed.");
+    }
+  }
+
+  @Test
+  public void close_ResourceNotCreated_FactoryIsNotCalled() throws Exception
+  {
+    final CountingFactory factory = new CountingFactory();
+    final LazyResourceHolder<Object> holder = new LazyResourceHolder<Object>(factory);
+
+    holder.close();
+
+    assertEquals(factory.nCalls.get(), 0);
+  }
+
+  @Test (expectedExceptions = ResourceCloseException.class, expectedExceptionsMessageRegExp = "Failed to close.")
+  public void close_ResourceThrowsCheckedException_ResourceCloseExceptionIsThrown() throws ResourceCloseException
+  {
+    final LazyResourceHolder<AutoCloseable> holder = new LazyResourceHolder<AutoCloseable>(new Callable<AutoCloseable>()
+                                                                                           {
+                                                                                             @Override
+                                                                                             public AutoCloseable call()
+                                                                                             {
+                                                                                               return new AutoCloseable()
+                                                                                                      {
+                                                                                                        @Override
+                                                                                                        public void close() throws Exception
+                                                                                                        {
+                                                                                                          throw new Exception("Failed to close.");
+                                                                                                        }
+                                                                                                      };
+                                                                                             }
+                                                                                           });
+    holder.get();
+
+    holder.close();
+  }
+
+  // Private classes
+  private static class CountingFactory implements Callable<Object>
+  {
+    @Override
+    public Object call() throws Exception
+    {
+      this.nCalls.incrementAndGet();
+
+      if (0 <= this.nFailures.decrementAndGet())
+      {
+        throw new Exception("Factory failed.");
+      }
+
+      return new Object();
+    }
+
+    // Private members
+    private final AtomicInteger nCalls    = new AtomicInteger();
+    private final AtomicInteger nFailures = new AtomicInteger();
+  }
+}
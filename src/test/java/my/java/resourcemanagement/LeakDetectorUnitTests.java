@@ -0,0 +1,120 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class LeakDetectorUnitTests
+{
+  @AfterMethod
+  public void resetLeakDetector()
+  {
+    LeakDetector.setSamplingRate(0);
+    LeakDetector.reportLeaks();
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@samplingRate should be between 0 and 1.")
+  public void setSamplingRate_MoreThanOne_Throws()
+  {
+    LeakDetector.setSamplingRate(1.5);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@leakListener cannot be null.")
+  public void setLeakListener_Null_Throws()
+  {
+    LeakDetector.setLeakListener(null);
+  }
+
+  @Test
+  public void track_SamplingIsOff_ResourceIsNotTracked()
+  {
+    LeakDetector.setSamplingRate(0);
+
+    assertNull(LeakDetector.track(new Object()), "Resource should not have been tracked.");
+  }
+
+  @Test
+  public void track_ResourceGarbageCollectedWithoutClose_LeakIsReported() throws InterruptedException
+  {
+    final List<String> leakedResourceTypes = new CopyOnWriteArrayList<>();
+    LeakDetector.setLeakListener(new ResourceLeakListener()
+                                 {
+                                   @Override
+                                   public void onLeak(final String resourceType, final Throwable creationStack)
+                                   {
+                                     assertNotNull(creationStack, "Creation stack should have been captured.");
+
+                                     leakedResourceTypes.add(resourceType);
+                                   }
+                                 });
+    LeakDetector.setSamplingRate(1);
+
+    new LeakedResource(new Object()); // Never closed.
+
+    try(final ClosedResource closedResource = new ClosedResource(new Object()))
+    {
+      assertNotNull(closedResource.get());
+    }
+
+    for (int nAttempt = 0; nAttempt < 100 && ! leakedResourceTypes.contains(LeakedResource.class.getName()); nAttempt++)
+    {
+      System.gc();
+      Thread.sleep(10);
+
+      LeakDetector.reportLeaks();
+    }
+
+    assertTrue(leakedResourceTypes.contains(LeakedResource.class.getName()), "Leak should have been reported.");
+    assertFalse(leakedResourceTypes.contains(ClosedResource.class.getName()), "Closed resource should not have been reported as leak.");
+  }
+
+  @Test
+  public void reportLeaks_ResourceGarbageCollectedWithoutClose_LeakIsCounted() throws InterruptedException
+  {
+    final long nLeaksBefore = LeakDetector.getLeakCount();
+    LeakDetector.setSamplingRate(1);
+
+    new LeakedResource(new Object()); // Never closed.
+
+    for (int nAttempt = 0; nAttempt < 100 && LeakDetector.getLeakCount() == nLeaksBefore; nAttempt++)
+    {
+      System.gc();
+      Thread.sleep(10);
+
+      LeakDetector.reportLeaks();
+    }
+
+    assertTrue(LeakDetector.getLeakCount() > nLeaksBefore, "Leak should have been counted.");
+  }
+
+  // Private classes
+  private static class LeakedResource extends AbstractAutoCloseableResource<Object>
+  {
+    public LeakedResource(final Object resource)
+    {
+      super(resource);
+    }
+
+    @Override
+    protected void doClose()
+    {
+    }
+  }
+
+  private static class ClosedResource extends AbstractAutoCloseableResource<Object>
+  {
+    public ClosedResource(final Object resource)
+    {
+      super(resource);
+    }
+
+    @Override
+    protected void doClose()
+    {
+    }
+  }
+}
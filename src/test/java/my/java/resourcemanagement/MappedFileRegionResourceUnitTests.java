@@ -0,0 +1,88 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.testng.annotations.Test;
+
+public class MappedFileRegionResourceUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@file cannot be null.")
+  public void map_NullFile_Throws() throws IOException
+  {
+    MappedFileRegionResource.map(null, MapMode.READ_ONLY, 0, 1);
+  }
+
+  @Test
+  public void map_ReadWriteRegion_ChangesAreWrittenToFile() throws IOException
+  {
+    final Path file = Files.createTempFile("MappedFileRegionResourceUnitTests", ".bin");
+    try
+    {
+      Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+
+      try(final MappedFileRegionResource region = MappedFileRegionResource.map(file, MapMode.READ_WRITE, 2, 4))
+      {
+        assertEquals(region.get().capacity(), 4);
+        assertEquals(region.get().get(0), 3);
+
+        region.get().put(0, (byte)42);
+        region.get().force();
+      }
+
+      assertEquals(Files.readAllBytes(file)[2], 42);
+    }
+    finally
+    {
+      Files.delete(file); // Fails on some platforms if the region is still mapped.
+    }
+  }
+
+  @Test
+  public void map_PrivateRegion_ChangesAreNotWrittenToFile() throws IOException
+  {
+    final Path file = Files.createTempFile("MappedFileRegionResourceUnitTests", ".bin");
+    try
+    {
+      Files.write(file, new byte[] { 1, 2, 3, 4 });
+
+      try(final MappedFileRegionResource region = MappedFileRegionResource.map(file, MapMode.PRIVATE, 0, 4))
+      {
+        region.get().put(0, (byte)42);
+
+        assertEquals(region.get().get(0), 42, "Change should have been visible in the private region.");
+      }
+
+      assertEquals(Files.readAllBytes(file)[0], 1, "Change to the private region should not have been written to the file.");
+    }
+    finally
+    {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void close_RegionIsReleased() throws IOException
+  {
+    final Path file = Files.createTempFile("MappedFileRegionResourceUnitTests", ".bin");
+    try
+    {
+      Files.write(file, new byte[] { 1, 2, 3, 4 });
+
+      final MappedFileRegionResource region = MappedFileRegionResource.map(file, MapMode.READ_ONLY, 0, 4);
+      assertEquals(region.get().get(3), 4);
+
+      region.close();
+
+      assertNull(region.get(), "Region should have been released.");
+    }
+    finally
+    {
+      Files.delete(file);
+    }
+  }
+}
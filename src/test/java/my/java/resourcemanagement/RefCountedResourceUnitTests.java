@@ -0,0 +1,118 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+public class RefCountedResourceUnitTests
+{
+  @Test
+  public void release_LastReference_ResourceIsClosed()
+  {
+    final CountingResource resource = new CountingResource();
+
+    assertEquals(resource.getReferenceCount(), 1);
+    assertSame(resource.retain(), resource);
+    assertEquals(resource.getReferenceCount(), 2);
+
+    assertFalse(resource.release(), "Resource should not have been closed.");
+    assertEquals(resource.nClosed.get(), 0);
+
+    resource.close();
+
+    assertEquals(resource.getReferenceCount(), 0);
+    assertEquals(resource.nClosed.get(), 1);
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Resource is released more times than retained.")
+  public void release_DoubleRelease_Throws()
+  {
+    final CountingResource resource = new CountingResource();
+
+    resource.release();
+    resource.release();
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Resource is already closed.")
+  public void retain_ResourceClosed_Throws()
+  {
+    final CountingResource resource = new CountingResource();
+    resource.close();
+
+    resource.retain();
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void retainAndRelease_ManyThreads_ResourceIsClosedOnceAtTheEnd() throws InterruptedException
+  {
+    final CountingResource resource   = new CountingResource();
+    final int              nThreads   = 8;
+    final int              nRetains   = 100000;
+    final AtomicInteger    nFailures  = new AtomicInteger();
+    final CountDownLatch   startLatch = new CountDownLatch(1);
+
+    final Thread[] threads = new Thread[nThreads];
+    for (int nThread = 0; nThread < nThreads; nThread++)
+    {
+      threads[nThread] = new Thread(new Runnable()
+                                    {
+                                      @Override
+                                      public void run()
+                                      {
+                                        try
+                                        {
+                                          startLatch.await();
+                                        }
+                                        catch (InterruptedException e)
+                                        {
+                                          throw new RuntimeException(e);
+                                        }
+
+                                        for (int nRetain = 0; nRetain < nRetains; nRetain++)
+                                        {
+                                          resource.retain();
+                                          if (resource.release())
+                                          {
+                                            nFailures.incrementAndGet();
+                                          }
+                                        }
+                                      }
+                                    });
+      threads[nThread].start();
+    }
+
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertEquals(nFailures.get(), 0, "Resource should not have been closed while referenced.");
+    assertEquals(resource.getReferenceCount(), 1);
+    assertEquals(resource.nClosed.get(), 0);
+
+    assertTrue(resource.release(), "Resource should have been closed.");
+    assertEquals(resource.nClosed.get(), 1);
+  }
+
+  // Private classes
+  private static class CountingResource extends RefCountedResource<Object>
+  {
+    public CountingResource()
+    {
+      super(new Object());
+    }
+
+    @Override
+    protected void doClose()
+    {
+      this.nClosed.incrementAndGet();
+    }
+
+    // Private members
+    private final AtomicInteger nClosed = new AtomicInteger();
+  }
+}
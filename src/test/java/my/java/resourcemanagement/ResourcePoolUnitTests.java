@@ -0,0 +1,301 @@
+package my.java.resourcemanagement;
+
+import static org.testng.Assert.*;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import my.TestUtils;
+
+import org.testng.annotations.Test;
+
+public class ResourcePoolUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@factory cannot be null.")
+  public void create_NullFactory_Throws()
+  {
+    new ResourcePool<Object>(null, 1);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@maxSize should be greater than zero.")
+  public void create_ZeroMaxSize_Throws()
+  {
+    new ResourcePool<Object>(new ObjectFactory(), 0);
+  }
+
+  @Test
+  public void borrow_ResourceIsCreatedAndReusedAfterClose()
+  {
+    final ObjectFactory factory = new ObjectFactory();
+    final ResourcePool<Object> pool = new ResourcePool<Object>(factory, 2);
+
+    Object borrowedResource = null;
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+    {
+      borrowedResource = resource.get();
+
+      assertNotNull(borrowedResource, "Resource should have been created.");
+      assertEquals(pool.getBorrowedCount(), 1);
+    }
+
+    assertEquals(pool.getBorrowedCount(), 0);
+
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+    {
+      assertSame(resource.get(), borrowedResource, "Resource should have been reused.");
+    }
+
+    assertEquals(factory.nCreated.get(), 1);
+    assertEquals(factory.nValidated.get(), 2);
+    assertEquals(factory.nDestroyed.get(), 0);
+  }
+
+  @Test
+  public void close_BorrowedResourceClosedTwice_ResourceIsReturnedOnce()
+  {
+    final ResourcePool<Object> pool = new ResourcePool<Object>(new ObjectFactory(), 1);
+
+    final AbstractAutoCloseableResource<Object> resource = pool.borrow();
+    resource.close();
+    resource.close();
+
+    assertEquals(pool.getBorrowedCount(), 0);
+    assertNull(resource.get(), "Resource should not be accessible after close.");
+  }
+
+  @Test
+  public void borrow_ValidationFails_ResourceIsDestroyed()
+  {
+    final ObjectFactory factory = new ObjectFactory();
+    factory.valid = false;
+
+    final ResourcePool<Object> pool = new ResourcePool<Object>(factory, 1);
+
+    Object borrowedResource = null;
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+    {
+      borrowedResource = resource.get();
+    }
+
+    assertEquals(factory.nDestroyed.get(), 1);
+
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+    {
+      assertNotSame(resource.get(), borrowedResource, "Invalid resource should not have been reused.");
+    }
+  }
+
+  @Test
+  public void borrow_WithTimeoutAndPoolExhausted_ReturnsNull() throws InterruptedException
+  {
+    final ResourcePool<Object> pool = new ResourcePool<Object>(new ObjectFactory(), 1);
+
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+    {
+      assertNull(pool.borrow(10, TimeUnit.MILLISECONDS), "No resource should have been borrowed.");
+    }
+
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow(10, TimeUnit.MILLISECONDS))
+    {
+      assertNotNull(resource, "Resource should have been borrowed.");
+    }
+  }
+
+  @Test
+  public void borrow_PoolExhausted_ThreadIsBlockedTillResourceIsReturned() throws InterruptedException
+  {
+    final ResourcePool<Object> pool = new ResourcePool<Object>(new ObjectFactory(), 1);
+
+    final Thread thread = new Thread(new Runnable()
+                                     {
+                                       @Override
+                                       public void run()
+                                       {
+                                         try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+                                         {
+                                           assertNotNull(resource.get());
+                                         }
+                                       }
+                                     });
+
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+    {
+      TestUtils.validateThreadIsBlocked(thread, "Thread was not blocked for borrowing the resource.", 1000, 100);
+    }
+
+    thread.join();
+
+    assertEquals(pool.getBorrowedCount(), 0);
+  }
+
+  @Test
+  public void borrow_FactoryThrows_PermitIsReleased() throws InterruptedException
+  {
+    final ObjectFactory factory = new ObjectFactory();
+    factory.throwOnCreate = true;
+
+    final ResourcePool<Object> pool = new ResourcePool<Object>(factory, 1);
+    try
+    {
+      pool.borrow();
+      fail("Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals(e.getMessage(), "Create failed.");
+    }
+
+    assertEquals(pool.getBorrowedCount(), 0);
+
+    factory.throwOnCreate = false;
+    try(final AbstractAutoCloseableResource<Object> resource = pool.borrow(10, TimeUnit.MILLISECONDS))
+    {
+      assertNotNull(resource, "Room claimed for the failed resource should have been given back.");
+    }
+  }
+
+  @Test
+  public void borrow_FactoryReturnsNull_ThrowsNamingFactoryAndPermitIsReleased()
+  {
+    final ObjectFactory factory = new ObjectFactory();
+    factory.returnNull = true;
+
+    final ResourcePool<Object> pool = new ResourcePool<Object>(factory, 1);
+    try
+    {
+      pool.borrow();
+      fail("Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertEquals(e.getMessage(), "Factory " + ObjectFactory.class.getName() + " returned null resource.");
+    }
+
+    assertEquals(pool.getBorrowedCount(), 0);
+  }
+
+  @Test
+  public void close_IdleResourcesAreDestroyedAndReturnedResourcesAreDestroyed()
+  {
+    final ObjectFactory factory = new ObjectFactory();
+    final ResourcePool<Object> pool = new ResourcePool<Object>(factory, 2);
+
+    final AbstractAutoCloseableResource<Object> borrowedResource = pool.borrow();
+    pool.borrow().close();
+
+    pool.close();
+    assertEquals(factory.nDestroyed.get(), 1);
+
+    borrowedResource.close();
+    assertEquals(factory.nDestroyed.get(), 2);
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Resource pool is closed.")
+  public void borrow_PoolClosed_Throws()
+  {
+    final ResourcePool<Object> pool = new ResourcePool<Object>(new ObjectFactory(), 1);
+    pool.close();
+
+    pool.borrow();
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void borrow_manyThreads_ResourceIsNeverSharedAndMaxSizeIsNotExceeded() throws InterruptedException
+  {
+    final ObjectFactory        factory     = new ObjectFactory();
+    final int                  maxSize     = 4;
+    final ResourcePool<Object> pool        = new ResourcePool<Object>(factory, maxSize);
+    final int                  nThreads    = 16;
+    final int                  nIterations = 10000;
+    final Set<Object>          inUse       = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+    final AtomicInteger        nFailures   = new AtomicInteger();
+    final CountDownLatch       startLatch  = new CountDownLatch(1);
+
+    final Thread[] threads = new Thread[nThreads];
+    for (int nThread = 0; nThread < nThreads; nThread++)
+    {
+      threads[nThread] = new Thread(new Runnable()
+                                    {
+                                      @Override
+                                      public void run()
+                                      {
+                                        try
+                                        {
+                                          startLatch.await();
+                                        }
+                                        catch (InterruptedException e)
+                                        {
+                                          throw new RuntimeException(e);
+                                        }
+
+                                        for (int nIteration = 0; nIteration < nIterations; nIteration++)
+                                        {
+                                          try(final AbstractAutoCloseableResource<Object> resource = pool.borrow())
+                                          {
+                                            if ( ! inUse.add(resource.get()) )
+                                            {
+                                              nFailures.incrementAndGet();
+                                            }
+
+                                            inUse.remove(resource.get());
+                                          }
+                                        }
+                                      }
+                                    });
+      threads[nThread].start();
+    }
+
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertEquals(nFailures.get(), 0, "Resource was borrowed by two threads at the same time.");
+    assertTrue(factory.nCreated.get() <= maxSize, "More resources were created than the max size of the pool.");
+    assertEquals(pool.getBorrowedCount(), 0);
+  }
+
+  // Private classes
+  private static class ObjectFactory implements PooledResourceFactory<Object>
+  {
+    @Override
+    public Object create()
+    {
+      if (this.throwOnCreate)
+      {
+        throw new IllegalStateException("Create failed.");
+      }
+
+      this.nCreated.incrementAndGet();
+
+      return this.returnNull ? null : new Object();
+    }
+
+    @Override
+    public boolean validate(final Object resource)
+    {
+      this.nValidated.incrementAndGet();
+
+      return this.valid;
+    }
+
+    @Override
+    public void destroy(final Object resource)
+    {
+      this.nDestroyed.incrementAndGet();
+    }
+
+    // Private members
+    private final AtomicInteger nCreated      = new AtomicInteger();
+    private final AtomicInteger nValidated    = new AtomicInteger();
+    private final AtomicInteger nDestroyed    = new AtomicInteger();
+    private volatile boolean    valid         = true;
+    private volatile boolean    throwOnCreate = false;
+    private volatile boolean    returnNull    = false;
+  }
+}
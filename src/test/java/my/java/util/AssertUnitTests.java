@@ -1,7 +1,10 @@
 package my.java.util;
 
+import my.AllocationMeter;
+
 import org.testng.annotations.Test;
 import static my.java.util.Assert.*;
+import static org.testng.Assert.*;
 
 public class AssertUnitTests 
 {
@@ -47,4 +50,134 @@ public class AssertUnitTests
   {
     notNullOrEmptyOrWhiteSpace("dummyArgumentName", "dummyValue");
   }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@dummyArgumentName cannot be null or empty.")
+  public void notNullOrEmptyOrWhiteSpace_ControlCharactersArePassed_ThrowsIllegalArgumentException()
+  {
+    notNullOrEmptyOrWhiteSpace("dummyArgumentName", " \t\r\n\u0000");
+  }
+
+  @Test
+  public void notNullOrEmptyOrWhiteSpace_ValidStringWithWhiteSpacesIsPassed_NoExceptionIsThrown()
+  {
+    notNullOrEmptyOrWhiteSpace("dummyArgumentName", "  dummy Value\t");
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Dummy message.")
+  public void isTrue_FalseConditionIsPassed_ThrowsIllegalArgumentException()
+  {
+    isTrue(false, "Dummy message.");
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Dummy message 1.")
+  public void isTrue_FalseConditionWithMessageSupplierIsPassed_ThrowsIllegalArgumentException()
+  {
+    isTrue(false, new DummyMessageSupplier());
+  }
+
+  @Test
+  public void isTrue_TrueConditionIsPassed_MessageIsNotBuilt()
+  {
+    final DummyMessageSupplier messageSupplier = new DummyMessageSupplier();
+
+    isTrue(true, "Dummy message.");
+    isTrue(true, messageSupplier);
+
+    assertEquals(messageSupplier.nCalls, 0);
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Dummy message.")
+  public void state_FalseConditionIsPassed_ThrowsIllegalStateException()
+  {
+    state(false, "Dummy message.");
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Dummy message 1.")
+  public void state_FalseConditionWithMessageSupplierIsPassed_ThrowsIllegalStateException()
+  {
+    state(false, new DummyMessageSupplier());
+  }
+
+  @Test
+  public void state_TrueConditionIsPassed_MessageIsNotBuilt()
+  {
+    final DummyMessageSupplier messageSupplier = new DummyMessageSupplier();
+
+    state(true, "Dummy message.");
+    state(true, messageSupplier);
+
+    assertEquals(messageSupplier.nCalls, 0);
+  }
+
+  @Test
+  public void internalState_FalseConditionIsPassed_ThrowsOnlyIfInternalChecksAreEnabled()
+  {
+    final DummyMessageSupplier messageSupplier = new DummyMessageSupplier();
+
+    try
+    {
+      internalState(false, messageSupplier);
+
+      assertFalse(INTERNAL_CHECKS_ENABLED, "Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertTrue(INTERNAL_CHECKS_ENABLED, "Exception should not have been thrown.");
+      assertEquals(e.getMessage(), "Dummy message 1.");
+    }
+
+    try
+    {
+      internalState(false, "Dummy message.");
+
+      assertFalse(INTERNAL_CHECKS_ENABLED, "Exception should have been thrown.");
+    }
+    catch (IllegalStateException e)
+    {
+      assertTrue(INTERNAL_CHECKS_ENABLED, "Exception should not have been thrown.");
+      assertEquals(e.getMessage(), "Dummy message.");
+    }
+  }
+
+  @Test
+  public void internalState_TrueConditionIsPassed_MessageIsNotBuilt()
+  {
+    final DummyMessageSupplier messageSupplier = new DummyMessageSupplier();
+
+    internalState(true, messageSupplier);
+
+    assertEquals(messageSupplier.nCalls, 0);
+  }
+
+  // Private classes
+  private static class DummyMessageSupplier implements MessageSupplier
+  {
+    @Override
+    public String getMessage()
+    {
+      return "Dummy message " + ++this.nCalls + ".";
+    }
+
+    // Private members
+    private int nCalls;
+  }
+
+  @Test
+  public void assertions_ValidArgumentsArePassed_DoNotAllocate()
+  {
+    final MessageSupplier messageSupplier = new DummyMessageSupplier();
+
+    AllocationMeter.assertAllocatesAtMost(0, "Assert", new Runnable()
+                                                       {
+                                                         @Override
+                                                         public void run()
+                                                         {
+                                                           notNull("dummyArgumentName", this);
+                                                           notNullOrEmptyOrWhiteSpace("dummyArgumentName", "  dummy Value  ");
+                                                           isTrue(true, messageSupplier);
+                                                           state(true, "Dummy message.");
+                                                           internalState(true, messageSupplier);
+                                                         }
+                                                       });
+  }
 }
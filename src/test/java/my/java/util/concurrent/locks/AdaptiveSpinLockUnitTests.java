@@ -0,0 +1,284 @@
+package my.java.util.concurrent.locks;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import my.TestUtils;
+import my.java.util.concurrent.locks.NamedLockManager.NamedCriticalSectionLock;
+
+import org.testng.annotations.Test;
+
+public class AdaptiveSpinLockUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@maxSpins should be greater than zero.")
+  public void create_ZeroMaxSpins_Throws()
+  {
+    new AdaptiveSpinLock(0, 1, TimeUnit.MILLISECONDS);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@unit cannot be null.")
+  public void create_NullUnit_Throws()
+  {
+    new AdaptiveSpinLock(10, 1, null);
+  }
+
+  @Test
+  public void lock_LockIsReentrantAndGetsReleased()
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    lock.lock();
+    lock.lock();
+    assertTrue(lock.isHeldByCurrentThread(), "Lock should have been held by the current thread.");
+    assertEquals(lock.getHoldCount(), 2);
+
+    lock.unlock();
+    assertTrue(lock.isHeldByCurrentThread(), "Lock should have been held by the current thread.");
+
+    lock.unlock();
+    assertFalse(lock.isLocked(), "Lock should not have been held.");
+  }
+
+  @Test
+  public void create_LockGetsAcquiredAndReleasedInTryWithResourceScope()
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    try(final AutoCloseableLock<AdaptiveSpinLock> autoCloseableLock = new AutoCloseableLock<AdaptiveSpinLock>(lock))
+    {
+      assertTrue(lock.isHeldByCurrentThread(), "Lock should have been held by the current thread.");
+    }
+
+    assertFalse(lock.isHeldByCurrentThread(), "Lock should not have been held by the current thread.");
+  }
+
+  @Test (expectedExceptions = IllegalMonitorStateException.class)
+  public void unlock_NotHeld_ThrowsIllegalMonitorStateException()
+  {
+    new AdaptiveSpinLock().unlock();
+  }
+
+  @Test
+  public void tryLock_HeldByOtherThread_ReturnsFalse() throws InterruptedException
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    final boolean[] acquired = new boolean[2];
+    final Thread thread = new Thread(new Runnable()
+                                     {
+                                       @Override
+                                       public void run()
+                                       {
+                                         try
+                                         {
+                                           acquired[0] = lock.tryLock();
+                                           acquired[1] = lock.tryLock(10, TimeUnit.MILLISECONDS);
+                                         }
+                                         catch (InterruptedException e)
+                                         {
+                                           throw new RuntimeException(e);
+                                         }
+                                       }
+                                     });
+
+    lock.lock();
+    try
+    {
+      thread.start();
+      thread.join();
+    }
+    finally
+    {
+      lock.unlock();
+    }
+
+    assertFalse(acquired[0], "Lock should not have been acquired.");
+    assertFalse(acquired[1], "Lock should not have been acquired.");
+  }
+
+  @Test
+  public void tryLock_ZeroTimeoutAndHeldByOtherThread_ReturnsFalseWithoutSpinning() throws InterruptedException
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    final boolean[] acquired = new boolean[1];
+    final Thread thread = new Thread(new Runnable()
+                                     {
+                                       @Override
+                                       public void run()
+                                       {
+                                         try
+                                         {
+                                           acquired[0] = lock.tryLock(0, TimeUnit.MILLISECONDS);
+                                         }
+                                         catch (InterruptedException e)
+                                         {
+                                           throw new RuntimeException(e);
+                                         }
+                                       }
+                                     });
+
+    lock.lock();
+    try
+    {
+      thread.start();
+      thread.join();
+    }
+    finally
+    {
+      lock.unlock();
+    }
+
+    assertFalse(acquired[0], "Lock should not have been acquired.");
+    assertEquals(TestUtils.getFieldValue(lock, "spinLimit"), (Object)4096, "Spin limit should not have been halved by a spin.");
+  }
+
+  @Test (expectedExceptions = InterruptedException.class)
+  public void lockInterruptibly_Interrupted_ThrowsInterruptedExceptionEvenIfLockIsFree() throws InterruptedException
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    Thread.currentThread().interrupt();
+    try
+    {
+      lock.lockInterruptibly();
+    }
+    finally
+    {
+      assertFalse(lock.isLocked(), "Lock should not have been acquired.");
+    }
+  }
+
+  @Test
+  public void unlock_UncontendedAcquires_HoldTimeIsSampled() throws InterruptedException
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    lock.lock();
+    Thread.sleep(1);
+    lock.unlock();
+
+    final long averageHoldTimeNanos = lock.getAverageHoldTimeNanos();
+    assertTrue(averageHoldTimeNanos > 0, "First acquisition should have been timed.");
+
+    for (int nAcquire = 1; nAcquire < 16; nAcquire++)
+    {
+      lock.lock();
+      Thread.sleep(1);
+      lock.unlock();
+    }
+
+    assertEquals(lock.getAverageHoldTimeNanos(), averageHoldTimeNanos, "Uncontended acquisitions between the samples should not have been timed.");
+
+    lock.lock();
+    Thread.sleep(1);
+    lock.unlock();
+
+    assertNotEquals(lock.getAverageHoldTimeNanos(), averageHoldTimeNanos, "Every 16th uncontended acquisition should have been timed.");
+  }
+
+  @Test
+  public void lock_LongHoldTime_WaitingThreadParks() throws InterruptedException
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    final Thread thread = new Thread(new Runnable()
+                                     {
+                                       @Override
+                                       public void run()
+                                       {
+                                         lock.lock();
+                                         lock.unlock();
+                                       }
+                                     });
+
+    lock.lock();
+    try
+    {
+      TestUtils.validateThreadIsBlocked(thread, "Thread was not blocked for acquiring the lock.", 1000, 100);
+    }
+    finally
+    {
+      lock.unlock();
+    }
+
+    thread.join();
+
+    assertTrue(lock.getAverageHoldTimeNanos() > 0, "Hold time should have been recorded.");
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lock_manyThreads_LockIsMutuallyExclusive() throws InterruptedException
+  {
+    final AdaptiveSpinLock lock = new AdaptiveSpinLock();
+
+    final int            nThreads    = 8;
+    final int            nIterations = 10000;
+    final int[]          counter     = new int[1]; // Deliberately not thread safe.
+    final AtomicInteger  nInside     = new AtomicInteger();
+    final AtomicInteger  nFailures   = new AtomicInteger();
+    final CountDownLatch startLatch  = new CountDownLatch(1);
+
+    final Thread[] threads = new Thread[nThreads];
+    for (int nThread = 0; nThread < nThreads; nThread++)
+    {
+      threads[nThread] = new Thread(new Runnable()
+                                    {
+                                      @Override
+                                      public void run()
+                                      {
+                                        try
+                                        {
+                                          startLatch.await();
+                                        }
+                                        catch (InterruptedException e)
+                                        {
+                                          throw new RuntimeException(e);
+                                        }
+
+                                        for (int nIteration = 0; nIteration < nIterations; nIteration++)
+                                        {
+                                          try(final AutoCloseableLock<AdaptiveSpinLock> autoCloseableLock = new AutoCloseableLock<AdaptiveSpinLock>(lock))
+                                          {
+                                            if (1 != nInside.incrementAndGet())
+                                            {
+                                              nFailures.incrementAndGet();
+                                            }
+
+                                            counter[0]++;
+
+                                            nInside.decrementAndGet();
+                                          }
+                                        }
+                                      }
+                                    });
+      threads[nThread].start();
+    }
+
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertEquals(nFailures.get(), 0, "Lock was not mutually exclusive.");
+    assertEquals(counter[0], nThreads * nIterations);
+  }
+
+  @Test
+  public void namedLockManager_UsingFactory_CriticalSectionLockIsAdaptiveSpinLock()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager(AdaptiveSpinLock.FACTORY);
+
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("dummyCriticalSectionLockName"))
+    {
+      final Object lock = TestUtils.getFieldValue(namedLock, "lock");
+
+      assertTrue(lock instanceof AdaptiveSpinLock, "Lock should have been created using the factory.");
+      assertTrue(((AdaptiveSpinLock)lock).isHeldByCurrentThread(), "Lock should have been held by the current thread.");
+    }
+  }
+}
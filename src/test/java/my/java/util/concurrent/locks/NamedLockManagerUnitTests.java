@@ -1,7 +1,19 @@
 package my.java.util.concurrent.locks;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import my.AllocationMeter;
 import my.TestUtils;
 import my.java.util.concurrent.locks.NamedLockManager.NamedCriticalSectionLock;
 import my.java.util.concurrent.locks.NamedLockManager.NamedLock;
@@ -19,6 +31,12 @@ public class NamedLockManagerUnitTests
     new NamedLockManager();
   }
   
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@lockFactory cannot be null.")
+  public void ctor_nullLockFactory_ThrowsIllegalArgumentException() 
+  {
+    new NamedLockManager((LockFactory)null);
+  }
+  
   // Critical section lock tests
   @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@lockName cannot be null or empty.")
   public void acquireCriticalSectionLock_nullLockName_ThrowsIllegalArgumentException() 
@@ -121,6 +139,466 @@ public class NamedLockManagerUnitTests
     Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
   }
   
+  @Test
+  public void acquireCriticalSectionLock_reentrantAcquire_SharedReferenceCountIsNotIncremented()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    final String lockName = "dummyCriticalSectionLockName";
+    
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock(lockName))
+    {
+      final AtomicLong nReferences = TestUtils.getFieldValue(namedLock, "nReferences");
+      
+      try(final NamedCriticalSectionLock innerNamedLock = namedLockManager.acquireCriticalSectionLock(lockName))
+      {
+        Assert.assertEquals(innerNamedLock, namedLock);      
+        Assert.assertEquals(nReferences.get(), 1L, "Reentrant acquire should not increment the shared reference count.");
+
+        try(final NamedCriticalSectionLock innerMostNamedLock = namedLockManager.acquireCriticalSectionLock(lockName.toUpperCase()))
+        {
+          Assert.assertEquals(innerMostNamedLock, namedLock);      
+          Assert.assertEquals(nReferences.get(), 1L, "Reentrant acquire using different case should not increment the shared reference count.");
+        }
+      }    
+
+      Assert.assertEquals(acquiredLocks.size(), 1, "Lock should still be held.");
+      Assert.assertTrue(((ReentrantLock)TestUtils.getFieldValue(namedLock, "lock")).isHeldByCurrentThread(), "Lock should still be held by the current thread.");
+    }    
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+
+    final Map<?, ?> heldLocks = TestUtils.getFieldValue(((ThreadLocal<?>)TestUtils.getFieldValue(namedLockManager, "heldLocks")).get(), "byNamedLock");
+    Assert.assertTrue(heldLocks.isEmpty(), "Thread local held locks are not empty.");      
+  }
+
+  @Test
+  public void acquireReadWriteLock_reentrantReadAndWriteAcquire_SharedReferenceCountIsNotIncremented()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    final String lockName = "dummyReadWriteLock";
+    
+    try(final NamedWriteLock namedWriteLock = namedLockManager.acquireWriteLock(lockName))
+    {
+      final AtomicLong nReferences = TestUtils.getFieldValue(acquiredLocks.values().iterator().next(), "nReferences");
+      
+      try(final NamedReadLock namedReadLock = namedLockManager.acquireReadLock(lockName))
+      {
+        Assert.assertEquals(nReferences.get(), 1L, "Reentrant acquire should not increment the shared reference count.");
+      }    
+
+      Assert.assertEquals(acquiredLocks.size(), 1, "Lock should still be held.");
+    }    
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  @Test
+  public void acquireCriticalSectionLock_lockClosedOnOtherThread_StaleLockIsNotReused() throws InterruptedException
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager(SEMAPHORE_LOCK_FACTORY);
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    final NamedCriticalSectionLock firstLock = namedLockManager.acquireCriticalSectionLock("dummyLock");
+    
+    final Thread thread = new Thread(new Runnable()
+                                     {
+                                       @Override
+                                       public void run()
+                                       {
+                                         firstLock.close();
+                                       }
+                                     });
+    thread.start();
+    thread.join();
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "Lock closed on other thread should have been removed.");      
+
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("dummyLock"))
+    {
+      Assert.assertNotSame(namedLock, firstLock, "Stale lock should not have been reused.");
+      Assert.assertSame(acquiredLocks.get("dummylock_criticalSection_lock"), namedLock, "Lock should have been registered.");
+      Assert.assertEquals(((AtomicLong)TestUtils.getFieldValue(namedLock, "nReferences")).get(), 1L);
+    }
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+
+    final Map<?, ?> heldLocks = TestUtils.getFieldValue(((ThreadLocal<?>)TestUtils.getFieldValue(namedLockManager, "heldLocks")).get(), "byNamedLock");
+    Assert.assertTrue(heldLocks.isEmpty(), "Thread local held locks are not empty.");      
+  }
+
+  // Pinned lock name tests
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@pinnedLockNames cannot be null.")
+  public void ctor_nullPinnedLockNames_ThrowsIllegalArgumentException() 
+  {
+    new NamedLockManager((Collection<String>)null);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@pinnedLockNames cannot be null or empty.")
+  public void ctor_pinnedLockNameWithAllSpaces_ThrowsIllegalArgumentException() 
+  {
+    new NamedLockManager(Arrays.asList("dummyPinnedLockName", "   "));
+  }
+
+  @Test
+  public void acquireCriticalSectionLock_pinnedLockName_LockIsAcquiredWithoutRegistry() throws InterruptedException
+  {
+    final String[] pinnedLockNames = new String[100];
+    for (int nIndex = 0; nIndex < pinnedLockNames.length; nIndex++)
+    {
+      pinnedLockNames[nIndex] = "dummyPinnedLockName" + nIndex;
+    }
+    
+    final NamedLockManager namedLockManager = new NamedLockManager(Arrays.asList(pinnedLockNames));
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    for (final String lockName : pinnedLockNames)
+    {
+      try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock(lockName.toUpperCase()))
+      {
+        Assert.assertEquals(namedLock.getLockName(), lockName); 
+        Assert.assertTrue(acquiredLocks.isEmpty(), "Pinned lock should not be added to acquiredLocks collection.");      
+        
+        try(final NamedCriticalSectionLock innerNamedLock = namedLockManager.acquireCriticalSectionLock(lockName))
+        {
+          Assert.assertEquals(innerNamedLock, namedLock);      
+        }
+      }
+      
+      try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock(lockName))
+      {
+        Assert.assertTrue(((ReentrantLock)TestUtils.getFieldValue(namedLock, "lock")).isHeldByCurrentThread(), "Pinned lock should be held by the current thread.");
+      }
+    }
+    
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("dummyPinnedLockName"))
+    {
+      Assert.assertEquals(acquiredLocks.size(), 1, "Lock name which is not pinned should be added to acquiredLocks collection.");      
+    }
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  @Test
+  public void acquireCriticalSectionLock_pinnedLockNameWithSpecialCaseFolding_PinnedMatchesRegistryFolding()
+  {
+    final String finalSigma = "\u039f\u03a3"; // Capital omicron sigma, folds to omicron final sigma.
+    final String dottedI    = "\u0130d";       // Capital I with dot, folds to i and combining dot.
+    
+    final NamedLockManager namedLockManager = new NamedLockManager(Arrays.asList(finalSigma, dottedI));
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("\u03bf\u03c2"))
+    {
+      Assert.assertEquals(namedLock.getLockName(), finalSigma, "Name folding to the pinned name should have got the pinned lock."); 
+      Assert.assertTrue(acquiredLocks.isEmpty(), "Pinned lock should not be added to acquiredLocks collection.");      
+    }
+    
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("i\u0307d"))
+    {
+      Assert.assertEquals(namedLock.getLockName(), dottedI, "Name folding to the pinned name should have got the pinned lock."); 
+      Assert.assertTrue(acquiredLocks.isEmpty(), "Pinned lock should not be added to acquiredLocks collection.");      
+    }
+    
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("Id"))
+    {
+      Assert.assertEquals(namedLock.getLockName(), "Id"); 
+      Assert.assertEquals(acquiredLocks.size(), 1, "Name folding differently from the pinned name should be added to acquiredLocks collection.");      
+    }
+  }
+
+  @Test
+  public void acquireReadWriteLock_pinnedLockName_acquireWriteLockAndBlockForReadLock_LocksAreAcquired() throws InterruptedException
+  {
+    final String lockName = "dummyPinnedReadWriteLock";
+
+    final NamedLockManager namedLockManager = new NamedLockManager(Arrays.asList(lockName));
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+
+    final Thread thread = new Thread(new Runnable()
+                                     {      
+                                       @Override
+                                       public void run()
+                                       {
+                                         try(final NamedReadLock namedLock = namedLockManager.acquireReadLock(lockName.toUpperCase()))                                         
+                                         {
+                                           Assert.assertEquals(namedLock.getLockName(), lockName);                                           
+                                         }
+                                       }
+                                     });
+
+    try(final NamedWriteLock namedLock = namedLockManager.acquireWriteLock(lockName))
+    {
+      Assert.assertEquals(namedLock.getLockName(), lockName);
+      Assert.assertTrue(acquiredLocks.isEmpty(), "Pinned lock should not be added to acquiredLocks collection.");      
+      
+      TestUtils.validateThreadIsBlocked(thread, "Thread was not blocked for read lock.", 1000, 100);
+    }
+    
+    thread.join();
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  // withLock tests
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@callable cannot be null.")
+  public void withLock_nullCallable_ThrowsIllegalArgumentException() throws Exception 
+  {
+    new NamedLockManager().withLock("dummyCriticalSectionLockName", null);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@lockName cannot be null or empty.")
+  public void withLock_lockNameWithAllSpaces_ThrowsIllegalArgumentException() throws Exception 
+  {
+    new NamedLockManager().withLock("   ", new Callable<Object>()
+                                           {
+                                             @Override
+                                             public Object call()
+                                             {
+                                               return null;
+                                             }
+                                           });
+  }
+
+  @Test
+  public void withLock_validLockName_singleThreaded_CallableIsExecutedUnderLock() throws Exception
+  {
+    withLock_validLockName_CallableIsExecutedUnderLock();
+  }
+
+  @Test (threadPoolSize = 20, invocationCount = 100, invocationTimeOut = 1000 * 60, timeOut = 1000 * 60 * 5)
+  public void withLock_validLockName_multiThreaded_CallableIsExecutedUnderLock() throws Exception
+  {
+    withLock_validLockName_CallableIsExecutedUnderLock();
+  }
+
+  private void withLock_validLockName_CallableIsExecutedUnderLock() throws Exception
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    final String lockName = "dummyCriticalSectionLockName";
+    
+    final String result = namedLockManager.withLock(lockName, new Callable<String>()
+                                                              {
+                                                                @Override
+                                                                public String call()
+                                                                {
+                                                                  Assert.assertTrue(acquiredLocks.keySet().iterator().next().startsWith(lockName.toLowerCase()), String.format("Lock name '%s' not found in namedLockManager.", lockName));
+                                                                  
+                                                                  return lockName;
+                                                                }
+                                                              });
+    
+    Assert.assertEquals(result, lockName);
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  @Test
+  public void withLock_callableThrows_ExceptionIsPropagatedAndLockIsReleased()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    try
+    {
+      namedLockManager.withLock("dummyCriticalSectionLockName", new Callable<Object>()
+                                                                {
+                                                                  @Override
+                                                                  public Object call() throws Exception
+                                                                  {
+                                                                    throw new Exception("Thrown from callable.");
+                                                                  }
+                                                                });
+      Assert.fail("Exception should have been thrown.");
+    }
+    catch (Exception e)
+    {
+      Assert.assertEquals(e.getMessage(), "Thrown from callable.");
+    }
+    
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  // withCombiningLock tests
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@lockName cannot be null or empty.")
+  public void withCombiningLock_nullLockName_ThrowsIllegalArgumentException() throws Exception 
+  {
+    new NamedLockManager().withCombiningLock(null, new Callable<Object>()
+                                                   {
+                                                     @Override
+                                                     public Object call()
+                                                     {
+                                                       return null;
+                                                     }
+                                                   });
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@callable cannot be null.")
+  public void withCombiningLock_nullCallable_ThrowsIllegalArgumentException() throws Exception 
+  {
+    new NamedLockManager().withCombiningLock("dummyCombiningLockName", null);
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void withCombiningLock_manyThreads_CallablesAreMutuallyExclusiveAndResultsAreReturned() throws Exception
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    final String         lockName               = "dummyCombiningLockName";
+    final int            nThreads               = 16;
+    final int            nIterations            = 1000;
+    final int[]          counter                = new int[1]; // Deliberately not thread safe.
+    final AtomicInteger  nInsideCriticalSection = new AtomicInteger();
+    final AtomicInteger  nFailures              = new AtomicInteger();
+    final CountDownLatch startLatch             = new CountDownLatch(1);
+    
+    final Callable<Integer> incrementCounter = new Callable<Integer>()
+                                               {
+                                                 @Override
+                                                 public Integer call()
+                                                 {
+                                                   if (1 != nInsideCriticalSection.incrementAndGet())
+                                                   {
+                                                     nFailures.incrementAndGet();
+                                                   }
+                                                   
+                                                   final int value = ++counter[0];
+                                                   
+                                                   nInsideCriticalSection.decrementAndGet();
+                                                   
+                                                   return value;
+                                                 }
+                                               };
+    
+    final Thread[] threads = new Thread[nThreads];
+    for (int nThread = 0; nThread < nThreads; nThread++)
+    {
+      threads[nThread] = new Thread(new Runnable()
+                                    {
+                                      @Override
+                                      public void run()
+                                      {
+                                        try
+                                        {
+                                          startLatch.await();
+                                          
+                                          for (int nIteration = 0; nIteration < nIterations; nIteration++)
+                                          {
+                                            if (nIteration % 10 == 0)
+                                            {
+                                              try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock(lockName)) // Mix with non-combining consumers.
+                                              {
+                                                incrementCounter.call();
+                                              }
+                                            }
+                                            else if (namedLockManager.withCombiningLock(lockName, incrementCounter) <= 0)
+                                            {
+                                              nFailures.incrementAndGet();
+                                            }
+                                          }
+                                        }
+                                        catch (Exception e)
+                                        {
+                                          nFailures.incrementAndGet();
+                                        }
+                                      }
+                                    });
+      threads[nThread].start();
+    }
+    
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+    
+    Assert.assertEquals(nFailures.get(), 0, "Critical section was not mutually exclusive.");
+    Assert.assertEquals(counter[0], nThreads * nIterations);
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  @Test
+  public void withCombiningLock_callableThrows_ExceptionIsPropagatedToCaller()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+    
+    try
+    {
+      namedLockManager.withCombiningLock("dummyCombiningLockName", new Callable<Object>()
+                                                                   {
+                                                                     @Override
+                                                                     public Object call() throws Exception
+                                                                     {
+                                                                       throw new Exception("Thrown from callable.");
+                                                                     }
+                                                                   });
+      Assert.fail("Exception should have been thrown.");
+    }
+    catch (Exception e)
+    {
+      Assert.assertEquals(e.getMessage(), "Thrown from callable.");
+    }
+    
+    Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void withCombiningLock_lockHeldByNonCombiningThread_WaiterIsUnparkedOnRelease() throws InterruptedException
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    final String        lockName = "dummyCombiningLockName";
+    final AtomicInteger result   = new AtomicInteger();
+    
+    final Thread thread = new Thread(new Runnable()
+                                     {      
+                                       @Override
+                                       public void run()
+                                       {
+                                         try
+                                         {
+                                           result.set(namedLockManager.withCombiningLock(lockName, new Callable<Integer>()
+                                                                                                   {
+                                                                                                     @Override
+                                                                                                     public Integer call()
+                                                                                                     {
+                                                                                                       return 1;
+                                                                                                     }
+                                                                                                   }));
+                                         }
+                                         catch (Exception e)
+                                         {
+                                           throw new RuntimeException(e);
+                                         }
+                                       }
+                                     });
+    
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock(lockName))
+    {
+      TestUtils.validateThreadIsBlocked(thread, "Waiter should have parked without timeout.", 1000, 100);
+    }
+    
+    thread.join();
+    
+    Assert.assertEquals(result.get(), 1, "Waiter should have combined its callable once the lock was released.");
+  }
+
   // Read lock tests
   @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@lockName cannot be null or empty.")
   public void acquireReadLock_nullLockName_ThrowsIllegalArgumentException() 
@@ -322,4 +800,179 @@ public class NamedLockManagerUnitTests
 
     Assert.assertTrue(acquiredLocks.isEmpty(), "acquiredLocks collection is not empty.");      
   }
+
+  @Test
+  public void acquireCriticalSectionLock_lockIsReleasedAndAcquiredAgain_OldLockIsNotRegistered()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+    
+    final Map<String, NamedLock> acquiredLocks = TestUtils.getFieldValue(namedLockManager, "acquiredLocks");
+
+    final NamedCriticalSectionLock firstLock;
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("dummyLock"))
+    {
+      firstLock = namedLock;
+
+      Assert.assertSame(acquiredLocks.get("dummylock_criticalSection_lock"), namedLock, "Acquired lock should have been registered.");
+      Assert.assertEquals(acquiredLocks.size(), 1);
+    }
+
+    Assert.assertTrue(acquiredLocks.isEmpty(), "Released lock should have been removed.");
+
+    try(final NamedCriticalSectionLock namedLock = namedLockManager.acquireCriticalSectionLock("dummyLock"))
+    {
+      Assert.assertSame(acquiredLocks.get("dummylock_criticalSection_lock"), namedLock, "Acquired lock should have been registered.");
+      Assert.assertNotSame(namedLock, firstLock, "Released lock should not have been registered again.");
+    }
+  }
+
+  @Test
+  public void acquireCriticalSectionLock_pinnedLockName_DoesNotAllocate()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager(Arrays.asList("pinnedLock"));
+
+    final NamedCriticalSectionLock pinnedLock = namedLockManager.acquireCriticalSectionLock("pinnedLock");
+    pinnedLock.close();
+    
+    // Zero bytes holds without escape analysis only because no handle is created i.e. the pinned lock itself is returned.
+    Assert.assertSame(namedLockManager.acquireCriticalSectionLock("pinnedLock"), pinnedLock, "Pinned lock should have been returned.");
+    pinnedLock.close();
+
+    AllocationMeter.assertAllocatesAtMost(0, "Pinned acquireCriticalSectionLock/close", new Runnable()
+                                                                                      {
+                                                                                        @Override
+                                                                                        public void run()
+                                                                                        {
+                                                                                          namedLockManager.acquireCriticalSectionLock("pinnedLock").close();
+                                                                                        }
+                                                                                      });
+  }
+
+  @Test
+  public void acquireCriticalSectionLock_lockAlreadyHeldByThread_DoesNotAllocate()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    try(final NamedCriticalSectionLock heldLock = namedLockManager.acquireCriticalSectionLock("dummyLock"))
+    {
+      // Zero bytes holds without escape analysis only because no handle is created i.e. the held lock itself is returned.
+      try(final NamedCriticalSectionLock reentrantLock = namedLockManager.acquireCriticalSectionLock("dummyLock"))
+      {
+        Assert.assertSame(reentrantLock, heldLock, "Held lock should have been returned.");
+      }
+      
+      AllocationMeter.assertAllocatesAtMost(0, "Reentrant acquireCriticalSectionLock/close", new Runnable()
+                                                                                           {
+                                                                                             @Override
+                                                                                             public void run()
+                                                                                             {
+                                                                                               namedLockManager.acquireCriticalSectionLock("dummyLock").close();
+                                                                                             }
+                                                                                           });
+    }
+  }
+
+  @Test
+  public void withCombiningLock_pinnedLockName_DoesNotAllocate()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager(Arrays.asList("pinnedLock"));
+    final Callable<Object> callable         = new Callable<Object>()
+                                              {
+                                                @Override
+                                                public Object call()
+                                                {
+                                                  return this;
+                                                }
+                                              };
+
+    // Zero bytes holds without escape analysis only because the pinned lock and the thread's combined operation are reused.
+    AllocationMeter.assertAllocatesAtMost(0, "Pinned withCombiningLock", new Runnable()
+                                                                        {
+                                                                          @Override
+                                                                          public void run()
+                                                                          {
+                                                                            try
+                                                                            {
+                                                                              namedLockManager.withCombiningLock("pinnedLock", callable);
+                                                                            }
+                                                                            catch (Exception e)
+                                                                            {
+                                                                              throw new RuntimeException(e);
+                                                                            }
+                                                                          }
+                                                                        });
+  }
+
+  @Test
+  public void acquireCriticalSectionLock_uncontendedLockName_AllocatesAtMostAgreedBytes()
+  {
+    final NamedLockManager namedLockManager = new NamedLockManager();
+
+    AllocationMeter.assertAllocatesAtMost(UNCONTENDED_ACQUIRE_BYTES, "Uncontended acquireCriticalSectionLock/close", new Runnable()
+                                                                                                                  {
+                                                                                                                    @Override
+                                                                                                                    public void run()
+                                                                                                                    {
+                                                                                                                      namedLockManager.acquireCriticalSectionLock("dummyLock").close();
+                                                                                                                    }
+                                                                                                                  });
+  }
+
+  // Private members
+  private static final long UNCONTENDED_ACQUIRE_BYTES = 1024; // The registry entry, the lock and its name are created on every first acquire (about 700 bytes on 64 bit HotSpot).
+
+  private static final LockFactory SEMAPHORE_LOCK_FACTORY = new LockFactory()
+                                                            {
+                                                              @Override
+                                                              public Lock createLock()
+                                                              {
+                                                                return new SemaphoreLock();
+                                                              }
+                                                            };
+
+  // Private classes
+  /**
+   * Non-reentrant lock which, unlike {@link ReentrantLock}, can be unlocked by any thread.
+   */
+  private static class SemaphoreLock implements Lock
+  {
+    @Override
+    public void lock()
+    {
+      this.permit.acquireUninterruptibly();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException
+    {
+      this.permit.acquire();
+    }
+
+    @Override
+    public boolean tryLock()
+    {
+      return this.permit.tryAcquire();
+    }
+
+    @Override
+    public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException
+    {
+      return this.permit.tryAcquire(time, unit);
+    }
+
+    @Override
+    public void unlock()
+    {
+      this.permit.release();
+    }
+
+    @Override
+    public Condition newCondition()
+    {
+      throw new UnsupportedOperationException();
+    }
+
+    // Private members
+    private final Semaphore permit = new Semaphore(1);
+  }
 }
@@ -1,9 +1,12 @@
 package my.java.util.concurrent.locks;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
+import my.AllocationMeter;
+
 import static org.testng.Assert.*;
 import org.testng.annotations.Test;
 
@@ -45,4 +48,101 @@ public class ReaderWriterLockUnitTests
 
     assertEquals(readerWriterLock.get().getWriteHoldCount(), 0, "No write lock should have been acquired.");
   }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@callable cannot be null.")
+  public void withReadLock_NullCallable_Throws() throws Exception
+  {
+    new ReaderWriterLock<ReentrantReadWriteLock>(new ReentrantReadWriteLock()).withReadLock(null);
+  }
+
+  @Test
+  public void withReadLock_ReadLockAcquiredAndReleased() throws Exception 
+  {
+    final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<ReentrantReadWriteLock>(new ReentrantReadWriteLock());
+    
+    final Integer readHoldCount = readerWriterLock.withReadLock(new Callable<Integer>()
+                                                               {
+                                                                 @Override
+                                                                 public Integer call()
+                                                                 {
+                                                                   return readerWriterLock.get().getReadHoldCount();
+                                                                 }
+                                                               });
+
+    assertEquals(readHoldCount.intValue(), 1, "Read lock should have been acquired.");
+    assertEquals(readerWriterLock.get().getReadHoldCount(), 0, "No read lock should have been acquired.");
+  }
+
+  @Test
+  public void withWriteLock_WriteLockAcquiredAndReleased() throws Exception 
+  {
+    final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<ReentrantReadWriteLock>(new ReentrantReadWriteLock());
+    
+    final Boolean isWriteLocked = readerWriterLock.withWriteLock(new Callable<Boolean>()
+                                                                 {
+                                                                   @Override
+                                                                   public Boolean call()
+                                                                   {
+                                                                     return readerWriterLock.get().isWriteLockedByCurrentThread();
+                                                                   }
+                                                                 });
+
+    assertTrue(isWriteLocked, "Write lock should have been acquired.");
+    assertEquals(readerWriterLock.get().getWriteHoldCount(), 0, "No write lock should have been acquired.");
+  }
+
+  @Test (expectedExceptions = IllegalStateException.class, expectedExceptionsMessageRegExp = "Thrown from callable.")
+  public void withWriteLock_CallableThrows_ExceptionIsPropagatedAndLockIsReleased() throws Exception 
+  {
+    final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<ReentrantReadWriteLock>(new ReentrantReadWriteLock());
+    
+    try
+    {
+      readerWriterLock.withWriteLock(new Callable<Object>()
+                                     {
+                                       @Override
+                                       public Object call()
+                                       {
+                                         throw new IllegalStateException("Thrown from callable.");
+                                       }
+                                     });
+    }
+    finally
+    {
+      assertEquals(readerWriterLock.get().getWriteHoldCount(), 0, "No write lock should have been acquired.");
+    }
+  }
+
+  @Test
+  public void acquireReadLock_AllocatesAtMostLockHandle()
+  {
+    final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<>(new ReentrantReadWriteLock());
+
+    AllocationMeter.assertAllocatesAtMost(LOCK_HANDLE_BYTES, "acquireReadLock/close", new Runnable()
+                                                                                      {
+                                                                                        @Override
+                                                                                        public void run()
+                                                                                        {
+                                                                                          readerWriterLock.acquireReadLock().close();
+                                                                                        }
+                                                                                      });
+  }
+
+  @Test
+  public void acquireWriteLock_AllocatesAtMostLockHandle()
+  {
+    final ReaderWriterLock<ReentrantReadWriteLock> readerWriterLock = new ReaderWriterLock<>(new ReentrantReadWriteLock());
+
+    AllocationMeter.assertAllocatesAtMost(LOCK_HANDLE_BYTES, "acquireWriteLock/close", new Runnable()
+                                                                                       {
+                                                                                         @Override
+                                                                                         public void run()
+                                                                                         {
+                                                                                           readerWriterLock.acquireWriteLock().close();
+                                                                                         }
+                                                                                       });
+  }
+
+  // Private members
+  private static final long LOCK_HANDLE_BYTES = 40; // Every acquire creates one AutoCloseableLock: 32 bytes on 64 bit HotSpot, 40 without compressed oops.
 }
@@ -0,0 +1,373 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+
+import org.testng.annotations.Test;
+
+public class AsyncLookupUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@executor cannot be null.")
+  public void create_NullExecutor_Throws()
+  {
+    new AsyncLookup(newContextFactory(new MapContext()), null, null);
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_NameIsLookedUpOnExecutor() throws Exception
+  {
+    final MapContext      registry = new MapContext();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    registry.bind("a", "A");
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup asyncLookup = new AsyncLookup(contextFactory, executor, null);
+
+      assertEquals(asyncLookup.lookupAsync("a").get(), "A");
+
+      try
+      {
+        asyncLookup.lookupAsync("missing").get();
+        fail("Exception should have been thrown.");
+      }
+      catch (ExecutionException e)
+      {
+        assertTrue(e.getCause() instanceof NameNotFoundException, "Cause should have been the naming exception.");
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_ConcurrentLookupsOfSameName_AreMerged() throws Exception
+  {
+    final MapContext       registry = new MapContext();
+    final BlockingExecutor executor = new BlockingExecutor();
+    registry.bind("a", "A");
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup asyncLookup = new AsyncLookup(contextFactory, executor, null);
+
+      final Future<Object> first  = asyncLookup.lookupAsync("a");
+      final Future<Object> second = asyncLookup.lookupAsync("a");
+
+      assertNotSame(second, first, "Every caller should have got own future.");
+      assertEquals(asyncLookup.getPendingCount(), 1, "Lookups should have been merged.");
+
+      executor.release.countDown();
+
+      assertEquals(first.get(), "A");
+      assertEquals(second.get(), "A");
+      assertEquals(registry.getLookupCount(), 1);
+
+      while (0 != asyncLookup.getPendingCount())
+      {
+        Thread.sleep(1);
+      }
+
+      assertEquals(asyncLookup.lookupAsync("a").get(), "A");
+      assertEquals(registry.getLookupCount(), 2, "Completed lookup should not have been reused.");
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_OneCallerCancels_OtherCallersGetResult() throws Exception
+  {
+    final MapContext       registry = new MapContext();
+    final BlockingExecutor executor = new BlockingExecutor();
+    registry.bind("a", "A");
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup asyncLookup = new AsyncLookup(contextFactory, executor, null);
+
+      final Future<Object> first  = asyncLookup.lookupAsync("a");
+      final Future<Object> second = asyncLookup.lookupAsync("a");
+
+      assertTrue(first.cancel(true), "Future should have been cancelled.");
+
+      executor.release.countDown();
+
+      assertEquals(second.get(), "A");
+      assertTrue(first.isCancelled(), "Future should have stayed cancelled.");
+      assertFalse(first.cancel(true), "Cancelled future should not have been cancelled again.");
+
+      try
+      {
+        first.get();
+        fail("CancellationException should have been thrown.");
+      }
+      catch (CancellationException expected)
+      {
+        // Cancelled future does not get the result.
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_LookupPending_TimedGetTimesOut() throws Exception
+  {
+    final MapContext       registry = new MapContext();
+    final BlockingExecutor executor = new BlockingExecutor();
+    registry.bind("a", "A");
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final Future<Object> future = new AsyncLookup(contextFactory, executor, null).lookupAsync("a");
+
+      try
+      {
+        future.get(10, TimeUnit.MILLISECONDS);
+        fail("TimeoutException should have been thrown.");
+      }
+      catch (TimeoutException expected)
+      {
+        assertFalse(future.isDone(), "Future should not have been completed.");
+      }
+
+      executor.release.countDown();
+
+      assertEquals(future.get(1, TimeUnit.MINUTES), "A");
+      assertTrue(future.isDone(), "Future should have been completed.");
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_CachedName_IsCompletedOnCallingThread() throws Exception
+  {
+    final MapContext        registry = new MapContext();
+    final ExecutorService   executor = Executors.newSingleThreadExecutor();
+    final NamingLookupCache cache    = new NamingLookupCache(10, 1, 1, TimeUnit.MINUTES);
+    registry.bind("a", "A");
+
+    final Executor rejectingExecutor = new Executor()
+                                       {
+                                         @Override
+                                         public void execute(final Runnable command)
+                                         {
+                                           throw new RejectedExecutionException();
+                                         }
+                                       };
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup asyncLookup = new AsyncLookup(contextFactory, executor, cache);
+
+      assertEquals(asyncLookup.lookupAsync("a").get(), "A");
+
+      try
+      {
+        asyncLookup.lookupAsync("missing").get();
+        fail("Exception should have been thrown.");
+      }
+      catch (ExecutionException expected)
+      {
+      }
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup       asyncLookup = new AsyncLookup(contextFactory, rejectingExecutor, cache);
+      final RecordingCallback callback    = new RecordingCallback();
+
+      final Future<Object> lookup = asyncLookup.lookupAsync("a", callback);
+
+      assertTrue(lookup.isDone(), "Cached name should have been completed without the executor.");
+      assertEquals(lookup.get(), "A");
+
+      asyncLookup.lookupAsync("missing", callback);
+
+      assertEquals(callback.doneLatch.getCount(), 0, "Callback should have been notified on the calling thread.");
+      assertTrue(callback.failure.get() instanceof NameNotFoundException, "Cached not found should have been reported.");
+      assertEquals(registry.getLookupCount(), 2);
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_WithCache_LookupsAreServedFromCache() throws Exception
+  {
+    final MapContext      registry = new MapContext();
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    registry.bind("a", "A");
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup asyncLookup = new AsyncLookup(contextFactory, executor, new NamingLookupCache(10, 1, 1, TimeUnit.MINUTES));
+
+      assertEquals(asyncLookup.lookupAsync("a").get(), "A");
+      assertEquals(asyncLookup.lookupAsync("a").get(), "A");
+
+      assertEquals(registry.getLookupCount(), 1);
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAsync_Callback_IsNotifiedOnCompletion() throws Exception
+  {
+    final MapContext        registry = new MapContext();
+    final ExecutorService   executor = Executors.newSingleThreadExecutor();
+    final RecordingCallback callback = new RecordingCallback();
+    registry.bind("a", "A");
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry))
+    {
+      final AsyncLookup asyncLookup = new AsyncLookup(contextFactory, executor, null);
+
+      asyncLookup.lookupAsync("a", callback).get();
+      asyncLookup.lookupAsync("missing", callback);
+
+      assertTrue(callback.doneLatch.await(10, TimeUnit.SECONDS), "Callbacks should have been notified.");
+      assertEquals(callback.object.get(), "A");
+      assertTrue(callback.failure.get() instanceof NameNotFoundException, "Failure should have been reported.");
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void lookupAsync_ExecutorRejects_LookupFails() throws Exception
+  {
+    final Executor rejectingExecutor = new Executor()
+                                       {
+                                         @Override
+                                         public void execute(final Runnable command)
+                                         {
+                                           throw new RejectedExecutionException();
+                                         }
+                                       };
+
+    try(final PooledContextFactory contextFactory = newContextFactory(new MapContext()))
+    {
+      final AsyncLookup       asyncLookup = new AsyncLookup(contextFactory, rejectingExecutor, null);
+      final RecordingCallback callback    = new RecordingCallback();
+
+      final Future<Object> lookup = asyncLookup.lookupAsync("a", callback);
+
+      assertTrue(lookup.isDone(), "Lookup should have failed.");
+      assertEquals(callback.failure.get().getExplanation(), "Lookup was rejected by the executor.");
+      assertTrue(callback.failure.get().getRootCause() instanceof RejectedExecutionException, "Rejection should have been the root cause.");
+      assertEquals(asyncLookup.getPendingCount(), 0);
+    }
+  }
+
+  // Private methods
+  private static PooledContextFactory newContextFactory(final MapContext registry)
+  {
+    return new PooledContextFactory(new Callable<Context>()
+                                    {
+                                      @Override
+                                      public Context call()
+                                      {
+                                        return registry;
+                                      }
+                                    },
+                                    new ContextHealthCheck()
+                                    {
+                                      @Override
+                                      public boolean isHealthy(final Context context)
+                                      {
+                                        return true;
+                                      }
+                                    }, 1, 1, TimeUnit.MINUTES);
+  }
+
+  // Private classes
+  private static class BlockingExecutor implements Executor
+  {
+    @Override
+    public void execute(final Runnable command)
+    {
+      this.executor.execute(new Runnable()
+                            {
+                              @Override
+                              public void run()
+                              {
+                                try
+                                {
+                                  BlockingExecutor.this.release.await();
+                                }
+                                catch (InterruptedException e)
+                                {
+                                  throw new RuntimeException(e);
+                                }
+
+                                command.run();
+                              }
+                            });
+    }
+
+    public void shutdown()
+    {
+      this.executor.shutdown();
+    }
+
+    // Private members
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch  release  = new CountDownLatch(1);
+  }
+
+  private static class RecordingCallback implements LookupCallback
+  {
+    @Override
+    public void onSuccess(final String name, final Object object)
+    {
+      this.object.set(object);
+      this.doneLatch.countDown();
+    }
+
+    @Override
+    public void onFailure(final String name, final NamingException failure)
+    {
+      this.failure.set(failure);
+      this.doneLatch.countDown();
+    }
+
+    // Private members
+    private final AtomicReference<Object>          object    = new AtomicReference<>();
+    private final AtomicReference<NamingException> failure   = new AtomicReference<>();
+    private final CountDownLatch                   doneLatch = new CountDownLatch(2);
+  }
+}
@@ -0,0 +1,178 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+
+import org.testng.annotations.Test;
+
+public class BatchLookupUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@parallelism should be greater than zero.")
+  public void create_ZeroParallelism_Throws()
+  {
+    new BatchLookup(newContextFactory(new InMemoryContext(), 1), CALLER_EXECUTOR, 0);
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void lookupAll_NamesAreLookedUpInParallelWithPerNameErrors() throws NamingException, InterruptedException
+  {
+    final InMemoryContext registry = new InMemoryContext();
+    final List<String>    names    = new ArrayList<>();
+    for (int nName = 0; nName < 200; nName++)
+    {
+      if (0 != nName % 20)
+      {
+        registry.bind("name" + nName, nName);
+      }
+
+      names.add("name" + nName);
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try(final PooledContextFactory contextFactory = newContextFactory(registry, 4))
+    {
+      final BatchLookupResult result = new BatchLookup(contextFactory, executor, 4).lookupAll(names);
+
+      assertTrue(result.hasErrors(), "Missing names should have been reported.");
+      assertEquals(result.getObjects().size(), 190);
+      assertEquals(result.getErrors().size(), 10);
+      assertEquals(result.getObjects().get("name7"), 7);
+      assertTrue(result.getErrors().get("name20") instanceof NameNotFoundException, "Missing name should have been reported as not found.");
+      assertEquals(new ArrayList<>(result.getObjects().keySet()).get(0), "name1", "Order of the names should have been kept.");
+      assertEquals(contextFactory.getInUseCount(), 0, "Contexts should have been returned to the pool.");
+    }
+    finally
+    {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void lookupAll_ExecutorRejects_NamesAreLookedUpOnCallingThread() throws NamingException, InterruptedException
+  {
+    final InMemoryContext registry = new InMemoryContext();
+    registry.bind("a", "A");
+
+    final Executor rejectingExecutor = new Executor()
+                                       {
+                                         @Override
+                                         public void execute(final Runnable command)
+                                         {
+                                           throw new RejectedExecutionException();
+                                         }
+                                       };
+
+    try(final PooledContextFactory contextFactory = newContextFactory(registry, 2))
+    {
+      final BatchLookupResult result = new BatchLookup(contextFactory, rejectingExecutor, 2).lookupAll(Arrays.asList("a", "a", "b"));
+
+      assertEquals(result.getObjects().size(), 1, "Duplicate names should have been looked up once.");
+      assertEquals(result.getObjects().get("a"), "A");
+      assertEquals(result.getErrors().keySet().iterator().next(), "b");
+    }
+  }
+
+  @Test
+  public void lookupAll_LookupThrowsError_NameIsReportedAsError() throws NamingException, InterruptedException
+  {
+    final InMemoryContext registry = new InMemoryContext();
+    registry.bind("a", "A");
+
+    final PooledContextFactory errorContextFactory = new PooledContextFactory(new Callable<Context>()
+                                                                              {
+                                                                                @Override
+                                                                                public Context call()
+                                                                                {
+                                                                                  return new InMemoryContext()
+                                                                                         {
+                                                                                           @Override
+                                                                                           public Object lookup(final String name) throws NamingException
+                                                                                           {
+                                                                                             if ("error".equals(name))
+                                                                                             {
+                                                                                               throw new AssertionError("Lookup failed.");
+                                                                                             }
+
+                                                                                             return registry.lookup(name);
+                                                                                           }
+                                                                                         };
+                                                                                }
+                                                                              },
+                                                                              new ContextHealthCheck()
+                                                                              {
+                                                                                @Override
+                                                                                public boolean isHealthy(final Context context)
+                                                                                {
+                                                                                  return true;
+                                                                                }
+                                                                              }, 1, 1, TimeUnit.MINUTES);
+
+    try(final PooledContextFactory contextFactory = errorContextFactory)
+    {
+      final BatchLookupResult result = new BatchLookup(contextFactory, CALLER_EXECUTOR, 1).lookupAll(Arrays.asList("error", "a"));
+
+      assertEquals(result.getObjects().size(), 1);
+      assertEquals(result.getObjects().get("a"), "A", "Names after the failed one should have been looked up.");
+      assertFalse(result.getObjects().containsKey("error"), "Failed name should not have been reported as looked up.");
+      assertTrue(result.getErrors().get("error").getRootCause() instanceof AssertionError, "Error should have been the root cause.");
+      assertEquals(contextFactory.getInUseCount(), 0, "Context should have been returned to the pool.");
+    }
+  }
+
+  @Test
+  public void lookupAll_NoNames_EmptyResult() throws InterruptedException
+  {
+    try(final PooledContextFactory contextFactory = newContextFactory(new InMemoryContext(), 1))
+    {
+      final BatchLookupResult result = new BatchLookup(contextFactory, CALLER_EXECUTOR, 1).lookupAll(Collections.<String>emptyList());
+
+      assertFalse(result.hasErrors(), "There should have been no errors.");
+      assertTrue(result.getObjects().isEmpty(), "There should have been no objects.");
+    }
+  }
+
+  // Private methods
+  private static PooledContextFactory newContextFactory(final InMemoryContext registry, final int maxSize)
+  {
+    return new PooledContextFactory(new Callable<Context>()
+                                    {
+                                      @Override
+                                      public Context call() throws NamingException
+                                      {
+                                        return (Context)registry.lookup(""); // New view of the same namespace.
+                                      }
+                                    },
+                                    new ContextHealthCheck()
+                                    {
+                                      @Override
+                                      public boolean isHealthy(final Context context)
+                                      {
+                                        return true;
+                                      }
+                                    }, maxSize, 1, TimeUnit.MINUTES);
+  }
+
+  // Private members
+  private static final Executor CALLER_EXECUTOR = new Executor()
+                                                  {
+                                                    @Override
+                                                    public void execute(final Runnable command)
+                                                    {
+                                                      command.run();
+                                                    }
+                                                  };
+}
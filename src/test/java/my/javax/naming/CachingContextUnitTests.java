@@ -0,0 +1,136 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.CompositeName;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+
+import org.testng.annotations.Test;
+
+public class CachingContextUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@context cannot be null.")
+  public void create_NullContext_Throws()
+  {
+    new CachingContext(null, newCache());
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@cache cannot be null.")
+  public void create_NullCache_Throws()
+  {
+    new CachingContext(new MapContext(), null);
+  }
+
+  @Test
+  public void lookup_RepeatedLookups_AreServedFromCache() throws NamingException
+  {
+    final MapContext     context        = new MapContext();
+    final CachingContext cachingContext = new CachingContext(context, newCache());
+    context.bind("jdbc/db", "DataSource");
+
+    assertEquals(cachingContext.lookup("jdbc/db"), "DataSource");
+    assertEquals(cachingContext.lookup("jdbc/db"), "DataSource");
+    assertEquals(cachingContext.lookup(new CompositeName("jdbc/db")), "DataSource");
+
+    assertEquals(context.getLookupCount(), 1);
+  }
+
+  @Test
+  public void lookup_CacheSharedByContexts_LookupIsServedFromCache() throws NamingException
+  {
+    final NamingLookupCache cache   = newCache();
+    final MapContext        context = new MapContext();
+    context.bind("jdbc/db", "DataSource");
+
+    try(final AutoCloseableContext<CachingContext> first = new AutoCloseableContext<>(new CachingContext(context, cache)))
+    {
+      first.get().lookup("jdbc/db");
+    }
+
+    assertTrue(context.isClosed(), "Context should have been closed.");
+
+    try(final AutoCloseableContext<CachingContext> second = new AutoCloseableContext<>(new CachingContext(new MapContext(), cache)))
+    {
+      assertEquals(second.get().lookup("jdbc/db"), "DataSource");
+    }
+
+    assertEquals(context.getLookupCount(), 1);
+  }
+
+  @Test
+  public void bind_NameCachedAsNotFound_CachedEntryIsInvalidated() throws NamingException
+  {
+    final MapContext     context        = new MapContext();
+    final CachingContext cachingContext = new CachingContext(context, newCache());
+
+    try
+    {
+      cachingContext.lookup("jdbc/db");
+      fail("Exception should have been thrown.");
+    }
+    catch (NameNotFoundException expected)
+    {
+    }
+
+    cachingContext.bind("jdbc/db", "DataSource");
+
+    assertEquals(cachingContext.lookup("jdbc/db"), "DataSource");
+  }
+
+  @Test
+  public void rebind_CachedEntryIsInvalidated() throws NamingException
+  {
+    final MapContext     context        = new MapContext();
+    final CachingContext cachingContext = new CachingContext(context, newCache());
+    context.bind("jdbc/db", "DataSource");
+
+    cachingContext.lookup("jdbc/db");
+    cachingContext.rebind(new CompositeName("jdbc/db"), "NewDataSource");
+
+    assertEquals(cachingContext.lookup("jdbc/db"), "NewDataSource");
+  }
+
+  @Test (expectedExceptions = NameNotFoundException.class)
+  public void unbind_CachedEntryIsInvalidated() throws NamingException
+  {
+    final MapContext     context        = new MapContext();
+    final CachingContext cachingContext = new CachingContext(context, newCache());
+    context.bind("jdbc/db", "DataSource");
+
+    cachingContext.lookup("jdbc/db");
+    cachingContext.unbind("jdbc/db");
+
+    cachingContext.lookup("jdbc/db");
+  }
+
+  @Test
+  public void rename_BothNamesAreInvalidated() throws NamingException
+  {
+    final MapContext     context        = new MapContext();
+    final CachingContext cachingContext = new CachingContext(context, newCache());
+    context.bind("old", "Value");
+
+    cachingContext.lookup("old");
+    cachingContext.rename("old", "new");
+
+    assertEquals(cachingContext.lookup("new"), "Value");
+
+    try
+    {
+      cachingContext.lookup("old");
+      fail("Exception should have been thrown.");
+    }
+    catch (NameNotFoundException expected)
+    {
+    }
+  }
+
+  // Private methods
+  private static NamingLookupCache newCache()
+  {
+    return new NamingLookupCache(100, 1, 1, TimeUnit.MINUTES);
+  }
+}
@@ -0,0 +1,270 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Binding;
+import javax.naming.CompositeName;
+import javax.naming.Context;
+import javax.naming.ContextNotEmptyException;
+import javax.naming.InvalidNameException;
+import javax.naming.NameAlreadyBoundException;
+import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.NotContextException;
+
+import org.testng.annotations.Test;
+
+public class InMemoryContextUnitTests
+{
+  @Test
+  public void bind_NameIsBoundAndCanBeLookedUp() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    context.bind("a", "A");
+    context.bind(new CompositeName("b"), null);
+
+    assertEquals(context.lookup("a"), "A");
+    assertEquals(context.lookup(new CompositeName("a")), "A");
+    assertNull(context.lookup("b"));
+  }
+
+  @Test (expectedExceptions = NameAlreadyBoundException.class)
+  public void bind_NameAlreadyBound_Throws() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    context.bind("a", "A");
+    context.bind("a", "B");
+  }
+
+  @Test (expectedExceptions = InvalidNameException.class, expectedExceptionsMessageRegExp = "Name cannot be empty.")
+  public void bind_EmptyName_Throws() throws NamingException
+  {
+    new InMemoryContext().bind("", "A");
+  }
+
+  @Test (expectedExceptions = NameNotFoundException.class, expectedExceptionsMessageRegExp = "missing")
+  public void lookup_NameNotBound_Throws() throws NamingException
+  {
+    new InMemoryContext().lookup("missing");
+  }
+
+  @Test
+  public void lookup_EmptyName_ReturnsContextOfSameNamespace() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    ((Context)context.lookup("")).bind("a", "A");
+
+    assertEquals(context.lookup("a"), "A");
+  }
+
+  @Test
+  public void rebind_ValueIsReplaced() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    context.rebind("a", "A");
+    context.rebind("a", "B");
+
+    assertEquals(context.lookup("a"), "B");
+  }
+
+  @Test (expectedExceptions = NameNotFoundException.class)
+  public void unbind_NameIsRemoved() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    context.bind("a", "A");
+    context.unbind("a");
+    context.unbind("a"); // Unbinding a name which is not bound succeeds.
+
+    context.lookup("a");
+  }
+
+  @Test
+  public void createSubcontext_CompoundNamesAreResolvedThroughSubcontexts() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    final Context jdbc = context.createSubcontext("jdbc");
+    jdbc.bind("db", "DataSource");
+    context.createSubcontext("jdbc/pools").bind("main", "Pool");
+
+    assertEquals(context.lookup("jdbc/db"), "DataSource");
+    assertEquals(jdbc.lookup("pools/main"), "Pool");
+    assertEquals(((Context)context.lookup("jdbc/pools")).lookup("main"), "Pool");
+    assertEquals(((Context)context.lookup("jdbc/pools")).getNameInNamespace(), "jdbc/pools");
+  }
+
+  @Test (expectedExceptions = NotContextException.class)
+  public void bind_IntermediateNameIsNotContext_Throws() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    context.bind("a", "A");
+    context.bind("a/b", "B");
+  }
+
+  @Test (expectedExceptions = NameNotFoundException.class)
+  public void bind_IntermediateContextDoesNotExist_Throws() throws NamingException
+  {
+    new InMemoryContext().bind("a/b", "B");
+  }
+
+  @Test
+  public void destroySubcontext_EmptySubcontextIsRemoved() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+    context.createSubcontext("jdbc").bind("db", "DataSource");
+
+    try
+    {
+      context.destroySubcontext("jdbc");
+      fail("Exception should have been thrown.");
+    }
+    catch (ContextNotEmptyException expected)
+    {
+    }
+
+    context.unbind("jdbc/db");
+    context.destroySubcontext("jdbc");
+
+    assertFalse(context.list("").hasMore(), "Context should have been empty.");
+  }
+
+  @Test
+  public void rename_ValueIsMoved() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+    context.createSubcontext("sub");
+    context.bind("a", "A");
+
+    context.rename("a", "sub/b");
+
+    assertEquals(context.lookup("sub/b"), "A");
+
+    try
+    {
+      context.lookup("a");
+      fail("Exception should have been thrown.");
+    }
+    catch (NameNotFoundException expected)
+    {
+    }
+  }
+
+  @Test
+  public void listBindings_EnumeratesSnapshot() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+    context.bind("a", "A");
+    context.createSubcontext("sub");
+
+    final NamingEnumeration<Binding> bindings = context.listBindings("");
+
+    context.bind("c", "C"); // Not seen by the enumeration.
+
+    final Map<String, Object> values = new HashMap<>();
+    while (bindings.hasMore())
+    {
+      final Binding binding = bindings.next();
+      values.put(binding.getName(), binding.getObject());
+    }
+
+    assertEquals(values.size(), 2);
+    assertEquals(values.get("a"), "A");
+    assertTrue(values.get("sub") instanceof Context, "Subcontext should have been listed as context.");
+
+    final NamingEnumeration<NameClassPair> pairs = context.list("");
+    int nPairs = 0;
+    while (pairs.hasMore())
+    {
+      final NameClassPair pair = pairs.next();
+      if ("a".equals(pair.getName()))
+      {
+        assertEquals(pair.getClassName(), String.class.getName());
+      }
+
+      nPairs++;
+    }
+
+    assertEquals(nPairs, 3);
+  }
+
+  @Test
+  public void getNameParser_ParsesCompoundNames() throws NamingException
+  {
+    final InMemoryContext context = new InMemoryContext();
+
+    assertEquals(context.getNameParser("").parse("a/b/c").size(), 3);
+    assertEquals(context.composeName("b", "a"), "a/b");
+  }
+
+  @Test (timeOut = 1000 * 60)
+  public void rebind_ManyThreads_NoUpdateIsLost() throws InterruptedException, NamingException
+  {
+    final InMemoryContext context    = new InMemoryContext();
+    final int             nThreads   = 8;
+    final int             nNames     = 500;
+    final AtomicInteger   nFailures  = new AtomicInteger();
+    final CountDownLatch  startLatch = new CountDownLatch(1);
+
+    final Thread[] threads = new Thread[nThreads];
+    for (int nThread = 0; nThread < nThreads; nThread++)
+    {
+      final int nThreadIndex = nThread;
+      threads[nThread] = new Thread(new Runnable()
+                                    {
+                                      @Override
+                                      public void run()
+                                      {
+                                        try
+                                        {
+                                          startLatch.await();
+
+                                          for (int nName = 0; nName < nNames; nName++)
+                                          {
+                                            final String name = nThreadIndex + "-" + nName;
+
+                                            context.rebind(name, name);
+                                            if ( ! name.equals(context.lookup(name)) )
+                                            {
+                                              nFailures.incrementAndGet();
+                                            }
+                                          }
+                                        }
+                                        catch (InterruptedException | NamingException e)
+                                        {
+                                          nFailures.incrementAndGet();
+                                        }
+                                      }
+                                    });
+      threads[nThread].start();
+    }
+
+    startLatch.countDown();
+    for (final Thread thread : threads)
+    {
+      thread.join();
+    }
+
+    assertEquals(nFailures.get(), 0);
+
+    int nBindings = 0;
+    for (final NamingEnumeration<NameClassPair> pairs = context.list(""); pairs.hasMore(); pairs.next())
+    {
+      nBindings++;
+    }
+
+    assertEquals(nBindings, nThreads * nNames, "No update should have been lost.");
+  }
+}
@@ -0,0 +1,75 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.Hashtable;
+
+import javax.naming.Context;
+import javax.naming.InitialContext;
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class InMemoryInitialContextFactoryUnitTests
+{
+  @AfterMethod
+  public void clearNamespaces()
+  {
+    InMemoryInitialContextFactory.clearNamespace(InMemoryInitialContextFactory.DEFAULT_NAMESPACE);
+    InMemoryInitialContextFactory.clearNamespace("other");
+  }
+
+  @Test
+  public void getInitialContext_ContextsShareTheNamespace() throws NamingException
+  {
+    try(final AutoCloseableContext<InitialContext> context = new AutoCloseableContext<>(new InitialContext(newEnvironment(null))))
+    {
+      context.get().bind("a", "A");
+    }
+
+    try(final AutoCloseableContext<InitialContext> context = new AutoCloseableContext<>(new InitialContext(newEnvironment(null))))
+    {
+      assertEquals(context.get().lookup("a"), "A");
+    }
+  }
+
+  @Test (expectedExceptions = NameNotFoundException.class)
+  public void getInitialContext_DifferentNamespace_BindingsAreNotShared() throws NamingException
+  {
+    new InitialContext(newEnvironment(null)).bind("a", "A");
+
+    new InitialContext(newEnvironment("other")).lookup("a");
+  }
+
+  @Test
+  public void clearNamespace_NewContextsStartEmpty() throws NamingException
+  {
+    new InitialContext(newEnvironment("other")).bind("a", "A");
+
+    InMemoryInitialContextFactory.clearNamespace("other");
+
+    try
+    {
+      new InitialContext(newEnvironment("other")).lookup("a");
+      fail("Exception should have been thrown.");
+    }
+    catch (NameNotFoundException expected)
+    {
+    }
+  }
+
+  // Private methods
+  private static Hashtable<String, Object> newEnvironment(final String namespaceName)
+  {
+    final Hashtable<String, Object> environment = new Hashtable<>();
+    environment.put(Context.INITIAL_CONTEXT_FACTORY, InMemoryInitialContextFactory.class.getName());
+    if (null != namespaceName)
+    {
+      environment.put(InMemoryInitialContextFactory.NAMESPACE, namespaceName);
+    }
+
+    return environment;
+  }
+}
@@ -0,0 +1,226 @@
+package my.javax.naming;
+
+import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Binding;
+import javax.naming.Context;
+import javax.naming.Name;
+import javax.naming.NameAlreadyBoundException;
+import javax.naming.NameClassPair;
+import javax.naming.NameNotFoundException;
+import javax.naming.NameParser;
+import javax.naming.NamingEnumeration;
+import javax.naming.NamingException;
+import javax.naming.OperationNotSupportedException;
+
+/**
+ * In-memory {@link Context} stand-in for the tests. Names are flat strings and the lookups are counted.
+ */
+class MapContext implements Context
+{
+  public int getLookupCount()
+  {
+    return this.nLookups.get();
+  }
+
+  public boolean isClosed()
+  {
+    return this.closed;
+  }
+
+  @Override
+  public Object lookup(final Name name) throws NamingException
+  {
+    return lookup(name.toString());
+  }
+
+  @Override
+  public Object lookup(final String name) throws NamingException
+  {
+    this.nLookups.incrementAndGet();
+
+    final Object value = this.bindings.get(name);
+    if (null == value)
+    {
+      throw new NameNotFoundException(name);
+    }
+
+    return value;
+  }
+
+  @Override
+  public void bind(final Name name, final Object obj) throws NamingException
+  {
+    bind(name.toString(), obj);
+  }
+
+  @Override
+  public void bind(final String name, final Object obj) throws NamingException
+  {
+    if (null != this.bindings.putIfAbsent(name, obj))
+    {
+      throw new NameAlreadyBoundException(name);
+    }
+  }
+
+  @Override
+  public void rebind(final Name name, final Object obj) throws NamingException
+  {
+    rebind(name.toString(), obj);
+  }
+
+  @Override
+  public void rebind(final String name, final Object obj) throws NamingException
+  {
+    this.bindings.put(name, obj);
+  }
+
+  @Override
+  public void unbind(final Name name) throws NamingException
+  {
+    unbind(name.toString());
+  }
+
+  @Override
+  public void unbind(final String name) throws NamingException
+  {
+    this.bindings.remove(name);
+  }
+
+  @Override
+  public void rename(final Name oldName, final Name newName) throws NamingException
+  {
+    rename(oldName.toString(), newName.toString());
+  }
+
+  @Override
+  public void rename(final String oldName, final String newName) throws NamingException
+  {
+    final Object value = lookup(oldName);
+
+    bind(newName, value);
+    unbind(oldName);
+  }
+
+  @Override
+  public NamingEnumeration<NameClassPair> list(final Name name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public NamingEnumeration<NameClassPair> list(final String name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public NamingEnumeration<Binding> listBindings(final Name name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public NamingEnumeration<Binding> listBindings(final String name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public void destroySubcontext(final Name name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public void destroySubcontext(final String name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public Context createSubcontext(final Name name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public Context createSubcontext(final String name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public Object lookupLink(final Name name) throws NamingException
+  {
+    return lookup(name);
+  }
+
+  @Override
+  public Object lookupLink(final String name) throws NamingException
+  {
+    return lookup(name);
+  }
+
+  @Override
+  public NameParser getNameParser(final Name name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public NameParser getNameParser(final String name) throws NamingException
+  {
+    throw new OperationNotSupportedException();
+  }
+
+  @Override
+  public Name composeName(final Name name, final Name prefix) throws NamingException
+  {
+    return ((Name)prefix.clone()).addAll(name);
+  }
+
+  @Override
+  public String composeName(final String name, final String prefix) throws NamingException
+  {
+    return prefix.isEmpty() ? name : prefix + "/" + name;
+  }
+
+  @Override
+  public Object addToEnvironment(final String propName, final Object propVal) throws NamingException
+  {
+    return this.environment.put(propName, propVal);
+  }
+
+  @Override
+  public Object removeFromEnvironment(final String propName) throws NamingException
+  {
+    return this.environment.remove(propName);
+  }
+
+  @Override
+  public Hashtable<?, ?> getEnvironment() throws NamingException
+  {
+    return new Hashtable<>(this.environment);
+  }
+
+  @Override
+  public String getNameInNamespace() throws NamingException
+  {
+    return "";
+  }
+
+  @Override
+  public void close() throws NamingException
+  {
+    this.closed = true;
+  }
+
+  // Private members
+  private final ConcurrentHashMap<String, Object> bindings    = new ConcurrentHashMap<>();
+  private final Hashtable<String, Object>         environment = new Hashtable<>();
+  private final AtomicInteger                     nLookups    = new AtomicInteger();
+  private volatile boolean                        closed;
+}
@@ -0,0 +1,183 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.NameNotFoundException;
+import javax.naming.NamingException;
+
+import org.testng.annotations.Test;
+
+public class NamingLookupCacheUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@maxSize should be greater than zero.")
+  public void create_ZeroMaxSize_Throws()
+  {
+    new NamingLookupCache(0, 1, 1, TimeUnit.MINUTES);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@timeToLive should be greater than zero.")
+  public void create_ZeroTimeToLive_Throws()
+  {
+    new NamingLookupCache(1, 0, 1, TimeUnit.MINUTES);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@negativeTimeToLive cannot be negative.")
+  public void create_NegativeNegativeTimeToLive_Throws()
+  {
+    new NamingLookupCache(1, 1, -1, TimeUnit.MINUTES);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@nameLookup cannot be null.")
+  public void lookup_NullNameLookup_Throws() throws NamingException
+  {
+    new NamingLookupCache(1, 1, 1, TimeUnit.MINUTES).lookup("name", null);
+  }
+
+  @Test
+  public void lookup_CachedName_IsNotLookedUpAgain() throws NamingException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(10, 1, 1, TimeUnit.MINUTES);
+
+    assertEquals(cache.lookup("a", lookupOf(context)), "A");
+    assertEquals(cache.lookup("a", lookupOf(context)), "A");
+
+    assertEquals(context.getLookupCount(), 1);
+    assertEquals(cache.size(), 1);
+  }
+
+  @Test
+  public void lookup_EntryExpired_NameIsLookedUpAgain() throws NamingException, InterruptedException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(10, 1, 1, TimeUnit.MILLISECONDS);
+
+    cache.lookup("a", lookupOf(context));
+    Thread.sleep(5);
+    cache.lookup("a", lookupOf(context));
+
+    assertEquals(context.getLookupCount(), 2);
+  }
+
+  @Test
+  public void lookup_NameNotFound_NotFoundIsCached() throws NamingException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(10, 1, 1, TimeUnit.MINUTES);
+
+    for (int nAttempt = 0; nAttempt < 2; nAttempt++)
+    {
+      try
+      {
+        cache.lookup("missing", lookupOf(context));
+        fail("Exception should have been thrown.");
+      }
+      catch (NameNotFoundException e)
+      {
+        assertEquals(e.getExplanation(), "missing");
+      }
+    }
+
+    assertEquals(context.getLookupCount(), 1);
+  }
+
+  @Test
+  public void lookup_NegativeCachingDisabled_NotFoundIsNotCached() throws NamingException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(10, 1, 0, TimeUnit.MINUTES);
+
+    for (int nAttempt = 0; nAttempt < 2; nAttempt++)
+    {
+      try
+      {
+        cache.lookup("missing", lookupOf(context));
+        fail("Exception should have been thrown.");
+      }
+      catch (NameNotFoundException expected)
+      {
+      }
+    }
+
+    assertEquals(context.getLookupCount(), 2);
+    assertEquals(cache.size(), 0);
+  }
+
+  @Test
+  public void lookup_CacheFull_SizeStaysBounded() throws NamingException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(4, 1, 1, TimeUnit.MINUTES);
+
+    for (int nName = 0; nName < 100; nName++)
+    {
+      context.rebind("name" + nName, nName);
+
+      assertEquals(cache.lookup("name" + nName, lookupOf(context)), nName);
+      assertTrue(cache.size() <= 4, "Cache should not have grown beyond the maximum size.");
+    }
+  }
+
+  @Test
+  public void lookup_CacheFull_EntriesAreEvictedInBatch() throws NamingException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(100, 1, 1, TimeUnit.MINUTES);
+
+    for (int nName = 0; nName < 100; nName++)
+    {
+      context.rebind("name" + nName, nName);
+      cache.lookup("name" + nName, lookupOf(context));
+    }
+
+    assertEquals(cache.size(), 100);
+
+    cache.lookup("a", lookupOf(context));
+
+    assertEquals(cache.size(), 91, "Cache should have been evicted down to 90% of the maximum size before adding the name.");
+  }
+
+  @Test
+  public void invalidate_NameAndNamesUnderItAreRemoved() throws NamingException
+  {
+    final MapContext        context = newContext();
+    final NamingLookupCache cache   = new NamingLookupCache(10, 1, 1, TimeUnit.MINUTES);
+    context.rebind("a/b", "AB");
+    context.rebind("ab", "AB");
+
+    cache.lookup("a", lookupOf(context));
+    cache.lookup("a/b", lookupOf(context));
+    cache.lookup("ab", lookupOf(context));
+
+    cache.invalidate("a");
+
+    assertEquals(cache.size(), 1, "Only the unrelated name should have been kept.");
+
+    cache.invalidateAll();
+
+    assertEquals(cache.size(), 0);
+  }
+
+  // Private methods
+  private static MapContext newContext() throws NamingException
+  {
+    final MapContext context = new MapContext();
+    context.bind("a", "A");
+
+    return context;
+  }
+
+  private static NameLookup lookupOf(final MapContext context)
+  {
+    return new NameLookup()
+           {
+             @Override
+             public Object lookup(final String name) throws NamingException
+             {
+               return context.lookup(name);
+             }
+           };
+  }
+}
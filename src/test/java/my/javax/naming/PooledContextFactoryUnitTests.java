@@ -0,0 +1,175 @@
+package my.javax.naming;
+
+import static org.testng.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+import javax.naming.NamingException;
+
+import org.testng.annotations.Test;
+
+public class PooledContextFactoryUnitTests
+{
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@contextFactory cannot be null.")
+  public void create_NullContextFactory_Throws()
+  {
+    new PooledContextFactory(null, new HealthCheck(), 1, 1, TimeUnit.MINUTES);
+  }
+
+  @Test (expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "@idleTimeout should be greater than zero.")
+  public void create_ZeroIdleTimeout_Throws()
+  {
+    new PooledContextFactory(new ContextFactory(), new HealthCheck(), 1, 0, TimeUnit.MINUTES);
+  }
+
+  @Test
+  public void getContext_ContextIsReturnedToPoolAndReused() throws NamingException
+  {
+    final ContextFactory contextFactory = new ContextFactory();
+
+    try(final PooledContextFactory factory = new PooledContextFactory(contextFactory, new HealthCheck(), 2, 1, TimeUnit.MINUTES))
+    {
+      final Context context;
+      try(final AutoCloseableContext<Context> pooledContext = factory.getContext())
+      {
+        context = pooledContext.get();
+
+        assertEquals(factory.getInUseCount(), 1);
+      }
+
+      assertEquals(factory.getInUseCount(), 0);
+      assertFalse(((MapContext)context).isClosed(), "Context should have been returned to the pool instead of closed.");
+
+      try(final AutoCloseableContext<Context> pooledContext = factory.getContext())
+      {
+        assertSame(pooledContext.get(), context, "Context should have been reused.");
+      }
+
+      assertEquals(contextFactory.contexts.size(), 1);
+    }
+
+    assertTrue(contextFactory.contexts.get(0).isClosed(), "Context should have been closed with the factory.");
+  }
+
+  @Test
+  public void getContext_ContextIdleForLongerThanTimeout_ContextIsReplaced() throws NamingException, InterruptedException
+  {
+    final ContextFactory contextFactory = new ContextFactory();
+
+    try(final PooledContextFactory factory = new PooledContextFactory(contextFactory, new HealthCheck(), 1, 1, TimeUnit.MILLISECONDS))
+    {
+      try(final AutoCloseableContext<Context> pooledContext = factory.getContext())
+      {
+        pooledContext.get().lookup("a");
+      }
+
+      Thread.sleep(5);
+
+      try(final AutoCloseableContext<Context> pooledContext = factory.getContext())
+      {
+        assertNotSame(pooledContext.get(), contextFactory.contexts.get(0));
+      }
+
+      assertTrue(contextFactory.contexts.get(0).isClosed(), "Stale context should have been closed.");
+      assertEquals(contextFactory.contexts.size(), 2);
+    }
+  }
+
+  @Test
+  public void getContext_ContextFailsHealthCheck_ContextIsReplaced() throws NamingException
+  {
+    final ContextFactory contextFactory = new ContextFactory();
+    final HealthCheck    healthCheck    = new HealthCheck();
+
+    try(final PooledContextFactory factory = new PooledContextFactory(contextFactory, healthCheck, 1, 1, TimeUnit.MINUTES))
+    {
+      factory.getContext().close();
+
+      healthCheck.healthy = false;
+
+      try(final AutoCloseableContext<Context> pooledContext = factory.getContext())
+      {
+        assertSame(pooledContext.get(), contextFactory.contexts.get(1));
+      }
+
+      assertTrue(contextFactory.contexts.get(0).isClosed(), "Unhealthy context should have been closed.");
+    }
+  }
+
+  @Test
+  public void getContext_AllContextsInUse_TimesOut() throws NamingException, InterruptedException
+  {
+    try(final PooledContextFactory factory = new PooledContextFactory(new ContextFactory(), new HealthCheck(), 1, 1, TimeUnit.MINUTES))
+    {
+      try(final AutoCloseableContext<Context> pooledContext = factory.getContext())
+      {
+        assertNull(factory.getContext(10, TimeUnit.MILLISECONDS), "No context should have been available.");
+      }
+
+      assertNotNull(factory.getContext(10, TimeUnit.MILLISECONDS));
+    }
+  }
+
+  @Test
+  public void getContext_ContextFactoryThrows_SlotIsReturned() throws NamingException
+  {
+    final ContextFactory contextFactory = new ContextFactory();
+    contextFactory.fail = true;
+
+    try(final PooledContextFactory factory = new PooledContextFactory(contextFactory, new HealthCheck(), 1, 1, TimeUnit.MINUTES))
+    {
+      try
+      {
+        factory.getContext();
+        fail("Exception should have been thrown.");
+      }
+      catch (NamingException e)
+      {
+        assertEquals(e.getExplanation(), "Failed to create the context.");
+        assertEquals(e.getRootCause().getMessage(), "Factory failed.");
+      }
+
+      assertEquals(factory.getInUseCount(), 0);
+    }
+  }
+
+  // Private classes
+  private static class ContextFactory implements Callable<MapContext>
+  {
+    @Override
+    public MapContext call() throws Exception
+    {
+      if (this.fail)
+      {
+        throw new Exception("Factory failed.");
+      }
+
+      final MapContext context = new MapContext();
+      context.bind("a", "A");
+
+      this.contexts.add(context);
+
+      return context;
+    }
+
+    // Private members
+    private final List<MapContext> contexts = new CopyOnWriteArrayList<>();
+    private volatile boolean       fail;
+  }
+
+  private static class HealthCheck implements ContextHealthCheck
+  {
+    @Override
+    public boolean isHealthy(final Context context)
+    {
+      return this.healthy;
+    }
+
+    // Private members
+    private volatile boolean healthy = true;
+  }
+}
@@ -0,0 +1,155 @@
+/********************************************************************
+ * File Name:    NamedLockMutualExclusionStressTests.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import static org.openjdk.jcstress.annotations.Expect.*;
+
+import my.java.util.concurrent.locks.NamedLockManager.NamedCriticalSectionLock;
+import my.java.util.concurrent.locks.NamedLockManager.NamedReadWriteLock.NamedWriteLock;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * Stress tests of mutual exclusion of {@link NamedLockManager} while the named lock is removed from the registry and created again.
+ * <p>
+ * Each actor increments a plain counter twice, each time under a freshly acquired lock of the same name. Between the increments the
+ * lock is released, so the registry entry is removed whenever the other actor does not hold a reference and is created again on the
+ * next acquire. A lost update means that the actors held two different locks for the same name at the same time.
+ */
+public class NamedLockMutualExclusionStressTests
+{
+  @JCStressTest
+  @Outcome(id = "4", expect = ACCEPTABLE, desc = "All the increments were done under the same lock.")
+  @Outcome(expect = FORBIDDEN, desc = "Increment lost, the actors held different locks for the same name.")
+  @State
+  public static class CriticalSectionLock
+  {
+    @Actor
+    public void actor1()
+    {
+      increment();
+      increment();
+    }
+
+    @Actor
+    public void actor2()
+    {
+      increment();
+      increment();
+    }
+
+    @Arbiter
+    public void arbiter(final I_Result result)
+    {
+      result.r1 = this.counter;
+    }
+
+    // Private methods
+    private void increment()
+    {
+      try(final NamedCriticalSectionLock namedLock = this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME))
+      {
+        this.counter++;
+      }
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+    private int                    counter;
+  }
+
+  @JCStressTest
+  @Outcome(id = "4", expect = ACCEPTABLE, desc = "All the increments were done under the same lock.")
+  @Outcome(expect = FORBIDDEN, desc = "Increment lost, the actors held different locks for the same name.")
+  @State
+  public static class WriteLock
+  {
+    @Actor
+    public void actor1()
+    {
+      increment();
+      increment();
+    }
+
+    @Actor
+    public void actor2()
+    {
+      increment();
+      increment();
+    }
+
+    @Arbiter
+    public void arbiter(final I_Result result)
+    {
+      result.r1 = this.counter;
+    }
+
+    // Private methods
+    private void increment()
+    {
+      try(final NamedWriteLock namedLock = this.namedLockManager.acquireWriteLock(LOCK_NAME))
+      {
+        this.counter++;
+      }
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+    private int                    counter;
+  }
+
+  @JCStressTest
+  @Outcome(id = "4", expect = ACCEPTABLE, desc = "All the increments were done under the same lock.")
+  @Outcome(expect = FORBIDDEN, desc = "Increment lost, the name in different case got a different lock.")
+  @State
+  public static class CriticalSectionLockNameInDifferentCase
+  {
+    @Actor
+    public void actor1()
+    {
+      increment(LOCK_NAME);
+      increment(LOCK_NAME);
+    }
+
+    @Actor
+    public void actor2()
+    {
+      increment(LOCK_NAME.toUpperCase());
+      increment(LOCK_NAME.toUpperCase());
+    }
+
+    @Arbiter
+    public void arbiter(final I_Result result)
+    {
+      result.r1 = this.counter;
+    }
+
+    // Private methods
+    private void increment(final String lockName)
+    {
+      try(final NamedCriticalSectionLock namedLock = this.namedLockManager.acquireCriticalSectionLock(lockName))
+      {
+        this.counter++;
+      }
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+    private int                    counter;
+  }
+
+  // Private members
+  private static final String LOCK_NAME = "stressLock";
+}
@@ -0,0 +1,204 @@
+/********************************************************************
+ * File Name:    NamedLockReferenceCountStressTests.java
+ *
+ * Date Created: Oct 19, 2026
+ *
+ * @author:      JustTechie (justtechie@gmail.com)
+ *
+ *******************************************************************/
+
+package my.java.util.concurrent.locks;
+
+import static org.openjdk.jcstress.annotations.Expect.*;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import my.java.util.concurrent.locks.NamedLockManager.NamedCriticalSectionLock;
+import my.java.util.concurrent.locks.NamedLockManager.NamedLock;
+
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+/**
+ * Stress tests of the reference counting of {@link NamedLockManager} i.e. of <code>incrementReference</code> racing with
+ * <code>decrementReference</code> removing the registry entry when the count drops to zero. The registry i.e. the private
+ * <code>acquiredLocks</code> map is read reflectively, under the <code>syncObject</code> monitor which guards it.
+ */
+public class NamedLockReferenceCountStressTests
+{
+  /**
+   * Both actors acquire and close the same name. Whatever the interleaving, the registry must be empty at the end, otherwise a
+   * reference was lost (entry leaked) or released twice.
+   */
+  @JCStressTest
+  @Outcome(id = "0", expect = ACCEPTABLE, desc = "Registry entry was removed by the last close.")
+  @Outcome(expect = FORBIDDEN, desc = "Registry entry leaked.")
+  @State
+  public static class AcquireClose
+  {
+    @Actor
+    public void actor1()
+    {
+      this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME).close();
+    }
+
+    @Actor
+    public void actor2()
+    {
+      this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME).close();
+    }
+
+    @Arbiter
+    public void arbiter(final I_Result result)
+    {
+      result.r1 = getRegisteredLockCount(this.namedLockManager);
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+  }
+
+  /**
+   * Reference count ABA: actor 1 takes the count from 1 to 0 and back to 1 by closing and acquiring again, which removes the entry
+   * and creates a new lock, while actor 2 acquires concurrently. A lock held by an actor must be the one registered for the name,
+   * otherwise a third thread would get a different lock for the same name. The first two results are whether the lock each actor held
+   * was registered (1) or stale (0), the last one is the number of registry entries left.
+   */
+  @JCStressTest
+  @Outcome(id = "1, 1, 0", expect = ACCEPTABLE, desc = "Held locks were registered and the registry is empty.")
+  @Outcome(expect = FORBIDDEN, desc = "A stale lock was held, or the registry entry leaked.")
+  @State
+  public static class StaleLock
+  {
+    @Actor
+    public void actor1(final III_Result result)
+    {
+      this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME).close();
+
+      result.r1 = acquireAndCheck();
+    }
+
+    @Actor
+    public void actor2(final III_Result result)
+    {
+      result.r2 = acquireAndCheck();
+    }
+
+    @Arbiter
+    public void arbiter(final III_Result result)
+    {
+      result.r3 = getRegisteredLockCount(this.namedLockManager);
+    }
+
+    // Private methods
+    private int acquireAndCheck()
+    {
+      try(final NamedCriticalSectionLock namedLock = this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME))
+      {
+        return namedLock == getRegisteredLock(this.namedLockManager, LOCK_FULL_NAME) ? 1 : 0;
+      }
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+  }
+
+  /**
+   * Same as {@link AcquireClose} but actor 2 holds the lock under two names differing in case. The alias shares the reference of the
+   * first hold, so closing both must release exactly one reference.
+   */
+  @JCStressTest
+  @Outcome(id = "0", expect = ACCEPTABLE, desc = "Registry entry was removed by the last close.")
+  @Outcome(expect = FORBIDDEN, desc = "Registry entry leaked.")
+  @State
+  public static class AliasedAcquireClose
+  {
+    @Actor
+    public void actor1()
+    {
+      this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME).close();
+    }
+
+    @Actor
+    public void actor2()
+    {
+      try(final NamedCriticalSectionLock namedLock = this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME);
+          final NamedCriticalSectionLock aliasedLock = this.namedLockManager.acquireCriticalSectionLock(LOCK_NAME.toUpperCase()))
+      {
+        // Nothing to do, only the reference counting is tested.
+      }
+    }
+
+    @Arbiter
+    public void arbiter(final I_Result result)
+    {
+      result.r1 = getRegisteredLockCount(this.namedLockManager);
+    }
+
+    // Private members
+    private final NamedLockManager namedLockManager = new NamedLockManager();
+  }
+
+  // Private methods
+  private static int getRegisteredLockCount(final NamedLockManager namedLockManager)
+  {
+    synchronized (getFieldValue(namedLockManager, SYNC_OBJECT_FIELD))
+    {
+      return getAcquiredLocks(namedLockManager).size();
+    }
+  }
+
+  private static NamedLock getRegisteredLock(final NamedLockManager namedLockManager, final String fullName)
+  {
+    synchronized (getFieldValue(namedLockManager, SYNC_OBJECT_FIELD))
+    {
+      return getAcquiredLocks(namedLockManager).get(fullName);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, NamedLock> getAcquiredLocks(final NamedLockManager namedLockManager)
+  {
+    return (Map<String, NamedLock>)getFieldValue(namedLockManager, ACQUIRED_LOCKS_FIELD);
+  }
+
+  private static Object getFieldValue(final NamedLockManager namedLockManager, final Field field)
+  {
+    try
+    {
+      return field.get(namedLockManager);
+    }
+    catch (IllegalAccessException e)
+    {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Field getAccessibleField(final String fieldName)
+  {
+    try
+    {
+      final Field field = NamedLockManager.class.getDeclaredField(fieldName);
+      field.setAccessible(true);
+
+      return field;
+    }
+    catch (NoSuchFieldException e)
+    {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // Private members
+  private static final String LOCK_NAME      = "stressLock";
+  private static final String LOCK_FULL_NAME = "stresslock_criticalSection_lock"; // Registry key of the critical section lock named LOCK_NAME.
+
+  private static final Field SYNC_OBJECT_FIELD    = getAccessibleField("syncObject");
+  private static final Field ACQUIRED_LOCKS_FIELD = getAccessibleField("acquiredLocks");
+}